@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Author;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insert throughput through the JDBC batching support ({@code BatchingBatch}),
+ * reported per inserted row.  A batch size of 1 disables batching and serves as
+ * the baseline.  The session is flushed and cleared every {@link #FLUSH_INTERVAL}
+ * rows whatever the batch size, so that only {@code hibernate.jdbc.batch_size}
+ * varies between the runs.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class BatchInsertBenchmark {
+	private static final int ROWS_PER_INVOCATION = 500;
+	private static final int FLUSH_INTERVAL = 100;
+
+	@Param( { "1", "20", "100" } )
+	public int batchSize;
+
+	private SessionFactoryImplementor sessionFactory;
+	private long nextId;
+
+	@Setup( Level.Trial )
+	public void setUpSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Collections.singletonMap( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ) )
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@TearDown( Level.Iteration )
+	public void deleteInserted() {
+		sessionFactory.inTransaction( session -> session.createQuery( "delete Author" ).executeUpdate() );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation( ROWS_PER_INVOCATION )
+	public void insert() {
+		sessionFactory.inTransaction(
+				session -> {
+					for ( int i = 0; i < ROWS_PER_INVOCATION; i++ ) {
+						final Author author = BenchmarkSupport.createAuthor( ++nextId );
+						session.persist( author );
+						if ( ( i + 1 ) % FLUSH_INTERVAL == 0 ) {
+							session.flush();
+							session.clear();
+						}
+					}
+				}
+		);
+	}
+}
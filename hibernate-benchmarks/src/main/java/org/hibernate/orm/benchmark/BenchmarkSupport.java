@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Author;
+import org.hibernate.orm.benchmark.domain.Book;
+
+/**
+ * Builds the SessionFactory and the data the benchmarks run against: an in-memory
+ * H2 database with the {@link Author} / {@link Book} model
+ */
+public final class BenchmarkSupport {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSupport() {
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory() {
+		return buildSessionFactory( Collections.emptyMap() );
+	}
+
+	/**
+	 * Build a SessionFactory using its own (empty) in-memory database
+	 *
+	 * @param settings Additional settings, overriding the defaults
+	 */
+	public static SessionFactoryImplementor buildSessionFactory(Map<String, Object> settings) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting(
+						AvailableSettings.URL,
+						"jdbc:h2:mem:benchmark" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "false" )
+				.applySettings( settings )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Insert {@code authorCount} authors with {@code booksPerAuthor} books each.  The
+	 * ids of the authors are 1 to {@code authorCount}, those of the books 1 to
+	 * {@code authorCount * booksPerAuthor}.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int authorCount, int booksPerAuthor) {
+		sessionFactory.inTransaction(
+				session -> {
+					long bookId = 0;
+					for ( long authorId = 1; authorId <= authorCount; authorId++ ) {
+						final Author author = createAuthor( authorId );
+						session.persist( author );
+						for ( int i = 0; i < booksPerAuthor; i++ ) {
+							session.persist( createBook( ++bookId, author ) );
+						}
+						if ( authorId % 50 == 0 ) {
+							session.flush();
+							session.clear();
+						}
+					}
+				}
+		);
+	}
+
+	public static Author createAuthor(long id) {
+		return new Author( id, "Author " + id, "author" + id + "@example.org", 1900 + (int) ( id % 100 ) );
+	}
+
+	public static Book createBook(long id, Author author) {
+		return new Book(
+				id,
+				"Title " + id,
+				"978-" + id,
+				BigDecimal.valueOf( 1000 + id % 5000, 2 ),
+				LocalDate.of( 2000, 1, 1 ).plusDays( id % 7000 ),
+				100 + (int) ( id % 900 ),
+				author
+		);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flush-time dirty checking, i.e. {@code DefaultFlushEntityEventListener}, for a
+ * Session holding {@link #entities} managed entities.
+ * <p>
+ * The Session and its transaction stay open for the whole iteration; the
+ * transaction is rolled back at the end of each iteration.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class DirtyCheckingBenchmark {
+	@Param( { "100", "1000", "10000" } )
+	public int entities;
+
+	/**
+	 * The number of entities modified before each flush
+	 */
+	@Param( { "10" } )
+	public int modified;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Book> books;
+	private int round;
+
+	@Setup( Level.Trial )
+	public void setUpSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, entities / 10, 10 );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Iteration )
+	public void setUpSession() {
+		session = sessionFactory.openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		session.beginTransaction();
+		books = session.createQuery( "select b from Book b", Book.class ).list();
+	}
+
+	@TearDown( Level.Iteration )
+	public void tearDownSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	/**
+	 * Dirty checking only - none of the entities is dirty, so no SQL is executed
+	 */
+	@Benchmark
+	public void flushUnmodified() {
+		session.flush();
+	}
+
+	/**
+	 * Dirty checking of all entities plus the updates of {@link #modified} of them
+	 */
+	@Benchmark
+	public void flushModified() {
+		final int size = books.size();
+		for ( int i = 0; i < modified; i++ ) {
+			final Book book = books.get( ( round * modified + i ) % size );
+			book.setPages( book.getPages() + 1 );
+		}
+		round++;
+		session.flush();
+	}
+}
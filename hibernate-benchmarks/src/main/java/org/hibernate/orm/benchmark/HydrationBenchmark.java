@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hydration of query results, i.e. {@code StandardRowReader#readRow} and the
+ * initializers it drives.  The query plan is cached after the first invocation,
+ * so the time is dominated by reading the rows and building the entities.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class HydrationBenchmark {
+	@Param( { "100", "1000" } )
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		// 10 books per author
+		BenchmarkSupport.populate( sessionFactory, rows / 10, 10 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select b from Book b", Book.class ).list();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entitiesWithFetchedAssociation() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select b from Book b join fetch b.author", Book.class ).list();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery(
+					"select b.id, b.title, b.isbn, b.price, b.published, b.pages from Book b",
+					Object[].class
+			).list();
+		}
+	}
+}
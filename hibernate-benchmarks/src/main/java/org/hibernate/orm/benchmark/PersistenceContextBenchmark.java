@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.domain.Book;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups against a {@code StatefulPersistenceContext} holding {@link #entities}
+ * managed entities - by EntityKey (as done by loading and by association
+ * resolution) and by instance (as done by flushing and cascading).
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class PersistenceContextBenchmark {
+	@Param( { "100", "10000" } )
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+
+	private EntityKey[] keys;
+	private Book[] instances;
+	private int position;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, entities / 10, 10 );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		persistenceContext = session.getPersistenceContextInternal();
+
+		final List<Book> books = session.createQuery( "select b from Book b", Book.class ).list();
+		final EntityPersister persister = session.getEntityPersister( Book.class.getName(), books.get( 0 ) );
+		keys = new EntityKey[books.size()];
+		instances = new Book[books.size()];
+		for ( int i = 0; i < books.size(); i++ ) {
+			instances[i] = books.get( i );
+			// a new key for each entry, as the lookups done by Hibernate use keys built for the lookup
+			keys[i] = session.generateEntityKey( instances[i].getId(), persister );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object getEntityByKey() {
+		return persistenceContext.getEntity( keys[nextPosition()] );
+	}
+
+	@Benchmark
+	public EntityEntry getEntryByInstance() {
+		return persistenceContext.getEntry( instances[nextPosition()] );
+	}
+
+	@Benchmark
+	public boolean containsEntityKey() {
+		return persistenceContext.containsEntity( keys[nextPosition()] );
+	}
+
+	private int nextPosition() {
+		if ( ++position == keys.length ) {
+			position = 0;
+		}
+		return position;
+	}
+}
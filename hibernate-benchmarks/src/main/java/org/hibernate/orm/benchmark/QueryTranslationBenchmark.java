@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The query translation pipeline, bypassing the query plan cache: HQL to SQM,
+ * SQM to SQL AST ({@code BaseSqmToSqlAstConverter}) and SQL AST to SQL
+ * ({@code AbstractSqlAstTranslator}).
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class QueryTranslationBenchmark {
+	/**
+	 * The values bound to the named parameters of the queries
+	 */
+	private static final Map<String, Object> PARAMETER_VALUES = Map.of(
+			"title", "Title 1",
+			"name", "Author 1%"
+	);
+
+	@Param( {
+			"select b from Book b where b.title = :title",
+			"select b from Book b join fetch b.author a where a.name like :name order by b.published desc",
+			"select a.name, count(b), max(b.price) from Book b join b.author a group by a.name having count(b) > 1"
+	} )
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SqmSelectStatement<?> sqmStatement;
+	private DomainParameterXref domainParameterXref;
+	private QueryParameterBindingsImpl parameterBindings;
+	private SelectStatement sqlAst;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		sqmStatement = interpretHql();
+		domainParameterXref = DomainParameterXref.from( sqmStatement );
+		parameterBindings = bindParameters();
+		sqlAst = convertToSqlAst();
+	}
+
+	private QueryParameterBindingsImpl bindParameters() {
+		final QueryParameterBindingsImpl bindings = QueryParameterBindingsImpl.from(
+				new ParameterMetadataImpl( domainParameterXref.getQueryParameters() ),
+				sessionFactory
+		);
+		for ( QueryParameterImplementor<?> parameter : domainParameterXref.getQueryParameters().keySet() ) {
+			final Object value = PARAMETER_VALUES.get( parameter.getName() );
+			if ( value == null ) {
+				throw new IllegalStateException( "No value for the query parameter " + parameter.getName() );
+			}
+			//noinspection unchecked
+			( (QueryParameterBinding<Object>) bindings.getBinding( parameter ) ).setBindValue( value );
+		}
+		return bindings;
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmSelectStatement<?> interpretHql() {
+		return (SqmSelectStatement<?>) sessionFactory.getQueryEngine().getHqlTranslator().translate( hql );
+	}
+
+	@Benchmark
+	public SelectStatement convertToSqlAst() {
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		return queryEngine.getSqmTranslatorFactory().createSelectTranslator(
+				sqmStatement,
+				QueryOptions.NONE,
+				domainParameterXref,
+				parameterBindings,
+				new LoadQueryInfluencers( sessionFactory ),
+				sessionFactory,
+				true
+		).translate().getSqlAst();
+	}
+
+	@Benchmark
+	public JdbcSelect renderSql() {
+		return sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+}
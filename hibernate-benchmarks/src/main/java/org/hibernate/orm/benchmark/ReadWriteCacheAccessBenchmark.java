@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.domain.Book;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Concurrent access to a read-write entity region ({@code AbstractReadWriteAccess}):
+ * reads of cached entries, and the lock / unlock sequence done when updating an
+ * entity.  Every operation uses a random key out of {@code keys}.
+ * <p>
+ * Run with an increasing number of threads to see how throughput scales with the
+ * number of cores, e.g.
+ *
+ * <pre>
+ *     ./gradlew :hibernate-benchmarks:jmh -Pjmh.args="ReadWriteCacheAccessBenchmark -t 1"
+ *     ./gradlew :hibernate-benchmarks:jmh -Pjmh.args="ReadWriteCacheAccessBenchmark -t max"
+ * </pre>
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 2 )
+public class ReadWriteCacheAccessBenchmark {
+
+	@State( Scope.Benchmark )
+	public static class Region {
+		@Param( { "1000" } )
+		public int keys;
+
+		private SessionFactoryImplementor sessionFactory;
+		private EntityDataAccess access;
+		private Object[] cacheKeys;
+
+		@Setup
+		public void setUp() {
+			final Map<String, Object> settings = new HashMap<>();
+			settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+			settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
+			settings.put( AvailableSettings.JPA_SHARED_CACHE_MODE, "ALL" );
+			settings.put( AvailableSettings.DEFAULT_CACHE_CONCURRENCY_STRATEGY, "read-write" );
+			sessionFactory = BenchmarkSupport.buildSessionFactory( settings );
+
+			final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( Book.class );
+			access = persister.getCacheAccessStrategy();
+			cacheKeys = new Object[keys];
+			try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+				for ( int i = 0; i < keys; i++ ) {
+					cacheKeys[i] = access.generateCacheKey( (long) i, persister, sessionFactory, null );
+					access.afterInsert( session, cacheKeys[i], "book" + i, null );
+				}
+			}
+		}
+
+		@TearDown
+		public void tearDown() {
+			sessionFactory.close();
+		}
+
+		private Object randomKey() {
+			return cacheKeys[ThreadLocalRandom.current().nextInt( cacheKeys.length )];
+		}
+	}
+
+	@State( Scope.Thread )
+	public static class ThreadSession {
+		private SessionImplementor session;
+
+		@Setup
+		public void setUp(Region region) {
+			// opened after the entries were cached, so that they are readable
+			session = (SessionImplementor) region.sessionFactory.openSession();
+		}
+
+		@TearDown
+		public void tearDown() {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public Object get(Region region, ThreadSession session) {
+		return region.access.get( session.session, region.randomKey() );
+	}
+
+	@Benchmark
+	public void lockAndUnlock(Region region, ThreadSession session) {
+		final Object key = region.randomKey();
+		final SoftLock lock = region.access.lockItem( session.session, key, null );
+		region.access.unlockItem( session.session, key, lock );
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Param;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Runs each query of {@link QueryTranslationBenchmark} through the setup and the
+ * benchmarked translation steps once
+ */
+public class QueryTranslationBenchmarkSmokeTest {
+
+	static Stream<String> queries() throws NoSuchFieldException {
+		final Param param = QueryTranslationBenchmark.class.getField( "hql" ).getAnnotation( Param.class );
+		assertFalse( param.value().length == 0 );
+		return Arrays.stream( param.value() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( "queries" )
+	public void testTranslation(String hql) {
+		final QueryTranslationBenchmark benchmark = new QueryTranslationBenchmark();
+		benchmark.hql = hql;
+		benchmark.setUp();
+		try {
+			assertNotNull( benchmark.interpretHql() );
+			assertNotNull( benchmark.convertToSqlAst() );
+			assertNotNull( benchmark.renderSql().getSql() );
+		}
+		finally {
+			benchmark.tearDown();
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.graph.RootGraph;
 import org.hibernate.query.Query;
@@ -876,6 +877,29 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	<T> T get(Class<T> entityType, Object id, LockOptions lockOptions);
 
+	/**
+	 * Asynchronously return the persistent instance of the given entity class with the
+	 * given identifier, or null if there is no such persistent instance, as
+	 * {@link #find(Class, Object)} does.
+	 * <p>
+	 * The JDBC work is run on the {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 * asynchronous executor}, after the asynchronous operations previously submitted by
+	 * this session.  The session must not be used until the returned stage is completed.
+	 * <p>
+	 * As the work runs on another thread, it cannot take part in a JTA transaction, nor in
+	 * any other transaction bound to the calling thread, so this operation may only be used
+	 * with resource-local transactions.
+	 *
+	 * @param entityType the entity type
+	 * @param id an identifier
+	 *
+	 * @return a stage completed with the persistent instance or null
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	<T> CompletionStage<T> findAsync(Class<T> entityType, Object id);
+
 	/**
 	 * Return the persistent instance of the given named entity with the given identifier,
 	 * or null if there is no such persistent instance. If the instance is already associated
@@ -65,29 +65,13 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 
 	@Override
 	public void execute() throws HibernateException {
-		nullifyTransientReferencesIfNotAlready();
-
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
-
-		setVeto( preInsert() );
+		beforeInsert();
 
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
 
 		if ( !isVeto() ) {
-			generatedId = persister.insert( getState(), instance, session );
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
-			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			persistenceContext.registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			persistenceContext.checkUniqueness( entityKey, getInstance() );
+			assignGeneratedId( getPersister().insert( getState(), getInstance(), getSession() ) );
 		}
 
 
@@ -99,9 +83,45 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 			persister.getCache().insert(generatedId, cacheEntry);
 		}*/
 
+		afterInsert();
+	}
+
+	/**
+	 * The first phase of {@link #execute()}, which determines whether the insert is vetoed
+	 */
+	void beforeInsert() {
+		nullifyTransientReferencesIfNotAlready();
+		setVeto( preInsert() );
+	}
+
+	/**
+	 * The second phase of {@link #execute()}, once the entity was inserted
+	 */
+	void assignGeneratedId(Object generatedId) {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+
+		this.generatedId = generatedId;
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.registerInsertedKey( persister, generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		persistenceContext.checkUniqueness( entityKey, instance );
+	}
+
+	/**
+	 * The last phase of {@link #execute()}
+	 */
+	void afterInsert() {
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
 			statistics.insertEntity( getPersister().getEntityName() );
 		}
@@ -109,6 +129,13 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 		markExecuted();
 	}
 
+	/**
+	 * Can this insert be executed as part of an {@link EntityIdentityInsertBatch}?
+	 */
+	public boolean isBatchable() {
+		return isDelayed && getPersister().canBatchIdentityInserts();
+	}
+
 	@Override
 	public boolean needsAfterTransactionCompletion() {
 		//TODO: simply remove this override if we fix the above todos
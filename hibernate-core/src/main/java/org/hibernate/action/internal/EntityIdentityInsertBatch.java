@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.action.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.Type;
+
+/**
+ * Queued {@link EntityIdentityInsertAction}s of entities of the same type, executed
+ * together so that the persister inserts them as a single JDBC batch.
+ * <p>
+ * An insert can only join the batch if its entity does not reference one of the
+ * entities of the batch, since their identifier is not known until the batch is
+ * executed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+ */
+public class EntityIdentityInsertBatch {
+	private final EntityPersister persister;
+	private final int maxSize;
+	private final List<EntityIdentityInsertAction> actions = new ArrayList<>();
+	private final Set<Object> instances = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+	public EntityIdentityInsertBatch(EntityIdentityInsertAction action, int maxSize) {
+		this.persister = action.getPersister();
+		this.maxSize = maxSize;
+		actions.add( action );
+		instances.add( action.getInstance() );
+	}
+
+	/**
+	 * Add the given insert to this batch, if possible
+	 *
+	 * @return {@code false} if the insert cannot be part of this batch
+	 */
+	public boolean add(EntityIdentityInsertAction action) {
+		if ( actions.size() >= maxSize
+				|| action.getPersister() != persister
+				|| !action.isBatchable()
+				|| references( action.getState(), persister.getPropertyTypes() ) ) {
+			return false;
+		}
+		actions.add( action );
+		instances.add( action.getInstance() );
+		return true;
+	}
+
+	private boolean references(Object[] values, Type[] types) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null ) {
+				continue;
+			}
+			if ( types[i].isEntityType() ) {
+				if ( instances.contains( value ) ) {
+					return true;
+				}
+			}
+			else if ( types[i].isComponentType() ) {
+				final ComponentType componentType = (ComponentType) types[i];
+				if ( references( componentType.getPropertyValues( value ), componentType.getSubtypes() ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public List<EntityIdentityInsertAction> getActions() {
+		return actions;
+	}
+
+	/**
+	 * Execute the inserts, as a single JDBC batch if there are several of them
+	 */
+	public void execute() {
+		if ( actions.size() == 1 ) {
+			actions.get( 0 ).execute();
+			return;
+		}
+
+		final List<EntityIdentityInsertAction> inserted = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.beforeInsert();
+			if ( !action.isVeto() ) {
+				inserted.add( action );
+			}
+		}
+
+		if ( !inserted.isEmpty() ) {
+			final Object[][] states = new Object[ inserted.size() ][];
+			final Object[] entities = new Object[ inserted.size() ];
+			for ( int i = 0; i < entities.length; i++ ) {
+				states[i] = inserted.get( i ).getState();
+				entities[i] = inserted.get( i ).getInstance();
+			}
+			final Object[] generatedIds = persister.insert( states, entities, actions.get( 0 ).getSession() );
+			for ( int i = 0; i < generatedIds.length; i++ ) {
+				inserted.get( i ).assignGeneratedId( generatedIds[i] );
+			}
+		}
+
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.afterInsert();
+		}
+	}
+}
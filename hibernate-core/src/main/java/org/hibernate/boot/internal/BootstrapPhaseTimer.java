@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.boot.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.boot.BootLogging;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Measures the time taken by the phases of building a
+ * {@link org.hibernate.SessionFactory}, and logs them to the
+ * {@value #LOGGER_NAME} logger at {@code DEBUG} level, one message per
+ * phase and a summary once the SessionFactory is built.
+ */
+public class BootstrapPhaseTimer {
+	public static final String LOGGER_NAME = BootLogging.NAME + ".timing";
+
+	private static final Logger LOG = Logger.getLogger( LOGGER_NAME );
+
+	private final List<String> phases = new ArrayList<>();
+	private final List<Long> durations = new ArrayList<>();
+	private final long start = System.nanoTime();
+
+	/**
+	 * Perform the given phase, and record the time it takes
+	 */
+	public void time(String phase, Runnable work) {
+		final long phaseStart = System.nanoTime();
+		try {
+			work.run();
+		}
+		finally {
+			record( phase, System.nanoTime() - phaseStart );
+		}
+	}
+
+	/**
+	 * Perform the given phase, and record the time it takes
+	 */
+	public <T> T time(String phase, Supplier<T> work) {
+		final long phaseStart = System.nanoTime();
+		try {
+			return work.get();
+		}
+		finally {
+			record( phase, System.nanoTime() - phaseStart );
+		}
+	}
+
+	private void record(String phase, long duration) {
+		phases.add( phase );
+		durations.add( duration );
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "SessionFactory bootstrap phase [%s] took %s ms", phase, toMillis( duration ) );
+		}
+	}
+
+	/**
+	 * The phases recorded so far, in the order they were performed
+	 */
+	public List<String> getPhases() {
+		return phases;
+	}
+
+	/**
+	 * The time taken by the given phase, in nanoseconds, or {@code -1} if it was not recorded
+	 */
+	public long getDuration(String phase) {
+		final int index = phases.indexOf( phase );
+		return index < 0 ? -1L : durations.get( index );
+	}
+
+	/**
+	 * Log the time taken by all the phases recorded
+	 */
+	public void logSummary() {
+		if ( LOG.isDebugEnabled() ) {
+			final StringBuilder summary = new StringBuilder( "SessionFactory bootstrap took " )
+					.append( toMillis( System.nanoTime() - start ) )
+					.append( " ms" );
+			for ( int i = 0; i < phases.size(); i++ ) {
+				summary.append( System.lineSeparator() )
+						.append( "  " )
+						.append( phases.get( i ) )
+						.append( " : " )
+						.append( toMillis( durations.get( i ) ) )
+						.append( " ms" );
+			}
+			LOG.debug( summary.toString() );
+		}
+	}
+
+	private static long toMillis(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis( nanos );
+	}
+}
@@ -9,12 +9,16 @@ package org.hibernate.boot.internal;
 import java.lang.reflect.Constructor;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -77,15 +81,21 @@ import org.hibernate.type.JsonBJsonFormatMapper;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.ASYNC_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BAG_CHANGE_TRACKING;
+import static org.hibernate.cfg.AvailableSettings.BOOTSTRAP_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_IDENTITY_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.BATCH_PIPELINING;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
+import static org.hibernate.cfg.AvailableSettings.COPY_ON_WRITE_COLLECTION_SNAPSHOTS;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
@@ -102,12 +112,16 @@ import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
+import static org.hibernate.cfg.AvailableSettings.LAZY_PERSISTER_INITIALIZATION;
+import static org.hibernate.cfg.AvailableSettings.LAZY_PERSISTER_INITIALIZATION_WARM_UP;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_KEY_LOAD_ARRAY_PARAMETER;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_STORAGE;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -118,6 +132,7 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.STATISTICS_HISTOGRAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -175,6 +190,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private Class<? extends Interceptor> statelessInterceptorClass;
 	private Supplier<? extends Interceptor> statelessInterceptorSupplier;
 	private StatementInspector statementInspector;
+	private Executor asyncExecutor;
 	private final List<SessionFactoryObserver> sessionFactoryObserverList = new ArrayList<>();
 	private final BaselineSessionEventsListenerBuilder baselineSessionEventsListenerBuilder;	// not exposed on builder atm
 
@@ -223,6 +239,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private boolean bagChangeTrackingEnabled;
+	private boolean copyOnWriteCollectionSnapshotsEnabled;
 
 	// Schema tooling
 	private SchemaAutoTooling schemaAutoTooling;
@@ -231,6 +249,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private boolean jdbcBatchPipeliningEnabled;
+	private boolean identityInsertBatchingEnabled;
 	private Integer jdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
@@ -252,8 +272,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private boolean multiKeyLoadArrayParameterEnabled;
 
 	private int queryStatisticsMaxSize;
+	private boolean statisticsHistogramsEnabled;
+
+	private boolean persistenceContextCompactStorageEnabled;
+
+	private int bootstrapParallelism;
+	private boolean lazyPersisterInitializationEnabled;
+	private Set<String> lazyPersisterInitializationWarmUp;
 
 
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
@@ -323,6 +351,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				StatementInspector.class,
 				configurationSettings.get( STATEMENT_INSPECTOR )
 		);
+		this.asyncExecutor = strategySelector.resolveStrategy(
+				Executor.class,
+				configurationSettings.get( ASYNC_EXECUTOR )
+		);
 
 		// todo : expose this from builder?
 		final String autoSessionEventsListenerName = (String) configurationSettings.get(
@@ -453,6 +485,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.autoEvictCollectionCache = false;
 		}
 
+		this.bagChangeTrackingEnabled = ConfigurationHelper.getBoolean( BAG_CHANGE_TRACKING, configurationSettings, false );
+		this.copyOnWriteCollectionSnapshotsEnabled = ConfigurationHelper.getBoolean(
+				COPY_ON_WRITE_COLLECTION_SNAPSHOTS,
+				configurationSettings,
+				false
+		);
+
 		try {
 			this.schemaAutoTooling = SchemaAutoTooling.interpret( (String) configurationSettings.get( AvailableSettings.HBM2DDL_AUTO ) );
 		}
@@ -479,6 +518,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.jdbcBatchPipeliningEnabled = ConfigurationHelper.getBoolean( BATCH_PIPELINING, configurationSettings, false );
+		this.identityInsertBatchingEnabled = ConfigurationHelper.getBoolean( BATCH_IDENTITY_INSERTS, configurationSettings, false );
 		this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -557,11 +598,46 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				false
 		);
 
+		this.multiKeyLoadArrayParameterEnabled = ConfigurationHelper.getBoolean(
+				MULTI_KEY_LOAD_ARRAY_PARAMETER,
+				configurationSettings,
+				false
+		);
+
 		this.queryStatisticsMaxSize = ConfigurationHelper.getInt(
 				QUERY_STATISTICS_MAX_SIZE,
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+		this.statisticsHistogramsEnabled = ConfigurationHelper.getBoolean(
+				STATISTICS_HISTOGRAMS_ENABLED,
+				configurationSettings,
+				false
+		);
+
+		this.persistenceContextCompactStorageEnabled = ConfigurationHelper.getBoolean(
+				PERSISTENCE_CONTEXT_COMPACT_STORAGE,
+				configurationSettings,
+				false
+		);
+
+		this.bootstrapParallelism = Math.max(
+				1,
+				ConfigurationHelper.getInt( BOOTSTRAP_PARALLELISM, configurationSettings, 1 )
+		);
+
+		this.lazyPersisterInitializationEnabled = ConfigurationHelper.getBoolean(
+				LAZY_PERSISTER_INITIALIZATION,
+				configurationSettings,
+				false
+		);
+		this.lazyPersisterInitializationWarmUp = new HashSet<>( Arrays.asList(
+				StringHelper.splitTrimmingTokens(
+						", ",
+						ConfigurationHelper.getString( LAZY_PERSISTER_INITIALIZATION_WARM_UP, configurationSettings, "" ),
+						false
+				)
+		) );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1047,6 +1123,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return autoEvictCollectionCache;
 	}
 
+	@Override
+	public boolean isBagChangeTrackingEnabled() {
+		return bagChangeTrackingEnabled;
+	}
+
+	@Override
+	public boolean isCopyOnWriteCollectionSnapshotsEnabled() {
+		return copyOnWriteCollectionSnapshotsEnabled;
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return schemaAutoTooling;
@@ -1062,6 +1148,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchPipeliningEnabled() {
+		return jdbcBatchPipeliningEnabled;
+	}
+
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return identityInsertBatchingEnabled;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1157,6 +1253,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean multiKeyLoadArrayParameterEnabled() {
+		return this.multiKeyLoadArrayParameterEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -1167,6 +1268,36 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public boolean isStatisticsHistogramsEnabled() {
+		return statisticsHistogramsEnabled;
+	}
+
+	@Override
+	public boolean isPersistenceContextCompactStorageEnabled() {
+		return persistenceContextCompactStorageEnabled;
+	}
+
+	@Override
+	public int getBootstrapParallelism() {
+		return bootstrapParallelism;
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return lazyPersisterInitializationEnabled;
+	}
+
+	@Override
+	public Set<String> getLazyPersisterInitializationWarmUp() {
+		return lazyPersisterInitializationWarmUp;
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -7,7 +7,9 @@
 package org.hibernate.boot.spi;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -273,6 +275,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isAutoEvictCollectionCache();
 	}
 
+	@Override
+	public boolean isBagChangeTrackingEnabled() {
+		return delegate.isBagChangeTrackingEnabled();
+	}
+
+	@Override
+	public boolean isCopyOnWriteCollectionSnapshotsEnabled() {
+		return delegate.isCopyOnWriteCollectionSnapshotsEnabled();
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return delegate.getSchemaAutoTooling();
@@ -288,6 +300,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchPipeliningEnabled() {
+		return delegate.isJdbcBatchPipeliningEnabled();
+	}
+
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return delegate.isIdentityInsertBatchingEnabled();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -408,11 +430,46 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean multiKeyLoadArrayParameterEnabled() {
+		return delegate.multiKeyLoadArrayParameterEnabled();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public boolean isStatisticsHistogramsEnabled() {
+		return delegate.isStatisticsHistogramsEnabled();
+	}
+
+	@Override
+	public boolean isPersistenceContextCompactStorageEnabled() {
+		return delegate.isPersistenceContextCompactStorageEnabled();
+	}
+
+	@Override
+	public int getBootstrapParallelism() {
+		return delegate.getBootstrapParallelism();
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return delegate.isLazyPersisterInitializationEnabled();
+	}
+
+	@Override
+	public Set<String> getLazyPersisterInitializationWarmUp() {
+		return delegate.getLazyPersisterInitializationWarmUp();
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
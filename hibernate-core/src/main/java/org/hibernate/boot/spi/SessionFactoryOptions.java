@@ -6,7 +6,10 @@
  */
 package org.hibernate.boot.spi;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -192,12 +195,28 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isAutoEvictCollectionCache();
 
+	default boolean isBagChangeTrackingEnabled() {
+		return false;
+	}
+
+	default boolean isCopyOnWriteCollectionSnapshotsEnabled() {
+		return false;
+	}
+
 	SchemaAutoTooling getSchemaAutoTooling();
 
 	int getJdbcBatchSize();
 
 	boolean isJdbcBatchVersionedData();
 
+	default boolean isJdbcBatchPipeliningEnabled() {
+		return false;
+	}
+
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
@@ -269,10 +288,65 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * Should the keys of multi-key loads be bound as a single array parameter?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_KEY_LOAD_ARRAY_PARAMETER
+	 */
+	default boolean multiKeyLoadArrayParameterEnabled() {
+		return false;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	default boolean isStatisticsHistogramsEnabled() {
+		return false;
+	}
+
+	default boolean isPersistenceContextCompactStorageEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of threads used to create the persisters.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BOOTSTRAP_PARALLELISM
+	 */
+	default int getBootstrapParallelism() {
+		return 1;
+	}
+
+	/**
+	 * Should the persisters be initialized the first time they are used?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_PERSISTER_INITIALIZATION
+	 */
+	default boolean isLazyPersisterInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * The names of the entities whose persisters are initialized eagerly even if
+	 * {@linkplain #isLazyPersisterInitializationEnabled() lazy initialization} is enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_PERSISTER_INITIALIZATION_WARM_UP
+	 */
+	default Set<String> getLazyPersisterInitializationWarmUp() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * The {@link Executor} for asynchronous operations, or {@code null} if the
+	 * {@code SessionFactory} should provide its own.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 */
+	default Executor getAsyncExecutor() {
+		return null;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
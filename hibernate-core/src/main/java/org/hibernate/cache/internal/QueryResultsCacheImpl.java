@@ -18,6 +18,7 @@ import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
 
 /**
  * The standard implementation of the Hibernate QueryCache interface.  Works
@@ -70,6 +71,10 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
+		if ( results instanceof ColumnarCachedResults ) {
+			// immutable, and copying it would build the array of every row
+			return results;
+		}
 		return new ArrayList<>( results );
 	}
 
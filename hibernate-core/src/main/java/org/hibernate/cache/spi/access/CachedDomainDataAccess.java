@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -57,6 +61,31 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve multiple objects from the cache, ideally in a single
+	 * round trip to the caching provider.  Used when resolving a batch of
+	 * entities/collections from the second level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data found, keyed by the item key
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> cached = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				cached.put( key, value );
+			}
+		}
+		return cached;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -96,6 +125,28 @@ public interface CachedDomainDataAccess {
 			Object version,
 			boolean minimalPutOverride);
 
+	/**
+	 * Attempt to cache multiple objects, afterQuery loading them from the database,
+	 * ideally in a single round trip to the caching provider.
+	 *
+	 * @param session Current session.
+	 * @param values The items, keyed by item key
+	 * @param versions The item version numbers, keyed by item key, or {@code null}
+	 * if the items are not versioned
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 */
+	default void putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Map<?, ?> values,
+			Map<?, ?> versions) {
+		values.forEach(
+				(key, value) -> putFromLoad( session, key, value, versions == null ? null : versions.get( key ) )
+		);
+	}
+
 	/**
 	 * We are going to attempt to update/delete the keyed object. This
 	 * method is used by "asynchronous" concurrency strategies.
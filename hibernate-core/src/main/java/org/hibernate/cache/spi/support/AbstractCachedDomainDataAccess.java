@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -53,6 +56,11 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -63,6 +71,14 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return true;
 	}
 
+	@Override
+	public void putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Map<?, ?> values,
+			Map<?, ?> versions) {
+		getStorageAccess().putAllFromLoad( values, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -7,10 +7,16 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -22,6 +28,13 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.jboss.logging.Logger;
 
 /**
+ * Base support for read-write access to cached domain data.
+ * <p>
+ * The check-then-act sequences against the storage are guarded by a read-write lock
+ * chosen from a fixed set of stripes according to the hash of the cache key, so that
+ * operations on independent keys of the same region do not contend.  All operations
+ * on a given key always use the same lock.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
@@ -29,9 +42,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] lockStripes = createLockStripes();
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
@@ -49,12 +60,68 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
+	/**
+	 * The lock guarding reads of the entry for the given key
+	 */
+	protected Lock readLock(Object key) {
+		return lockStripe( key ).readLock();
+	}
+
+	/**
+	 * The lock guarding changes to the entry for the given key
+	 */
+	protected Lock writeLock(Object key) {
+		return lockStripe( key ).writeLock();
+	}
+
+	/**
+	 * The lock guarding reads of all entries of the region, spanning all lock stripes
+	 *
+	 * @deprecated Use {@link #readLock(Object)}, which only locks the stripe of the given key
+	 */
+	@Deprecated
 	protected Lock readLock() {
-		return readLock;
+		final Lock[] locks = new Lock[lockStripes.length];
+		for ( int i = 0; i < locks.length; i++ ) {
+			locks[i] = lockStripes[i].readLock();
+		}
+		return new StripesLock( locks );
 	}
 
+	/**
+	 * The lock guarding changes to all entries of the region, spanning all lock stripes
+	 *
+	 * @deprecated Use {@link #writeLock(Object)}, which only locks the stripe of the given key
+	 */
+	@Deprecated
 	protected Lock writeLock() {
-		return writeLock;
+		final Lock[] locks = new Lock[lockStripes.length];
+		for ( int i = 0; i < locks.length; i++ ) {
+			locks[i] = lockStripes[i].writeLock();
+		}
+		return new StripesLock( locks );
+	}
+
+	private ReentrantReadWriteLock lockStripe(Object key) {
+		return lockStripes[lockStripeIndex( key )];
+	}
+
+	private int lockStripeIndex(Object key) {
+		int hash = key.hashCode();
+		// spread the higher bits, as the number of stripes is a power of 2
+		hash ^= ( hash >>> 16 );
+		return hash & ( lockStripes.length - 1 );
+	}
+
+	private static ReentrantReadWriteLock[] createLockStripes() {
+		// enough stripes for concurrent threads to rarely hit the same one
+		final int stripeCount = Integer.highestOneBit(
+				Math.max( 16, Runtime.getRuntime().availableProcessors() * 4 ) - 1 ) << 1;
+		final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[stripeCount];
+		for ( int i = 0; i < stripeCount; i++ ) {
+			stripes[i] = new ReentrantReadWriteLock();
+		}
+		return stripes;
 	}
 
 	/**
@@ -64,6 +131,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	@Override
 	public Object get(SharedSessionContractImplementor session, Object key) {
 		log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
+		final Lock readLock = readLock( key );
 		try {
 			readLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -88,12 +156,31 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		// the items are immutable, and soft locks are never readable, so the
+		// readability of what was read can be checked without the key locks
+		final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+		final Map<Object, Object> values = new HashMap<>( items.size() );
+		items.forEach(
+				(key, item) -> {
+					if ( ( (Lockable) item ).isReadable( session.getTransactionStartTimestamp() ) ) {
+						values.put( key, ( (Lockable) item ).getValue() );
+					}
+				}
+		);
+		log.debugf( "Cache hits : region = `%s`, %s of %s keys", getRegion().getName(), values.size(), keys.size() );
+		return values;
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
 			Object key,
 			Object value,
 			Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
 			writeLock.lock();
@@ -124,6 +211,43 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	@Override
+	public void putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Map<?, ?> values,
+			Map<?, ?> versions) {
+		log.debugf( "Caching data from load [region=`%s` (%s)] : keys %s", getRegion().getName(), getAccessType(), values.keySet() );
+		// acquire the locks of all the keys, always in the same order
+		final TreeMap<Integer, Lock> writeLocks = new TreeMap<>();
+		for ( Object key : values.keySet() ) {
+			writeLocks.computeIfAbsent( lockStripeIndex( key ), index -> lockStripes[index].writeLock() );
+		}
+		for ( Lock writeLock : writeLocks.values() ) {
+			writeLock.lock();
+		}
+		try {
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( values.keySet(), session );
+			final Map<Object, Object> writableItems = new HashMap<>( values.size() );
+			values.forEach(
+					(key, value) -> {
+						final Object version = versions == null ? null : versions.get( key );
+						final Lockable item = (Lockable) items.get( key );
+						if ( item == null || item.isWriteable( session.getTransactionStartTimestamp(), version, getVersionComparator() ) ) {
+							writableItems.put( key, new Item( value, version, session.getTransactionStartTimestamp() ) );
+						}
+					}
+			);
+			if ( !writableItems.isEmpty() ) {
+				getStorageAccess().putAllIntoCache( writableItems, session );
+			}
+		}
+		finally {
+			for ( Lock writeLock : writeLocks.descendingMap().values() ) {
+				writeLock.unlock();
+			}
+		}
+	}
+
 	protected abstract AccessedDataClassification getAccessedDataClassification();
 
 	@Override
@@ -138,6 +262,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			writeLock.lock();
 
@@ -158,6 +283,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		final Lock writeLock = writeLock( key );
 		try {
 			log.debugf( "Unlocking cache item [region=`%s` (%s)] : %s", getRegion().getName(), getAccessType(), key );
 			writeLock.lock();
@@ -439,4 +565,84 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return "Lock Source-UUID:" + sourceUuid + " Lock-ID:" + lockId;
 		}
 	}
+
+	/**
+	 * Acquires the locks of the stripes in index order, the order also used when
+	 * locking several keys, and releases them in reverse order
+	 */
+	private static class StripesLock implements Lock {
+		private final Lock[] locks;
+
+		private StripesLock(Lock[] locks) {
+			this.locks = locks;
+		}
+
+		@Override
+		public void lock() {
+			for ( Lock lock : locks ) {
+				lock.lock();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			int acquired = 0;
+			try {
+				for ( ; acquired < locks.length; acquired++ ) {
+					locks[acquired].lockInterruptibly();
+				}
+			}
+			finally {
+				if ( acquired < locks.length ) {
+					unlock( acquired );
+				}
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			for ( int i = 0; i < locks.length; i++ ) {
+				if ( !locks[i].tryLock() ) {
+					unlock( i );
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			final long deadline = System.nanoTime() + unit.toNanos( time );
+			int acquired = 0;
+			try {
+				for ( ; acquired < locks.length; acquired++ ) {
+					if ( !locks[acquired].tryLock( deadline - System.nanoTime(), TimeUnit.NANOSECONDS ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			finally {
+				if ( acquired < locks.length ) {
+					unlock( acquired );
+				}
+			}
+		}
+
+		@Override
+		public void unlock() {
+			unlock( locks.length );
+		}
+
+		private void unlock(int count) {
+			for ( int i = count - 1; i >= 0; i-- ) {
+				locks[i].unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException( "Conditions are not supported by the lock spanning all stripes" );
+		}
+	}
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -28,6 +32,35 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get multiple items from the cache, ideally in a single round trip
+	 * to the caching provider.
+	 *
+	 * @return the items found in the cache, keyed by their key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put multiple items into the cache, ideally in a single round trip
+	 * to the caching provider.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each item
+	 */
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		items.forEach( (key, value) -> putIntoCache( key, value, session ) );
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
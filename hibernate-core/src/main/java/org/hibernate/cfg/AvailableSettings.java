@@ -955,6 +955,43 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, entity inserts into different tables are batched in parallel
+	 * rather than one table after the other: a JDBC batch is kept open for each
+	 * entity type, and the batches are executed in dependency order, when one of
+	 * them is full, or when other SQL needs to be executed.  This gives full-size
+	 * batches even if a flush interleaves inserts into several tables, e.g. for
+	 * parents and their children.
+	 * <p>
+	 * The dependencies between the batches are derived from the foreign keys of
+	 * the mapping.  Do not enable this setting if the database defines foreign
+	 * keys which are not known to the mapping.  The default value is {@code false}.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * When enabled, the inserts of entities with an {@code IDENTITY} identifier are
+	 * batched: {@link jakarta.persistence.EntityManager#persist persist()} does not
+	 * execute the insert immediately but queues it until the next flush, like for
+	 * other identifier generators, and the queued inserts of entities of the same
+	 * type are executed as a JDBC batch whose generated keys are assigned back to
+	 * the entities in order.  The identifier of a persisted entity is therefore
+	 * only known after the flush.
+	 * <p>
+	 * The batching only applies if the {@linkplain #STATEMENT_BATCH_SIZE batch size}
+	 * is greater than 1, if {@linkplain #USE_GET_GENERATED_KEYS getGeneratedKeys}
+	 * is used, and if the {@linkplain org.hibernate.dialect.identity.IdentityColumnSupport#supportsBatchedGetGeneratedKeys Dialect}
+	 * supports reading the keys generated by a batch.  Combine it with {@link #ORDER_INSERTS}
+	 * to group the inserts of each entity type.  The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * Specify a {@linkplain java.util.TimeZone time zone} that should be passed to
 	 * {@link java.sql.PreparedStatement#setTimestamp(int, java.sql.Timestamp, java.util.Calendar)}
@@ -1369,6 +1406,15 @@ public interface AvailableSettings {
 	 */
 	String PREFERRED_POOLED_OPTIMIZER = "hibernate.id.optimizer.pooled.preferred";
 
+	/**
+	 * The fraction of a block of values handed out by the {@code pooled-lo-prefetch}
+	 * optimizer before it requests the next block in the background, between {@code 0}
+	 * (exclusive) and {@code 1} (inclusive).  Defaults to {@code 0.5}.
+	 *
+	 * @see org.hibernate.id.enhanced.PooledLoPrefetchOptimizer
+	 */
+	String POOLED_OPTIMIZER_PREFETCH_THRESHOLD = "hibernate.id.optimizer.pooled.prefetch_threshold";
+
 	/**
 	 * When enabled, specifies that {@linkplain QueryPlan query plans} should be
 	 * {@linkplain org.hibernate.query.spi.QueryPlanCache cached}.
@@ -1873,6 +1919,42 @@ public interface AvailableSettings {
 	 */
 	String USE_ENTITY_WHERE_CLAUSE_FOR_COLLECTIONS = "hibernate.use_entity_where_clause_for_collections";
 
+	/**
+	 * When enabled, the additions and removals of elements of an initialized
+	 * {@linkplain org.hibernate.collection.spi.PersistentBag bag} of values or
+	 * of a many-to-many bag are recorded, and the flush only deletes the rows of
+	 * the removed elements and inserts the rows of the appended elements, rather
+	 * than deleting all the rows of the collection and inserting them again.
+	 * <p>
+	 * The rows can only be deleted one by one if the element columns identify a
+	 * row, so the whole collection is still recreated when a removed element
+	 * occurs several times in the collection, when a removed element has a null
+	 * value in one of its columns, for example a null property of an embeddable,
+	 * when an element column is a formula, and when the elements were changed by
+	 * other operations than {@link java.util.List#add(Object) add()} and
+	 * {@link java.util.List#remove(Object) remove()}.
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String BAG_CHANGE_TRACKING = "hibernate.bag_change_tracking";
+
+	/**
+	 * When enabled, the snapshot of an initialized list, bag, set or map, which
+	 * the flush compares to the collection to find its changes, does not copy
+	 * the elements of the collection but shares them until the collection is
+	 * modified for the first time.  An unmodified collection therefore does
+	 * not hold a second copy of its elements.
+	 * <p>
+	 * The snapshot is still copied when the collection is loaded if the
+	 * elements are mutable values, such as embeddables, or if the collection
+	 * wraps a collection instantiated by the application.  The default value
+	 * is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String COPY_ON_WRITE_COLLECTION_SNAPSHOTS = "hibernate.copy_on_write_collection_snapshots";
+
 	/**
 	 * Specifies a {@link org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider}
 	 * to use. Since {@code MultiTenantConnectionProvider} is also a service, it may be configured
@@ -2080,6 +2162,78 @@ public interface AvailableSettings {
 	 */
 	String AUTO_SESSION_EVENTS_LISTENER = "hibernate.session.events.auto";
 
+	/**
+	 * When enabled, the entities and database snapshots held by the persistence context
+	 * are kept in open-addressing hash tables, one per entity hierarchy, instead of in
+	 * {@code HashMap}s.  The {@link org.hibernate.engine.spi.EntityKey}s are not kept,
+	 * and the identifiers of entities with a {@code Long} or {@code Integer} identifier
+	 * are stored as primitive values.
+	 * <p>
+	 * This reduces the memory needed by sessions managing a large number of entities.
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String PERSISTENCE_CONTEXT_COMPACT_STORAGE = "hibernate.persistence_context.compact_storage";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} used to run the JDBC work of
+	 * asynchronous operations like {@link org.hibernate.query.SelectionQuery#listAsync()}
+	 * and {@link org.hibernate.Session#findAsync(Class, Object)}, either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor},
+	 *     <li>a {@link Class} representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * By default, the work is run on virtual threads when the JVM supports them, or else
+	 * on a pool of daemon threads owned by the {@code SessionFactory}.
+	 *
+	 * @since 6.0
+	 */
+	String ASYNC_EXECUTOR = "hibernate.session_factory.async_executor";
+
+	/**
+	 * [EXPERIMENTAL] Specifies the number of threads used to create the entity and
+	 * collection persisters, and to finish their initialization, when the
+	 * {@link org.hibernate.SessionFactory} is built.  The results do not depend on
+	 * the number of threads.
+	 * <p>
+	 * The default value is {@code 1}, meaning that the persisters are created
+	 * sequentially, on the thread building the {@code SessionFactory}.
+	 * <p>
+	 * The time taken by each phase of building the {@code SessionFactory} is logged
+	 * to the {@code org.hibernate.orm.boot.timing} logger at {@code DEBUG} level.
+	 *
+	 * @since 6.0
+	 */
+	String BOOTSTRAP_PARALLELISM = "hibernate.session_factory.bootstrap_parallelism";
+
+	/**
+	 * When enabled, the SQL, the loaders and the lazy fetch plans of an entity persister
+	 * are built the first time the entity is used, rather than when the
+	 * {@link org.hibernate.SessionFactory} is built.  Likewise, the loaders of a
+	 * collection persister are built the first time the collection is loaded.
+	 * <p>
+	 * This reduces the startup time and the memory of applications which only use a
+	 * small part of a large domain model.  The default value is {@code false}.
+	 *
+	 * @see #LAZY_PERSISTER_INITIALIZATION_WARM_UP
+	 *
+	 * @since 6.0
+	 */
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.session_factory.lazy_persister_initialization";
+
+	/**
+	 * A comma-separated list of the names of the entities whose persisters, and whose
+	 * collection persisters, are initialized when the {@link org.hibernate.SessionFactory}
+	 * is built even though {@link #LAZY_PERSISTER_INITIALIZATION} is enabled.  Both the
+	 * Hibernate entity name and the JPA entity name are accepted.
+	 *
+	 * @since 6.0
+	 */
+	String LAZY_PERSISTER_INITIALIZATION_WARM_UP = "hibernate.session_factory.lazy_persister_initialization.warm_up";
+
 	/**
 	 * [EXPERIMENTAL] Enable instantiation of composite/embedded objects when all
 	 * attribute values are {@code null}. The default (and historical) behavior is
@@ -2451,6 +2605,26 @@ public interface AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * Determines how the keys are bound when loading several entities at once, either
+	 * by {@linkplain org.hibernate.Session#byMultipleIds multi-id loading},
+	 * {@linkplain org.hibernate.Session#byMultipleNaturalId multi natural-id loading}
+	 * or dynamic batch fetching.  By default, the keys are restricted with an {@code IN}
+	 * predicate having one bind parameter for each key, so that each distinct number
+	 * of keys results in a different SQL statement.
+	 * <p>
+	 * When this setting is enabled and the {@link org.hibernate.dialect.Dialect}
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsArrayParameters() supports it},
+	 * the keys are instead bound as a single {@link java.sql.Array} parameter, e.g.
+	 * {@code id = any(?)}, so that a single SQL statement serves every number of keys.
+	 * Only keys mapped to a single column, without value conversion, are bound this way.
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String MULTI_KEY_LOAD_ARRAY_PARAMETER = "hibernate.query.multi_key_load_array_parameter";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics}
 	 * entries that will be stored by the Hibernate {@link org.hibernate.stat.Statistics}
@@ -2462,6 +2636,19 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * When enabled, {@linkplain org.hibernate.stat.LatencyHistogram latency histograms}
+	 * are collected for query executions, entity loads and collection fetches, in
+	 * addition to the other {@linkplain org.hibernate.stat.Statistics statistics}.
+	 * Each histogram has a fixed size of about 5 KB.
+	 * <p>
+	 * Has no effect unless {@link #GENERATE_STATISTICS} is enabled.  The default
+	 * value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String STATISTICS_HISTOGRAMS_ENABLED = "hibernate.statistics.histograms";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used
 	 * when Hibernate detects a mismatch between a sequence configuration in an entity
@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.collection.internal;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Copy-on-write snapshot of a list or bag, standing for an {@link ArrayList}
+ * of its elements
+ */
+public class CopyOnWriteListSnapshot extends AbstractList<Object> implements CopyOnWriteSnapshot, RandomAccess {
+	private List<?> elements;
+
+	public CopyOnWriteListSnapshot(List<?> elements) {
+		this.elements = elements;
+	}
+
+	@Override
+	public void copy() {
+		elements = new ArrayList<>( elements );
+	}
+
+	@Override
+	public Object get(int index) {
+		return elements.get( index );
+	}
+
+	@Override
+	public int size() {
+		return elements.size();
+	}
+
+	private Object writeReplace() {
+		return new ArrayList<>( elements );
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.collection.internal;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy-on-write snapshot of a map, standing for a {@link HashMap} of its entries
+ */
+public class CopyOnWriteMapSnapshot extends AbstractMap<Object, Object> implements CopyOnWriteSnapshot {
+	private Map<?, ?> entries;
+
+	public CopyOnWriteMapSnapshot(Map<?, ?> entries) {
+		this.entries = entries;
+	}
+
+	@Override
+	public void copy() {
+		entries = new HashMap<>( entries );
+	}
+
+	@Override
+	public Object get(Object key) {
+		return entries.get( key );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return entries.containsKey( key );
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Set<Object> keySet() {
+		return Collections.unmodifiableSet( (Set<Object>) entries.keySet() );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Collection<Object> values() {
+		return Collections.unmodifiableCollection( (Collection<Object>) entries.values() );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Set<Entry<Object, Object>> entrySet() {
+		return Collections.unmodifiableMap( (Map<Object, Object>) entries ).entrySet();
+	}
+
+	private Object writeReplace() {
+		return new HashMap<>( entries );
+	}
+}
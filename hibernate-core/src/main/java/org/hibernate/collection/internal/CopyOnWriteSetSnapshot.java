@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.collection.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.internal.util.collections.CollectionHelper;
+
+/**
+ * Copy-on-write snapshot of a set, standing for a {@link HashMap} mapping each
+ * element to itself
+ */
+public class CopyOnWriteSetSnapshot extends AbstractMap<Object, Object> implements CopyOnWriteSnapshot {
+	private Set<?> elements;
+	private Map<Object, Object> copy;
+
+	public CopyOnWriteSetSnapshot(Set<?> elements) {
+		this.elements = elements;
+	}
+
+	@Override
+	public void copy() {
+		if ( copy == null ) {
+			copy = toMap();
+			elements = null;
+		}
+	}
+
+	private Map<Object, Object> toMap() {
+		final HashMap<Object, Object> map = CollectionHelper.mapOfSize( elements.size() );
+		for ( Object element : elements ) {
+			map.put( element, element );
+		}
+		return map;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if ( copy != null ) {
+			return copy.get( key );
+		}
+		// each element maps to itself, and the key equals the element it stands for
+		return elements.contains( key ) ? key : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return copy != null ? copy.containsKey( key ) : elements.contains( key );
+	}
+
+	@Override
+	public int size() {
+		return copy != null ? copy.size() : elements.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return copy != null ? copy.isEmpty() : elements.isEmpty();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Set<Object> keySet() {
+		return copy != null
+				? Collections.unmodifiableSet( copy.keySet() )
+				: Collections.unmodifiableSet( (Set<Object>) elements );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Collection<Object> values() {
+		return copy != null
+				? Collections.unmodifiableCollection( copy.values() )
+				: Collections.unmodifiableSet( (Set<Object>) elements );
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		if ( copy != null ) {
+			return Collections.unmodifiableMap( copy ).entrySet();
+		}
+		return new AbstractSet<Entry<Object, Object>>() {
+			@Override
+			public Iterator<Entry<Object, Object>> iterator() {
+				final Iterator<?> itr = elements.iterator();
+				return new Iterator<Entry<Object, Object>>() {
+					@Override
+					public boolean hasNext() {
+						return itr.hasNext();
+					}
+
+					@Override
+					public Entry<Object, Object> next() {
+						final Object element = itr.next();
+						return new SimpleImmutableEntry<>( element, element );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return elements.size();
+			}
+		};
+	}
+
+	private Object writeReplace() {
+		return copy != null ? new HashMap<>( copy ) : toMap();
+	}
+}
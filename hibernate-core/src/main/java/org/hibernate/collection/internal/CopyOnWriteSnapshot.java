@@ -0,0 +1,24 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serializable;
+
+/**
+ * A collection snapshot which shares the elements of the collection, rather than
+ * copying them, until the collection is about to be modified for the first time.
+ * It can only stand for the snapshot of a collection whose elements are immutable.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#COPY_ON_WRITE_COLLECTION_SNAPSHOTS
+ */
+public interface CopyOnWriteSnapshot extends Serializable {
+	/**
+	 * Copy the shared elements, so that the snapshot no longer sees the
+	 * modifications of the collection
+	 */
+	void copy();
+}
@@ -21,6 +21,7 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LazyInitializationException;
+import org.hibernate.collection.internal.CopyOnWriteSnapshot;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityEntry;
@@ -68,6 +69,8 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	private boolean dirty;
 	protected boolean elementRemoved;
 	private Serializable storedSnapshot;
+	// a snapshot sharing the elements of this collection until it is written to
+	private transient CopyOnWriteSnapshot sharedSnapshot;
 
 	private String sessionFactoryUuid;
 	private boolean allowLoadOutsideTransaction;
@@ -555,16 +558,48 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	 * @throws LazyInitializationException if we cannot initialize
 	 */
 	protected final void initialize(final boolean writing) {
-		if ( initialized ) {
-			return;
+		if ( !initialized ) {
+			withTemporarySessionIfNeeded(
+					() -> {
+						session.initializeCollection( AbstractPersistentCollection.this, writing );
+						return null;
+					}
+			);
 		}
+		if ( writing ) {
+			copySharedSnapshot();
+		}
+	}
 
-		withTemporarySessionIfNeeded(
-				() -> {
-					session.initializeCollection( AbstractPersistentCollection.this, writing );
-					return null;
-				}
-		);
+	/**
+	 * Should the snapshot of this collection share its elements until it is written to,
+	 * rather than copy them?  This is only possible if the elements are immutable, and
+	 * if the collection can only be modified through this wrapper.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COPY_ON_WRITE_COLLECTION_SNAPSHOTS
+	 */
+	protected boolean isCopyOnWriteSnapshotEnabled(CollectionPersister persister) {
+		return !directlyAccessible
+				&& !persister.getElementType().isMutable()
+				&& persister.getFactory().getSessionFactoryOptions().isCopyOnWriteCollectionSnapshotsEnabled();
+	}
+
+	/**
+	 * Register the given snapshot as sharing the elements of this collection, so that
+	 * it copies them before this collection is written to.
+	 */
+	protected final Serializable shareSnapshot(CopyOnWriteSnapshot snapshot) {
+		// the previous snapshot keeps its current elements from now on
+		copySharedSnapshot();
+		sharedSnapshot = snapshot;
+		return snapshot;
+	}
+
+	private void copySharedSnapshot() {
+		if ( sharedSnapshot != null ) {
+			sharedSnapshot.copy();
+			sharedSnapshot = null;
+		}
 	}
 
 	private void throwLazyInitializationExceptionIfNotConnected() {
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.collection.internal.CopyOnWriteListSnapshot;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -44,6 +45,19 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	 */
 	private Collection<E> providedCollection;
 
+	/**
+	 * The appended and removed elements since the last snapshot, or {@code null}
+	 * if the changes are not tracked
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BAG_CHANGE_TRACKING
+	 */
+	private transient List<DelayedOperation<E>> changes;
+
+	/**
+	 * The number of elements at the end of the bag appended since the last snapshot
+	 */
+	private transient int appendedCount;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -223,6 +237,11 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
+		changes = isChangeTrackingPossible( persister ) ? new ArrayList<>() : null;
+		appendedCount = 0;
+		if ( isCopyOnWriteSnapshotEnabled( persister ) ) {
+			return shareSnapshot( new CopyOnWriteListSnapshot( bag ) );
+		}
 		final ArrayList<E> clonedList = new ArrayList<>( bag.size() );
 		for ( E item : bag ) {
 			clonedList.add( (E) persister.getElementType().deepCopy( item, persister.getFactory() ) );
@@ -273,7 +292,79 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		if ( persister.isOneToMany() ) {
+			return false;
+		}
+		return changes == null || !isChangeLogApplicable( persister );
+	}
+
+	private static boolean isChangeTrackingPossible(CollectionPersister persister) {
+		return !persister.isOneToMany()
+				&& !persister.isInverse()
+				&& persister.isRowDeleteByElementPossible()
+				&& persister.getFactory().getSessionFactoryOptions().isBagChangeTrackingEnabled();
+	}
+
+	/**
+	 * Can the recorded changes be written as row deletes and inserts? They can if
+	 * the bag holds the elements of the snapshot minus the removed ones, in the same
+	 * order, followed by the appended elements, and if each removed element occurs
+	 * only once in the snapshot, since deleting its row deletes all the equal rows.
+	 * A removed element with a null column value cannot be deleted by element either,
+	 * since the restriction {@code column = null} of the row delete matches no row.
+	 */
+	private boolean isChangeLogApplicable(CollectionPersister persister) {
+		if ( super.needsRecreate( persister ) ) {
+			return false;
+		}
+		final List<?> sn = (List<?>) getSnapshot();
+		final int retainedCount = bag.size() - appendedCount;
+		if ( sn == null || retainedCount < 0 ) {
+			return false;
+		}
+
+		final Type elementType = persister.getElementType();
+		final boolean[] removed = new boolean[ sn.size() ];
+		for ( DelayedOperation<E> change : changes ) {
+			if ( change instanceof PersistentBag.SimpleRemove ) {
+				removed[ ( (SimpleRemove) change ).getSnapshotIndex() ] = true;
+			}
+		}
+
+		int i = 0;
+		for ( int j = 0; j < sn.size(); j++ ) {
+			final Object old = sn.get( j );
+			if ( removed[j] ) {
+				if ( hasNullColumn( old, elementType, persister )
+						|| countOccurrences( old, (List<Object>) sn, elementType ) != 1 ) {
+					return false;
+				}
+			}
+			else if ( i >= retainedCount || !elementType.isSame( old, bag.get( i++ ) ) ) {
+				return false;
+			}
+		}
+		if ( i != retainedCount ) {
+			return false;
+		}
+		for ( ; i < bag.size(); i++ ) {
+			if ( bag.get( i ) == null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasNullColumn(Object element, Type elementType, CollectionPersister persister) {
+		if ( element == null ) {
+			return true;
+		}
+		for ( boolean notNull : elementType.toColumnNullness( element, persister.getFactory() ) ) {
+			if ( !notNull ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	// For a one-to-many, a <bag> is not really a bag;
@@ -289,6 +380,15 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		final Type elementType = persister.getElementType();
 		final ArrayList<Object> deletes = new ArrayList<>();
 		final List<?> sn = (List<?>) getSnapshot();
+		if ( changes != null ) {
+			// the recorded removals, with the element values of the snapshot
+			for ( DelayedOperation<E> change : changes ) {
+				if ( change instanceof PersistentBag.SimpleRemove ) {
+					deletes.add( sn.get( ( (SimpleRemove) change ).getSnapshotIndex() ) );
+				}
+			}
+			return deletes.iterator();
+		}
 		final Iterator<?> olditer = sn.iterator();
 		int i = 0;
 		while ( olditer.hasNext() ) {
@@ -318,6 +418,9 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( changes != null ) {
+			return i >= bag.size() - appendedCount;
+		}
 		final List<?> sn = (List<?>) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
@@ -383,7 +486,12 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	public boolean add(E object) {
 		if ( !isOperationQueueEnabled() ) {
 			write();
-			return bag.add( object );
+			final boolean added = bag.add( object );
+			if ( added && changes != null ) {
+				changes.add( new SimpleAdd( object ) );
+				appendedCount++;
+			}
+			return added;
 		}
 		else {
 			queueOperation( new SimpleAdd( object ) );
@@ -394,7 +502,12 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	@Override
 	public boolean remove(Object o) {
 		initialize( true );
-		if ( bag.remove( o ) ) {
+		final int index = bag.indexOf( o );
+		if ( index >= 0 ) {
+			final E removed = bag.remove( index );
+			if ( changes != null ) {
+				recordRemoval( index, removed );
+			}
 			elementRemoved = true;
 			dirty();
 			return true;
@@ -404,6 +517,48 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		}
 	}
 
+	/**
+	 * Record the removal of the element which was at the given position of the bag
+	 */
+	private void recordRemoval(int index, E removed) {
+		final int retainedCount = bag.size() + 1 - appendedCount;
+		if ( retainedCount < 0 ) {
+			// the bag was changed by untracked operations, it will be recreated
+			return;
+		}
+		if ( index >= retainedCount ) {
+			// an element appended since the snapshot, forget about its addition
+			int appendIndex = index - retainedCount;
+			for ( Iterator<DelayedOperation<E>> itr = changes.iterator(); itr.hasNext(); ) {
+				if ( itr.next() instanceof PersistentBag.SimpleAdd && appendIndex-- == 0 ) {
+					itr.remove();
+					break;
+				}
+			}
+			appendedCount--;
+		}
+		else {
+			// the position of the element in the snapshot, skipping the elements already removed
+			final List<Integer> removedIndexes = new ArrayList<>();
+			for ( DelayedOperation<E> change : changes ) {
+				if ( change instanceof PersistentBag.SimpleRemove ) {
+					removedIndexes.add( ( (SimpleRemove) change ).getSnapshotIndex() );
+				}
+			}
+			Collections.sort( removedIndexes );
+			int snapshotIndex = index;
+			for ( int removedIndex : removedIndexes ) {
+				if ( removedIndex <= snapshotIndex ) {
+					snapshotIndex++;
+				}
+			}
+			final List<?> sn = (List<?>) getSnapshot();
+			if ( sn != null && snapshotIndex < sn.size() ) {
+				changes.add( new SimpleRemove( removed, snapshotIndex ) );
+			}
+		}
+	}
+
 	@Override
 	public boolean containsAll(Collection<?> c) {
 		read();
@@ -417,7 +572,14 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		}
 		if ( !isOperationQueueEnabled() ) {
 			write();
-			return bag.addAll( values );
+			final boolean added = bag.addAll( values );
+			if ( added && changes != null ) {
+				for ( E value : values ) {
+					changes.add( new SimpleAdd( value ) );
+				}
+				appendedCount += values.size();
+			}
+			return added;
 		}
 		else {
 			for ( E value : values ) {
@@ -633,4 +795,22 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 			bag.add( getAddedInstance() );
 		}
 	}
+
+	final class SimpleRemove extends AbstractValueDelayedOperation {
+		private final int snapshotIndex;
+
+		public SimpleRemove(E orphan, int snapshotIndex) {
+			super( null, orphan );
+			this.snapshotIndex = snapshotIndex;
+		}
+
+		public int getSnapshotIndex() {
+			return snapshotIndex;
+		}
+
+		@Override
+		public void operate() {
+			bag.remove( getOrphan() );
+		}
+	}
 }
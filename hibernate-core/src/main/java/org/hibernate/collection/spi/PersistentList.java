@@ -15,6 +15,7 @@ import java.util.ListIterator;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.collection.internal.CopyOnWriteListSnapshot;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -67,6 +68,9 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( isCopyOnWriteSnapshotEnabled( persister ) ) {
+			return shareSnapshot( new CopyOnWriteListSnapshot( list ) );
+		}
 		final ArrayList<Object> clonedList = new ArrayList<>( list.size() );
 		for ( Object element : list ) {
 			final Object deepCopy = persister.getElementType().deepCopy( element, persister.getFactory() );
@@ -17,6 +17,7 @@ import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.collection.internal.CopyOnWriteMapSnapshot;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -73,6 +74,9 @@ public class PersistentMap<K,E> extends AbstractPersistentCollection<E> implemen
 
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( isCopyOnWriteSnapshotEnabled( persister ) ) {
+			return shareSnapshot( new CopyOnWriteMapSnapshot( map ) );
+		}
 		final HashMap<K,E> clonedMap = CollectionHelper.mapOfSize( map.size() );
 		for ( Entry<K,E> e : map.entrySet() ) {
 			final E copy = (E) persister.getElementType().deepCopy( e.getValue(), persister.getFactory() );
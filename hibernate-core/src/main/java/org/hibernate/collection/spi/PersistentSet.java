@@ -16,6 +16,7 @@ import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.collection.internal.CopyOnWriteSetSnapshot;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -76,6 +77,9 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( isCopyOnWriteSnapshotEnabled( persister ) ) {
+			return shareSnapshot( new CopyOnWriteSetSnapshot( set ) );
+		}
 		final HashMap<E,E> clonedSet = CollectionHelper.mapOfSize( set.size() );
 		for ( E aSet : set ) {
 			final E copied = (E) persister.getElementType().deepCopy( aSet, persister.getFactory() );
@@ -18,6 +18,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.collection.BasicCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
 
 /**
  * A persistent wrapper for a {@code java.util.SortedMap}. Underlying
@@ -70,6 +71,16 @@ public class PersistentSortedMap<K,E> extends PersistentMap<K,E> implements Sort
 		return clonedMap;
 	}
 
+	/**
+	 * The snapshot of a sorted map is always copied: a snapshot sharing the
+	 * {@code TreeMap} would look up the keys with its comparator, rather than
+	 * with {@code equals()} like the copied snapshot.
+	 */
+	@Override
+	protected boolean isCopyOnWriteSnapshotEnabled(CollectionPersister persister) {
+		return false;
+	}
+
 	public void setComparator(Comparator<? super K> comparator) {
 		this.comparator = comparator;
 	}
@@ -3599,6 +3599,19 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Does this dialect/database support binding a {@link java.sql.Array} created with
+	 * {@link java.sql.Connection#createArrayOf} as a parameter, and restricting a column
+	 * to the elements of such a parameter with {@code column = any(?)}?
+	 *
+	 * @return {@code true} if array parameters are supported
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_KEY_LOAD_ARRAY_PARAMETER
+	 */
+	public boolean supportsArrayParameters() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
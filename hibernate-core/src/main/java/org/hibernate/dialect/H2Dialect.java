@@ -547,6 +547,11 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
 	@Override
 	public boolean requiresParensForTupleDistinctCounts() {
 		return true;
@@ -631,6 +631,11 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayParameters() {
+		return true;
+	}
+
 	@Override
 	public boolean requiresParensForTupleDistinctCounts() {
 		return true;
@@ -9,15 +9,21 @@ package org.hibernate.dialect.identity;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
+import org.hibernate.HibernateException;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MessageHelper;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.id.insert.AbstractReturningDelegate;
+import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.IdentifierGeneratingInsert;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 
 /**
  * Delegate for dealing with IDENTITY columns using JDBC3 getGeneratedKeys
@@ -71,4 +77,76 @@ public class GetGeneratedKeysDelegate
 			}
 		}
 	}
+
+	@Override
+	public boolean supportsBatchedInsert() {
+		return dialect.getIdentityColumnSupport().supportsBatchedGetGeneratedKeys();
+	}
+
+	/**
+	 * Executes the inserts as a single JDBC batch, and reads the generated identifiers
+	 * from {@link PreparedStatement#getGeneratedKeys()}, if the Dialect
+	 * {@linkplain IdentityColumnSupport#supportsBatchedGetGeneratedKeys supports it}.
+	 */
+	@Override
+	public Object[] performBatchedInsert(
+			String insertSQL,
+			SharedSessionContractImplementor session,
+			List<Binder> binders) {
+		if ( binders.size() < 2 || !supportsBatchedInsert() ) {
+			return super.performBatchedInsert( insertSQL, session, binders );
+		}
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		try {
+			final PreparedStatement insert = prepare( insertSQL, session );
+			try {
+				for ( Binder binder : binders ) {
+					binder.bindValues( insert );
+					insert.addBatch();
+				}
+				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+				try {
+					observer.jdbcExecuteBatchStart();
+					insert.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+
+				final Object[] ids = new Object[ binders.size() ];
+				final ResultSet rs = insert.getGeneratedKeys();
+				try {
+					for ( int i = 0; i < ids.length; i++ ) {
+						if ( !rs.next() ) {
+							throw new HibernateException(
+									"The database returned " + i + " natively generated identity values for a batch of "
+											+ ids.length + " inserts: " + MessageHelper.infoString( persister )
+							);
+						}
+						ids[i] = IdentifierGeneratorHelper.get(
+								rs,
+								persister.getRootTableKeyColumnNames()[0],
+								persister.getIdentifierType(),
+								dialect
+						);
+					}
+				}
+				finally {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, insert );
+				}
+				return ids;
+			}
+			finally {
+				releaseStatement( insert, session );
+			}
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not insert: " + MessageHelper.infoString( persister ),
+					insertSQL
+			);
+		}
+	}
 }
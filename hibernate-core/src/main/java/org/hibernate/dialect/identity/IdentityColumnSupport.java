@@ -104,4 +104,17 @@ public interface IdentityColumnSupport {
 	GetGeneratedKeysDelegate buildGetGeneratedKeysDelegate(
 			PostInsertIdentityPersister persister,
 			Dialect dialect);
+
+	/**
+	 * Does the JDBC driver return the keys generated by all the rows of a batch
+	 * from {@link java.sql.Statement#getGeneratedKeys()}, in the order in which
+	 * the rows were added to the batch?
+	 *
+	 * @return {@code true} if the inserts of IDENTITY entities can be batched
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean supportsBatchedGetGeneratedKeys() {
+		return false;
+	}
 }
@@ -40,4 +40,9 @@ public class PostgreSQLIdentityColumnSupport extends IdentityColumnSupportImpl {
 	public boolean hasDataTypeInIdentityColumn() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return true;
+	}
 }
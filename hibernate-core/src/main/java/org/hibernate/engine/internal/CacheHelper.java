@@ -7,6 +7,8 @@
 package org.hibernate.engine.internal;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
@@ -37,4 +39,25 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Get the values cached for the given keys with a single bulk lookup
+	 *
+	 * @return the cached values found, keyed by cache key
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			eventListenerManager.cacheGetEnd( cachedValues != null && !cachedValues.isEmpty() );
+		}
+		return cachedValues;
+	}
+
 }
@@ -0,0 +1,516 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * A map keyed by {@link EntityKey} which keeps neither the keys nor a node per entry.
+ * The entries are stored in an open-addressing (linear probing) hash table per entity
+ * hierarchy, and the identifiers of entities with a {@code Long} or {@code Integer}
+ * identifier are stored in a {@code long[]}.
+ * <p>
+ * The keys and entries exposed by the views are created on demand.  The views do not
+ * support removal, and {@code null} values are not supported.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_STORAGE
+ */
+final class CompactEntityKeyMap extends AbstractMap<EntityKey, Object> {
+	private static final int MIN_CAPACITY = 8;
+
+	private final HashMap<String, Partition> partitionsByRootEntityName = new HashMap<>();
+
+	// the partition used last, as the same entity type is usually accessed repeatedly
+	private EntityPersister lastPersister;
+	private Partition lastPartition;
+
+	private int size;
+	private int modCount;
+
+	private Set<Entry<EntityKey, Object>> entrySet;
+	private Collection<Object> values;
+
+	CompactEntityKeyMap() {
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey.getPersister() );
+		if ( partition == null ) {
+			return null;
+		}
+		final int slot = partition.find( entityKey );
+		return slot < 0 ? null : partition.values[slot];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public Object put(EntityKey key, Object value) {
+		if ( value == null ) {
+			throw new IllegalArgumentException( "null values are not supported" );
+		}
+		final Object previous = getOrCreatePartition( key.getPersister() ).put( key, value );
+		if ( previous == null ) {
+			size++;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey.getPersister() );
+		if ( partition == null ) {
+			return null;
+		}
+		final int slot = partition.find( entityKey );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final Object previous = partition.values[slot];
+		partition.removeAt( slot );
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		partitionsByRootEntityName.clear();
+		lastPersister = null;
+		lastPartition = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, Object>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<Entry<EntityKey, Object>>() {
+				@Override
+				public Iterator<Entry<EntityKey, Object>> iterator() {
+					return new SlotIterator<Entry<EntityKey, Object>>() {
+						@Override
+						Entry<EntityKey, Object> element(Partition partition, int slot) {
+							return new SimpleImmutableEntry<>( partition.keyAt( slot ), partition.values[slot] );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Collection<Object> values() {
+		if ( values == null ) {
+			values = new AbstractCollection<Object>() {
+				@Override
+				public Iterator<Object> iterator() {
+					return new SlotIterator<Object>() {
+						@Override
+						Object element(Partition partition, int slot) {
+							return partition.values[slot];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return values;
+	}
+
+	private Partition findPartition(EntityPersister persister) {
+		if ( persister == lastPersister ) {
+			return lastPartition;
+		}
+		final Partition partition = partitionsByRootEntityName.get( persister.getRootEntityName() );
+		if ( partition != null ) {
+			lastPersister = persister;
+			lastPartition = partition;
+		}
+		return partition;
+	}
+
+	private Partition getOrCreatePartition(EntityPersister persister) {
+		Partition partition = findPartition( persister );
+		if ( partition == null ) {
+			final Class<?> identifierClass = persister.getIdentifierType().getReturnedClass();
+			if ( identifierClass == Long.class || identifierClass == long.class ) {
+				partition = new LongPartition( false );
+			}
+			else if ( identifierClass == Integer.class || identifierClass == int.class ) {
+				partition = new LongPartition( true );
+			}
+			else {
+				partition = new ObjectPartition( persister );
+			}
+			partitionsByRootEntityName.put( persister.getRootEntityName(), partition );
+			lastPersister = persister;
+			lastPartition = partition;
+		}
+		return partition;
+	}
+
+	private static int mix(int hash) {
+		final int h = hash * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	/**
+	 * The entries of one entity hierarchy.  A slot is empty if its value is {@code null}.
+	 */
+	private abstract static class Partition {
+		Object[] values = new Object[MIN_CAPACITY];
+		// the concrete persister of each entry, needed to re-create the EntityKey
+		EntityPersister[] persisters = new EntityPersister[MIN_CAPACITY];
+		int size;
+
+		/**
+		 * @return The slot of the entry for the key, or -1
+		 */
+		abstract int find(EntityKey key);
+
+		abstract Object put(EntityKey key, Object value);
+
+		abstract EntityKey keyAt(int slot);
+
+		abstract int homeSlotOf(int slot, int mask);
+
+		abstract void moveIdentifier(int from, int to);
+
+		abstract void clearIdentifier(int slot);
+
+		abstract void resize(int capacity);
+
+		final void grow() {
+			if ( ++size * 3 > values.length * 2 ) {
+				resize( values.length * 2 );
+			}
+		}
+
+		/**
+		 * Removes the entry at the given slot, moving back the entries of the same
+		 * cluster which would not be found anymore otherwise
+		 */
+		final void removeAt(int slot) {
+			final int mask = values.length - 1;
+			int hole = slot;
+			int next = slot;
+			while ( true ) {
+				next = ( next + 1 ) & mask;
+				if ( values[next] == null ) {
+					break;
+				}
+				final int home = homeSlotOf( next, mask );
+				if ( ( ( next - home ) & mask ) >= ( ( next - hole ) & mask ) ) {
+					moveIdentifier( next, hole );
+					values[hole] = values[next];
+					persisters[hole] = persisters[next];
+					hole = next;
+				}
+			}
+			clearIdentifier( hole );
+			values[hole] = null;
+			persisters[hole] = null;
+			size--;
+		}
+	}
+
+	/**
+	 * The entries of an entity hierarchy with a {@code Long} or {@code Integer} identifier
+	 */
+	private static final class LongPartition extends Partition {
+		private final boolean integerIdentifiers;
+		private long[] identifiers = new long[MIN_CAPACITY];
+
+		private LongPartition(boolean integerIdentifiers) {
+			this.integerIdentifiers = integerIdentifiers;
+		}
+
+		private static long toLong(EntityKey key) {
+			return ( (Number) key.getIdentifier() ).longValue();
+		}
+
+		private static int slotOf(long identifier, int mask) {
+			return mix( Long.hashCode( identifier ) ) & mask;
+		}
+
+		@Override
+		int find(EntityKey key) {
+			final long identifier = toLong( key );
+			final int mask = values.length - 1;
+			int slot = slotOf( identifier, mask );
+			while ( values[slot] != null ) {
+				if ( identifiers[slot] == identifier ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		@Override
+		Object put(EntityKey key, Object value) {
+			final long identifier = toLong( key );
+			final int mask = values.length - 1;
+			int slot = slotOf( identifier, mask );
+			while ( values[slot] != null ) {
+				if ( identifiers[slot] == identifier ) {
+					final Object previous = values[slot];
+					values[slot] = value;
+					persisters[slot] = key.getPersister();
+					return previous;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			identifiers[slot] = identifier;
+			values[slot] = value;
+			persisters[slot] = key.getPersister();
+			grow();
+			return null;
+		}
+
+		@Override
+		EntityKey keyAt(int slot) {
+			final Object identifier = integerIdentifiers
+					? (Object) (int) identifiers[slot]
+					: (Object) identifiers[slot];
+			return new EntityKey( identifier, persisters[slot] );
+		}
+
+		@Override
+		int homeSlotOf(int slot, int mask) {
+			return slotOf( identifiers[slot], mask );
+		}
+
+		@Override
+		void moveIdentifier(int from, int to) {
+			identifiers[to] = identifiers[from];
+		}
+
+		@Override
+		void clearIdentifier(int slot) {
+		}
+
+		@Override
+		void resize(int capacity) {
+			final long[] oldIdentifiers = identifiers;
+			final Object[] oldValues = values;
+			final EntityPersister[] oldPersisters = persisters;
+			identifiers = new long[capacity];
+			values = new Object[capacity];
+			persisters = new EntityPersister[capacity];
+			final int mask = capacity - 1;
+			for ( int i = 0; i < oldValues.length; i++ ) {
+				if ( oldValues[i] != null ) {
+					int slot = slotOf( oldIdentifiers[i], mask );
+					while ( values[slot] != null ) {
+						slot = ( slot + 1 ) & mask;
+					}
+					identifiers[slot] = oldIdentifiers[i];
+					values[slot] = oldValues[i];
+					persisters[slot] = oldPersisters[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * The entries of an entity hierarchy with any other kind of identifier, compared
+	 * using the identifier {@link Type}, just like {@link EntityKey#equals}
+	 */
+	private static final class ObjectPartition extends Partition {
+		private final Type identifierType;
+		private final SessionFactoryImplementor factory;
+		private Object[] identifiers = new Object[MIN_CAPACITY];
+		// the EntityKey hash codes, to avoid re-computing them when resizing
+		private int[] hashCodes = new int[MIN_CAPACITY];
+
+		private ObjectPartition(EntityPersister persister) {
+			this.identifierType = persister.getIdentifierType();
+			this.factory = persister.getFactory();
+		}
+
+		@Override
+		int find(EntityKey key) {
+			final int hashCode = key.hashCode();
+			final Object identifier = key.getIdentifier();
+			final int mask = values.length - 1;
+			int slot = mix( hashCode ) & mask;
+			while ( values[slot] != null ) {
+				if ( hashCodes[slot] == hashCode
+						&& identifierType.isEqual( identifiers[slot], identifier, factory ) ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		@Override
+		Object put(EntityKey key, Object value) {
+			final int slot = find( key );
+			if ( slot >= 0 ) {
+				final Object previous = values[slot];
+				values[slot] = value;
+				persisters[slot] = key.getPersister();
+				return previous;
+			}
+			final int hashCode = key.hashCode();
+			final int mask = values.length - 1;
+			int free = mix( hashCode ) & mask;
+			while ( values[free] != null ) {
+				free = ( free + 1 ) & mask;
+			}
+			identifiers[free] = key.getIdentifier();
+			hashCodes[free] = hashCode;
+			values[free] = value;
+			persisters[free] = key.getPersister();
+			grow();
+			return null;
+		}
+
+		@Override
+		EntityKey keyAt(int slot) {
+			return new EntityKey( identifiers[slot], persisters[slot] );
+		}
+
+		@Override
+		int homeSlotOf(int slot, int mask) {
+			return mix( hashCodes[slot] ) & mask;
+		}
+
+		@Override
+		void moveIdentifier(int from, int to) {
+			identifiers[to] = identifiers[from];
+			hashCodes[to] = hashCodes[from];
+		}
+
+		@Override
+		void clearIdentifier(int slot) {
+			identifiers[slot] = null;
+		}
+
+		@Override
+		void resize(int capacity) {
+			final Object[] oldIdentifiers = identifiers;
+			final int[] oldHashCodes = hashCodes;
+			final Object[] oldValues = values;
+			final EntityPersister[] oldPersisters = persisters;
+			identifiers = new Object[capacity];
+			hashCodes = new int[capacity];
+			values = new Object[capacity];
+			persisters = new EntityPersister[capacity];
+			final int mask = capacity - 1;
+			for ( int i = 0; i < oldValues.length; i++ ) {
+				if ( oldValues[i] != null ) {
+					int slot = mix( oldHashCodes[i] ) & mask;
+					while ( values[slot] != null ) {
+						slot = ( slot + 1 ) & mask;
+					}
+					identifiers[slot] = oldIdentifiers[i];
+					hashCodes[slot] = oldHashCodes[i];
+					values[slot] = oldValues[i];
+					persisters[slot] = oldPersisters[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Iterates over the occupied slots of all partitions
+	 */
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private final Iterator<Partition> partitions = partitionsByRootEntityName.values().iterator();
+		private final int expectedModCount = modCount;
+		private Partition partition;
+		private int slot;
+
+		SlotIterator() {
+			advance();
+		}
+
+		abstract T element(Partition partition, int slot);
+
+		private void advance() {
+			while ( true ) {
+				if ( partition != null ) {
+					final Object[] values = partition.values;
+					while ( ++slot < values.length ) {
+						if ( values[slot] != null ) {
+							return;
+						}
+					}
+				}
+				if ( !partitions.hasNext() ) {
+					partition = null;
+					return;
+				}
+				partition = partitions.next();
+				slot = -1;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return partition != null;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( partition == null ) {
+				throw new NoSuchElementException();
+			}
+			final T element = element( partition, slot );
+			advance();
+			return element;
+		}
+	}
+}
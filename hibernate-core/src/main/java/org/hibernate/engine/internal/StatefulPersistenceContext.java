@@ -103,7 +103,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private Map<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -113,7 +113,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -163,6 +163,15 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.entityEntryContext = new EntityEntryContext( this );
 	}
 
+	private Map<EntityKey, Object> createEntityKeyMap(int size) {
+		if ( session.getFactory().getSessionFactoryOptions().isPersistenceContextCompactStorageEnabled() ) {
+			return new CompactEntityKeyMap();
+		}
+		else {
+			return CollectionHelper.mapOfSize( size );
+		}
+	}
+
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
 		if ( proxiesByKey == null ) {
 			proxiesByKey = new ConcurrentReferenceHashMap<>(
@@ -313,7 +322,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = createEntityKeyMap( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -383,7 +392,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = createEntityKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -766,7 +775,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = createEntityKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -1671,7 +1680,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.createEntityKeyMap( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1710,7 +1719,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = rtn.createEntityKeyMap( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -134,7 +134,7 @@ public abstract class AbstractBatchImpl implements Batch {
 	}
 
 	private PreparedStatement buildBatchStatement(String sql, boolean callable) {
-		return jdbcCoordinator.getStatementPreparer().prepareStatement( sql, callable );
+		return jdbcCoordinator.getStatementPreparer().prepareBatchStatement( sql, callable );
 	}
 
 	@Override
@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.Set;
+
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.jdbc.Expectation;
 
@@ -18,6 +20,8 @@ public class BasicBatchKey implements BatchKey {
 	private final String comparison;
 	private final int statementCount;
 	private final Expectation expectation;
+	private final Set<String> tableNames;
+	private final Set<String> referencedTableNames;
 
 	/**
 	 * Constructs a BasicBatchKey
@@ -26,9 +30,29 @@ public class BasicBatchKey implements BatchKey {
 	 * @param expectation The expectation for the batch
 	 */
 	public BasicBatchKey(String comparison, Expectation expectation) {
+		this( comparison, expectation, null, null );
+	}
+
+	/**
+	 * Constructs a BasicBatchKey for a batch which may be pipelined
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param tableNames The tables written by the batch
+	 * @param referencedTableNames The tables referenced by foreign keys of the written tables
+	 *
+	 * @see BatchKey#getTableNames()
+	 */
+	public BasicBatchKey(
+			String comparison,
+			Expectation expectation,
+			Set<String> tableNames,
+			Set<String> referencedTableNames) {
 		this.comparison = comparison;
 		this.statementCount = 1;
 		this.expectation = expectation;
+		this.tableNames = tableNames;
+		this.referencedTableNames = referencedTableNames;
 	}
 
 	@Override
@@ -41,6 +65,16 @@ public class BasicBatchKey implements BatchKey {
 		return statementCount;
 	}
 
+	@Override
+	public Set<String> getTableNames() {
+		return tableNames;
+	}
+
+	@Override
+	public Set<String> getReferencedTableNames() {
+		return referencedTableNames;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.jdbc.batch.spi;
 
+import java.util.Set;
+
 import org.hibernate.jdbc.Expectation;
 
 /**
@@ -29,4 +31,29 @@ public interface BatchKey {
 	 * @return The expectations
 	 */
 	Expectation getExpectation();
+
+	/**
+	 * The (qualified) names of the tables written by the statements of the batch.
+	 * <p>
+	 * Along with {@link #getReferencedTableNames()}, this allows the batch to be
+	 * kept open while other batches are in progress, see
+	 * {@link org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING}.
+	 *
+	 * @return The table names, or {@code null} if not known, in which case the
+	 * batch is always executed before another batch is started
+	 */
+	default Set<String> getTableNames() {
+		return null;
+	}
+
+	/**
+	 * The (qualified) names of the tables referenced by foreign keys of the
+	 * {@linkplain #getTableNames() tables written} by the batch, whose rows
+	 * therefore have to be written before the rows of this batch.
+	 *
+	 * @return The table names, or {@code null} if not known
+	 */
+	default Set<String> getReferencedTableNames() {
+		return null;
+	}
 }
@@ -15,10 +15,13 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -58,6 +61,8 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -89,6 +94,7 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 0 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -98,6 +104,7 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout( acquisitionTimeout );
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -340,13 +347,16 @@ public class DriverManagerConnectionProviderImpl
 	public static class PooledConnections {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// waiting for a released connection parks the thread, it does not pin a virtual thread
+		private final LinkedBlockingQueue<Connection> availableConnections = new LinkedBlockingQueue<>();
+		private final Lock growthLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
 
 		private volatile boolean primed;
 
@@ -360,6 +370,7 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
@@ -415,20 +426,54 @@ public class DriverManagerConnectionProviderImpl
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
+					conn = createConnectionIfPossible();
+					if ( conn == null ) {
+						conn = awaitAvailableConnection();
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available!" );
 				}
 				conn = prepareConnection( conn );
 			} while ( conn == null );
 			return conn;
 		}
 
+		private Connection createConnectionIfPossible() {
+			growthLock.lock();
+			try {
+				if ( allConnections.size() < maxSize ) {
+					final Connection connection = connectionCreator.createConnection();
+					allConnections.add( connection );
+					return connection;
+				}
+				return null;
+			}
+			finally {
+				growthLock.unlock();
+			}
+		}
+
+		private Connection awaitAvailableConnection() {
+			if ( acquisitionTimeout > 0 ) {
+				final Connection connection;
+				try {
+					connection = availableConnections.poll( acquisitionTimeout, TimeUnit.MILLISECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+				}
+				if ( connection != null ) {
+					return connection;
+				}
+				// a connection might have been closed while waiting
+				final Connection newConnection = createConnectionIfPossible();
+				if ( newConnection != null ) {
+					return newConnection;
+				}
+			}
+			throw new HibernateException(
+					"The internal connection pool has reached its maximum size and no connection is currently available!" );
+		}
+
 		protected Connection prepareConnection(Connection conn) {
 			Exception t = null;
 			try {
@@ -519,6 +564,7 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -540,6 +586,11 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -13,6 +13,10 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
@@ -20,6 +24,7 @@ import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -60,6 +65,14 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * When pipelining, the open batches (including the current one), in the
+	 * order in which they have to be executed
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING
+	 */
+	private transient LinkedHashMap<BatchKey, Batch> pipelinedBatches;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -161,7 +174,11 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		LOG.tracev( "Closing JDBC container [{0}]", this );
 		Connection connection;
 		try {
-			if ( currentBatch != null ) {
+			if ( isPipelining() ) {
+				LOG.closingUnreleasedBatch();
+				releasePipelinedBatches();
+			}
+			else if ( currentBatch != null ) {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
@@ -178,18 +195,113 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
 			}
+			else if ( canPipeline( currentBatch.getKey() ) && canPipeline( key ) ) {
+				return switchPipelinedBatch( key );
+			}
 			else {
-				currentBatch.execute();
-				currentBatch.release();
+				executeBatch();
 			}
 		}
 		currentBatch = batchBuilder().buildBatch( key, this );
 		return currentBatch;
 	}
 
+	private boolean canPipeline(BatchKey key) {
+		return flushDepth > 0
+				&& key.getTableNames() != null
+				&& key.getReferencedTableNames() != null
+				&& sessionFactory().getSessionFactoryOptions().isJdbcBatchPipeliningEnabled();
+	}
+
+	boolean isPipelining() {
+		return pipelinedBatches != null && !pipelinedBatches.isEmpty();
+	}
+
+	/**
+	 * Make the batch for the given key the current one, keeping the other
+	 * batches open.  Batches are executed in the order they were opened in,
+	 * so an open batch can only be re-used if its rows do not depend on the
+	 * rows of any batch opened after it.
+	 */
+	private Batch switchPipelinedBatch(BatchKey key) {
+		if ( pipelinedBatches == null ) {
+			pipelinedBatches = new LinkedHashMap<>();
+		}
+		if ( pipelinedBatches.isEmpty() ) {
+			pipelinedBatches.put( currentBatch.getKey(), currentBatch );
+		}
+
+		Batch batch = pipelinedBatches.get( key );
+		if ( batch != null && dependsOnLaterBatch( key ) ) {
+			LOG.debugf( "Executing pipelined batches before re-using batch with dependencies [%s]", key );
+			executeBatch();
+			batch = null;
+		}
+		if ( batch == null ) {
+			batch = batchBuilder().buildBatch( key, this );
+			batch.addObserver( new PipelinedBatchObserver( key ) );
+			pipelinedBatches.put( key, batch );
+		}
+		currentBatch = batch;
+		return batch;
+	}
+
+	private boolean dependsOnLaterBatch(BatchKey key) {
+		final Set<String> referencedTableNames = key.getReferencedTableNames();
+		boolean later = false;
+		for ( BatchKey pipelinedKey : pipelinedBatches.keySet() ) {
+			if ( later ) {
+				if ( !Collections.disjoint( referencedTableNames, pipelinedKey.getTableNames() ) ) {
+					return true;
+				}
+			}
+			else if ( pipelinedKey.equals( key ) ) {
+				later = true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Executes the batches opened before the given one, as its rows might depend on theirs
+	 */
+	private void executePipelinedBatchesBefore(BatchKey key) {
+		for ( Batch batch : pipelinedBatches.values() ) {
+			if ( batch.getKey().equals( key ) ) {
+				return;
+			}
+			batch.execute();
+		}
+	}
+
+	private void releasePipelinedBatches() {
+		try {
+			final Iterator<Batch> batches = pipelinedBatches.values().iterator();
+			while ( batches.hasNext() ) {
+				final Batch batch = batches.next();
+				batches.remove();
+				batch.release();
+			}
+		}
+		finally {
+			pipelinedBatches.clear();
+			currentBatch = null;
+		}
+	}
+
 	@Override
 	public void executeBatch() {
-		if ( currentBatch != null ) {
+		if ( isPipelining() ) {
+			try {
+				for ( Batch batch : pipelinedBatches.values() ) {
+					batch.execute();
+				}
+			}
+			finally {
+				releasePipelinedBatches();
+			}
+		}
+		else if ( currentBatch != null ) {
 			currentBatch.execute();
 			// needed?
 			currentBatch.release();
@@ -198,11 +310,37 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void abortBatch() {
-		if ( currentBatch != null ) {
+		if ( isPipelining() ) {
+			releasePipelinedBatches();
+		}
+		else if ( currentBatch != null ) {
 			currentBatch.release();
 		}
 	}
 
+	/**
+	 * Makes sure that the batches opened before a pipelined batch are executed
+	 * before it, when it is executed because it is full
+	 */
+	private class PipelinedBatchObserver implements BatchObserver {
+		private final BatchKey key;
+
+		private PipelinedBatchObserver(BatchKey key) {
+			this.key = key;
+		}
+
+		@Override
+		public void batchExplicitlyExecuted() {
+		}
+
+		@Override
+		public void batchImplicitlyExecuted() {
+			if ( isPipelining() ) {
+				executePipelinedBatchesBefore( key );
+			}
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -81,6 +81,15 @@ class StatementPreparerImpl implements StatementPreparer {
 		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
 	}
 
+	@Override
+	public PreparedStatement prepareBatchStatement(String sql, boolean isCallable) {
+		// the pipelined batches are executed in order by the JdbcCoordinator
+		if ( !jdbcCoordinator.isPipelining() ) {
+			jdbcCoordinator.executeBatch();
+		}
+		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
+	}
+
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
 		return new StatementPreparationTemplate( sql ) {
 			@Override
@@ -44,6 +44,22 @@ public interface StatementPreparer {
 	 */
 	PreparedStatement prepareStatement(String sql, boolean isCallable);
 
+	/**
+	 * Prepare a statement for a {@link org.hibernate.engine.jdbc.batch.spi.Batch}.
+	 * <p>
+	 * Unlike {@link #prepareStatement(String, boolean)}, this does not need to execute
+	 * the batches kept open by {@link org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING}
+	 * before preparing the statement.
+	 *
+	 * @param sql The SQL the statement to be prepared
+	 * @param isCallable Whether to prepare as a callable statement.
+	 *
+	 * @return the prepared statement
+	 */
+	default PreparedStatement prepareBatchStatement(String sql, boolean isCallable) {
+		return prepareStatement( sql, isCallable );
+	}
+
 	/**
 	 * Prepare an INSERT statement, specifying how auto-generated (by the database) keys should be handled.  Really this
 	 * is a boolean, but JDBC opted to define it instead using 2 int constants:<ul>
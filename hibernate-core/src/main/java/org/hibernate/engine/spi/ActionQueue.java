@@ -33,6 +33,7 @@ import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
+import org.hibernate.action.internal.EntityIdentityInsertBatch;
 import org.hibernate.action.internal.EntityInsertAction;
 import org.hibernate.action.internal.EntityUpdateAction;
 import org.hibernate.action.internal.OrphanRemovalAction;
@@ -607,25 +608,34 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
+			// consecutive batchable IDENTITY inserts of the same entity type are executed together
+			EntityIdentityInsertBatch identityInsertBatch = null;
 			for ( E e : list ) {
+				if ( e instanceof EntityIdentityInsertAction && ( (EntityIdentityInsertAction) e ).isBatchable() ) {
+					final EntityIdentityInsertAction insert = (EntityIdentityInsertAction) e;
+					if ( identityInsertBatch == null || !identityInsertBatch.add( insert ) ) {
+						if ( identityInsertBatch != null ) {
+							executeIdentityInsertBatch( identityInsertBatch );
+						}
+						identityInsertBatch = new EntityIdentityInsertBatch( insert, session.getConfiguredJdbcBatchSize() );
+					}
+					continue;
+				}
+				if ( identityInsertBatch != null ) {
+					executeIdentityInsertBatch( identityInsertBatch );
+					identityInsertBatch = null;
+				}
+
 				try {
 					e.execute();
 				}
 				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
-					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
-					}
+					registerTransactionCompletionProcesses( e );
 				}
 			}
+			if ( identityInsertBatch != null ) {
+				executeIdentityInsertBatch( identityInsertBatch );
+			}
 		}
 		finally {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
@@ -641,6 +651,32 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void executeIdentityInsertBatch(EntityIdentityInsertBatch batch) {
+		try {
+			batch.execute();
+		}
+		finally {
+			for ( EntityIdentityInsertAction insert : batch.getActions() ) {
+				registerTransactionCompletionProcesses( insert );
+			}
+		}
+	}
+
+	private void registerTransactionCompletionProcesses(Executable executable) {
+		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if ( executable.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set<String> spaces) {
 		return spaces.toArray(StringHelper.EMPTY_STRINGS);
 	}
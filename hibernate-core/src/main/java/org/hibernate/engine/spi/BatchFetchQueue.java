@@ -6,8 +6,11 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -201,56 +204,76 @@ public class BatchFetchQueue {
 			return ids;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
 		// TODO: this needn't exclude subclasses...
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			final BatchSlots slots = new BatchSlots( ids );
+			// the candidates are checked against the second-level cache in bulk
+			final List<EntityKey> candidates = new ArrayList<>( maxBatchSize );
 			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					// the first id found after the given id
-					return ids;
-				}
-
-				if ( entityDescriptor.getEntityPersister().getIdentifierType()
-						.isEqual( loadingId, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-						ids[i++] = key.getIdentifier();
+				if ( persister.getIdentifierType().isEqual( loadingId, key.getIdentifier() ) ) {
+					if ( addUncachedEntities( candidates, persister, slots ) || slots.markLoadingKey() ) {
+						// the first id found after the given id
+						return ids;
 					}
 				}
-
-				if ( i == maxBatchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
+				else {
+					candidates.add( key );
+					if ( candidates.size() == maxBatchSize && addUncachedEntities( candidates, persister, slots ) ) {
+						return ids;
 					}
 				}
 			}
+			addUncachedEntities( candidates, persister, slots );
 		}
 
 		//we ran out of ids to try
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * Add the ids of the candidate entities which are not in the second-level cache
+	 * to the batch, and clear the candidates
+	 *
+	 * @return {@code true} if the batch is complete
+	 */
+	private boolean addUncachedEntities(List<EntityKey> candidates, EntityPersister persister, BatchSlots slots) {
+		if ( candidates.isEmpty() ) {
+			return false;
+		}
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		final boolean checkCache = session.getCacheMode().isGetEnabled() && persister.canReadFromCache();
+		final List<Object> cacheKeys = checkCache ? new ArrayList<>( candidates.size() ) : null;
+		Map<Object, Object> cached = Collections.emptyMap();
+		if ( checkCache ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+			for ( EntityKey candidate : candidates ) {
+				cacheKeys.add(
+						cache.generateCacheKey(
+								candidate.getIdentifier(),
+								persister,
+								session.getFactory(),
+								session.getTenantIdentifier()
+						)
+				);
+			}
+			cached = CacheHelper.fromSharedCache( session, cacheKeys, cache );
+		}
+		try {
+			for ( int i = 0; i < candidates.size(); i++ ) {
+				if ( !checkCache || !cached.containsKey( cacheKeys.get( i ) ) ) {
+					if ( slots.add( candidates.get( i ).getIdentifier() ) ) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+		finally {
+			candidates.clear();
 		}
-		return false;
 	}
 
 
@@ -312,13 +335,12 @@ public class BatchFetchQueue {
 			return keys;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final BatchSlots slots = new BatchSlots( keys );
+			// the candidates are checked against the second-level cache in bulk
+			final List<Object> candidates = new ArrayList<>( batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection<?> collection = me.getValue();
@@ -338,10 +360,6 @@ public class BatchFetchQueue {
 					continue;
 				}
 
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
-
 				final boolean isEqual = collectionPersister.getKeyType().isEqual(
 						id,
 						ce.getLoadedKey(),
@@ -349,38 +367,108 @@ public class BatchFetchQueue {
 				);
 
 				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
+					if ( addUncachedCollections( candidates, collectionPersister, slots ) || slots.markLoadingKey() ) {
+						return keys; //the first key found after the given key
+					}
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
+				else {
+					candidates.add( ce.getLoadedKey() );
+					if ( candidates.size() == batchSize
+							&& addUncachedCollections( candidates, collectionPersister, slots ) ) {
+						return keys;
+					}
 				}
+			}
+			addUncachedCollections( candidates, collectionPersister, slots );
+		}
+		return keys; //we ran out of keys to try
+	}
 
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
+	/**
+	 * Add the candidate collection keys which are not in the second-level cache to the
+	 * batch, and clear the candidates
+	 *
+	 * @return {@code true} if the batch is complete
+	 */
+	private boolean addUncachedCollections(List<Object> candidates, CollectionPersister persister, BatchSlots slots) {
+		if ( candidates.isEmpty() ) {
+			return false;
+		}
+		final SharedSessionContractImplementor session = context.getSession();
+		final boolean checkCache = session.getCacheMode().isGetEnabled() && persister.hasCache();
+		final List<Object> cacheKeys = checkCache ? new ArrayList<>( candidates.size() ) : null;
+		Map<Object, Object> cached = Collections.emptyMap();
+		if ( checkCache ) {
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			for ( Object candidate : candidates ) {
+				cacheKeys.add(
+						cache.generateCacheKey(
+								candidate,
+								persister,
+								session.getFactory(),
+								session.getTenantIdentifier()
+						)
+				);
+			}
+			cached = CacheHelper.fromSharedCache( session, cacheKeys, cache );
+		}
+		try {
+			for ( int i = 0; i < candidates.size(); i++ ) {
+				if ( !checkCache || !cached.containsKey( cacheKeys.get( i ) ) ) {
+					if ( slots.add( candidates.get( i ) ) ) {
+						return true;
 					}
 				}
 			}
+			return false;
+		}
+		finally {
+			candidates.clear();
 		}
-		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
+	/**
+	 * The slots of a batch, the first one being reserved for the key being loaded.
+	 * When all slots are used, filling starts again from the second slot, until the
+	 * keys registered after the key being loaded have filled up the batch.
+	 */
+	private static final class BatchSlots {
+		private final Object[] keys;
+		private int i = 1;
+		private int end = -1;
+		private boolean checkForEnd;
+
+		private BatchSlots(Object[] keys) {
+			this.keys = keys;
+		}
+
+		/**
+		 * @return {@code true} if the batch was already complete
+		 */
+		private boolean markLoadingKey() {
+			if ( checkForEnd && i == end ) {
+				return true;
+			}
+			end = i;
+			return false;
+		}
+
+		/**
+		 * @return {@code true} if the batch was already complete
+		 */
+		private boolean add(Object key) {
+			if ( checkForEnd && i == end ) {
+				return true;
+			}
+			keys[i++] = key;
+			if ( i == keys.length ) {
+				i = 1; // end of array, start filling again from start
+				if ( end != -1 ) {
+					checkForEnd = true;
+				}
+			}
+			return false;
 		}
-		return false;
 	}
 
 }
@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.Filter;
@@ -610,6 +612,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.prepareForQueryExecution( requiresTxn );
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> operation) {
+		return delegate.executeAsync( operation );
+	}
+
 	@Override
 	public void joinTransaction() {
 		delegate.joinTransaction();
@@ -829,6 +836,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.find( entityClass, primaryKey );
 	}
 
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityClass, Object primaryKey) {
+		return delegate.findAsync( entityClass, primaryKey );
+	}
+
 	@Override
 	public <T> T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
 		return delegate.find( entityClass, primaryKey, properties );
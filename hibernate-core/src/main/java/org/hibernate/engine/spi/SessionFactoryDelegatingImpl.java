@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import javax.naming.NamingException;
 import javax.naming.Reference;
 import jakarta.persistence.EntityGraph;
@@ -364,6 +365,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getWrapperOptions();
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
 	@Override
 	public <T> List<EntityGraph<? super T>> findEntityGraphsByType(Class<T> entityClass) {
 		return delegate.findEntityGraphsByType(entityClass);
@@ -7,6 +7,7 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.HibernateException;
@@ -141,6 +142,14 @@ public interface SessionFactoryImplementor
 
 	WrapperOptions getWrapperOptions();
 
+	/**
+	 * The {@link Executor} running the asynchronous operations of the sessions
+	 * opened by this SessionFactory
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 */
+	Executor getAsyncExecutor();
+
 	/**
 	 * Contract for resolving this SessionFactory on deserialization
 	 */
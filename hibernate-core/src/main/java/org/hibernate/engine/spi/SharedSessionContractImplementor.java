@@ -8,6 +8,8 @@ package org.hibernate.engine.spi;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.TransactionRequiredException;
 
@@ -479,4 +481,24 @@ public interface SharedSessionContractImplementor
 	 */
 	void afterOperation(boolean success);
 
+	/**
+	 * Run the given operation on the {@link SessionFactoryImplementor#getAsyncExecutor()
+	 * asynchronous executor}.
+	 * <p>
+	 * The asynchronous operations of a session are run one after the other, in the
+	 * order in which they were submitted, so that the session is never used by two
+	 * threads at the same time.  The caller must not use the session until the
+	 * returned stage is completed, and any operation of the session performed on
+	 * another thread while an operation is pending results in an
+	 * {@link IllegalStateException}.
+	 * <p>
+	 * The operation cannot take part in a JTA transaction, nor in any other
+	 * transaction bound to the calling thread.
+	 *
+	 * @param operation The operation to run
+	 *
+	 * @return A stage completed with the result of the operation
+	 */
+	<T> CompletionStage<T> executeAsync(Supplier<T> operation);
+
 }
@@ -241,7 +241,8 @@ public abstract class AbstractSaveEventListener<C>
 		Object id = key == null ? null : key.getIdentifier();
 
 		boolean inTrx = source.isTransactionInProgress();
-		boolean shouldDelayIdentityInserts = !inTrx && !requiresImmediateIdAccess;
+		boolean shouldDelayIdentityInserts = !requiresImmediateIdAccess
+				&& ( !inTrx || useIdentityColumn && shouldBatchIdentityInserts( persister, source ) );
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
 		// Put a placeholder in entries, so we don't recurse back and try to save() the
@@ -320,6 +321,16 @@ public abstract class AbstractSaveEventListener<C>
 		return id;
 	}
 
+	/**
+	 * Whether IDENTITY inserts should be queued until the flush, even in a transaction,
+	 * so that they can be executed in JDBC batches
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private static boolean shouldBatchIdentityInserts(EntityPersister persister, EventSource source) {
+		return source.getConfiguredJdbcBatchSize() > 1 && persister.canBatchIdentityInserts();
+	}
+
 	private AbstractEntityInsertAction addInsertAction(
 			Object[] values,
 			Object id,
@@ -72,17 +72,23 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
+				final StatisticsImplementor statistics = source.getFactory().getStatistics();
+				final boolean timed = statistics.isStatisticsEnabled() && statistics.isHistogramsEnabled();
+				final long startTime = timed ? System.nanoTime() : 0;
+
 				ceLoadedPersister.initialize( ce.getLoadedKey(), source );
 				handlePotentiallyEmptyCollection( collection, source, ce, ceLoadedPersister );
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection initialized" );
 				}
 
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.fetchCollection(
 							ceLoadedPersister.getRole()
 					);
+					if ( timed ) {
+						statistics.collectionFetchTime( ceLoadedPersister.getRole(), System.nanoTime() - startTime );
+					}
 				}
 			}
 		}
@@ -588,6 +588,10 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	protected Object loadFromDatasource(
 			final LoadEvent event,
 			final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
+		final boolean timed = statistics.isStatisticsEnabled() && statistics.isHistogramsEnabled();
+		final long startTime = timed ? System.nanoTime() : 0;
+
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -606,10 +610,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			entity = ( (HibernateProxy) entity ).getHibernateLazyInitializer().getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
 		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
 			statistics.fetchEntity( event.getEntityClassName() );
 		}
+		if ( timed ) {
+			statistics.entityLoadTime( persister.getEntityName(), System.nanoTime() - startTime );
+		}
 
 		return entity;
 	}
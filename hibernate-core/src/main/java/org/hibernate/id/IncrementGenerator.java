@@ -12,6 +12,8 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -53,6 +55,7 @@ public class IncrementGenerator implements StandardGenerator {
 	private String sql;
 
 	private IntegralDataTypeHolder previousValueHolder;
+	private final Lock lock = new ReentrantLock();
 
 	/**
 	 * @deprecated Exposed for tests only.
@@ -63,11 +66,17 @@ public class IncrementGenerator implements StandardGenerator {
 	}
 
 	@Override
-	public synchronized Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		if ( sql != null ) {
-			initializePreviousValueHolder( session );
+	public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+		lock.lock();
+		try {
+			if ( sql != null ) {
+				initializePreviousValueHolder( session );
+			}
+			return previousValueHolder.makeValueThenIncrement();
+		}
+		finally {
+			lock.unlock();
 		}
-		return previousValueHolder.makeValueThenIncrement();
 	}
 
 	@Override
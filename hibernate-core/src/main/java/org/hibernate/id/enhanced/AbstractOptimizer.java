@@ -6,6 +6,9 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.hibernate.HibernateException;
 
 /**
@@ -17,6 +20,13 @@ public abstract class AbstractOptimizer implements Optimizer {
 	protected final Class returnClass;
 	protected final int incrementSize;
 
+	/**
+	 * Guards the generation state.  A lock is used rather than {@code synchronized}
+	 * so that a virtual thread waiting for the database to hand out the next value
+	 * does not pin its carrier thread.
+	 */
+	protected final Lock generationLock = new ReentrantLock();
+
 	/**
 	 * Construct an optimizer
 	 *
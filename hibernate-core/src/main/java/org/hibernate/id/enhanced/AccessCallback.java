@@ -6,6 +6,8 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.id.IntegralDataTypeHolder;
 
 /**
@@ -28,4 +30,30 @@ public interface AccessCallback {
 	 * @return The tenant identifier
 	 */
 	String getTenantIdentifier();
+
+	/**
+	 * Obtain a callback retrieving values from the same underlying source, but through
+	 * a connection of its own rather than through the session, so that it can be used
+	 * from another thread, even after the session is closed.
+	 *
+	 * @return The isolated callback, or {@code null} if values can only be retrieved
+	 * through the session.
+	 *
+	 * @see PooledLoPrefetchOptimizer
+	 */
+	default AccessCallback getIsolatedCallback() {
+		return null;
+	}
+
+	/**
+	 * Obtain the executor on which this callback may be used in the background, which
+	 * is bound to the lifecycle of the {@link org.hibernate.SessionFactory}.
+	 *
+	 * @return The executor, or {@code null} if this callback may not be used in the background.
+	 *
+	 * @see #getIsolatedCallback()
+	 */
+	default Executor getBackgroundExecutor() {
+		return null;
+	}
 }
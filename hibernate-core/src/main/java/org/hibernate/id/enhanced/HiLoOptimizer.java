@@ -77,27 +77,33 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.lastSourceValue == null ) {
-			// first call, so initialize ourselves.  we need to read the database
-			// value and set up the 'bucket' boundaries
-			generationState.lastSourceValue = callback.getNextValue();
-			while ( generationState.lastSourceValue.lt( 1 ) ) {
+	public Serializable generate(AccessCallback callback) {
+		generationLock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+			if ( generationState.lastSourceValue == null ) {
+				// first call, so initialize ourselves.  we need to read the database
+				// value and set up the 'bucket' boundaries
 				generationState.lastSourceValue = callback.getNextValue();
+				while ( generationState.lastSourceValue.lt( 1 ) ) {
+					generationState.lastSourceValue = callback.getNextValue();
+				}
+				// upperLimit defines the upper end of the bucket values
+				generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
+				// initialize value to the lower end of the bucket
+				generationState.value = generationState.upperLimit.copy().subtract( incrementSize );
+			}
+			else if ( ! generationState.upperLimit.gt( generationState.value ) ) {
+				generationState.lastSourceValue = callback.getNextValue();
+				generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
+				generationState.value = generationState.upperLimit.copy().subtract( incrementSize );
 			}
-			// upperLimit defines the upper end of the bucket values
-			generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-			// initialize value to the lower end of the bucket
-			generationState.value = generationState.upperLimit.copy().subtract( incrementSize );
+			return generationState.value.makeValueThenIncrement();
 		}
-		else if ( ! generationState.upperLimit.gt( generationState.value ) ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-			generationState.value = generationState.upperLimit.copy().subtract( incrementSize );
+		finally {
+			generationLock.unlock();
 		}
-		return generationState.value.makeValueThenIncrement();
 	}
 
 	private GenerationState noTenantState;
@@ -136,8 +142,14 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().lastSourceValue;
+	public IntegralDataTypeHolder getLastSourceValue() {
+		generationLock.lock();
+		try {
+			return noTenantGenerationState().lastSourceValue;
+		}
+		finally {
+			generationLock.unlock();
+		}
 	}
 
 	@Override
@@ -152,8 +164,14 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	 *
 	 * @return Value for property 'lastValue'.
 	 */
-	public synchronized IntegralDataTypeHolder getLastValue() {
-		return noTenantGenerationState().value.copy().decrement();
+	public IntegralDataTypeHolder getLastValue() {
+		generationLock.lock();
+		try {
+			return noTenantGenerationState().value.copy().decrement();
+		}
+		finally {
+			generationLock.unlock();
+		}
 	}
 
 	/**
@@ -163,7 +181,13 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	 *
 	 * @return Value for property 'upperLimit'.
 	 */
-	public synchronized IntegralDataTypeHolder getHiValue() {
-		return noTenantGenerationState().upperLimit;
+	public IntegralDataTypeHolder getHiValue() {
+		generationLock.lock();
+		try {
+			return noTenantGenerationState().upperLimit;
+		}
+		finally {
+			generationLock.unlock();
+		}
 	}
 }
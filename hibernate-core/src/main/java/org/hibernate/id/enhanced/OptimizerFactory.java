@@ -92,6 +92,33 @@ public class OptimizerFactory {
 		return optimizer;
 	}
 
+	/**
+	 * Builds an optimizer, applying the optimizer settings found in the given configuration settings
+	 *
+	 * @param type The optimizer type, either a short-hand name or the {@link Optimizer} class name.
+	 * @param returnClass The generated value java type
+	 * @param incrementSize The increment size.
+	 * @param explicitInitialValue The user supplied initial-value (-1 indicates the user did not specify).
+	 * @param configSettings The configuration settings
+	 *
+	 * @return The built optimizer
+	 */
+	public static Optimizer buildOptimizer(
+			String type,
+			Class returnClass,
+			int incrementSize,
+			long explicitInitialValue,
+			Properties configSettings) {
+		final Optimizer optimizer = buildOptimizer( type, returnClass, incrementSize, explicitInitialValue );
+		if ( PooledLoPrefetchOptimizer.class.isInstance( optimizer ) ) {
+			final String prefetchThreshold = configSettings.getProperty( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD );
+			if ( StringHelper.isNotEmpty( prefetchThreshold ) ) {
+				( (PooledLoPrefetchOptimizer) optimizer ).injectPrefetchThreshold( Double.parseDouble( prefetchThreshold ) );
+			}
+		}
+		return optimizer;
+	}
+
 	/**
 	 * Determine the optimizer to use when there was not one explicitly specified.
 	 */
@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which requests the next block of values in the
+ * background, once a {@linkplain org.hibernate.cfg.AvailableSettings#POOLED_OPTIMIZER_PREFETCH_THRESHOLD
+ * fraction} of the current block has been handed out, so that generation does not have to
+ * wait for the database when the current block runs out.
+ * <p/>
+ * The next block is requested through the {@linkplain AccessCallback#getIsolatedCallback() isolated
+ * callback} of the structure, on a connection of its own, and on the
+ * {@linkplain AccessCallback#getBackgroundExecutor() executor} of the SessionFactory.  If there is
+ * none (e.g. for tenant-specific values), or if the request failed, the next block is requested
+ * synchronously, just like {@link PooledLoOptimizer} does.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoPrefetchOptimizer extends AbstractOptimizer {
+	private static final Logger log = Logger.getLogger( PooledLoPrefetchOptimizer.class );
+
+	/**
+	 * The default fraction of a block handed out before the next block is requested
+	 */
+	public static final double DEFAULT_PREFETCH_THRESHOLD = 0.5;
+
+	private static class GenerationState {
+		// last value read from db source
+		private IntegralDataTypeHolder lastSourceValue;
+		// the current generator value
+		private IntegralDataTypeHolder value;
+		// the value at which we'll request the next block
+		private IntegralDataTypeHolder prefetchValue;
+		// the value at which we'll switch to the next block
+		private IntegralDataTypeHolder upperLimitValue;
+		// the pending request for the next block, if one
+		private CompletableFuture<IntegralDataTypeHolder> nextSourceValue;
+	}
+
+	private int prefetchOffset;
+
+	/**
+	 * Constructs a PooledLoPrefetchOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoPrefetchOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		injectPrefetchThreshold( DEFAULT_PREFETCH_THRESHOLD );
+		log.debugf(
+				"Creating pooled optimizer (lo) with prefetch [incrementSize=%s; returnClass=%s]",
+				incrementSize,
+				returnClass.getName()
+		);
+	}
+
+	/**
+	 * Reports the fraction of a block which is to be handed out before the next block is requested.
+	 *
+	 * @param prefetchThreshold The fraction, between {@code 0} (exclusive) and {@code 1} (inclusive)
+	 */
+	public void injectPrefetchThreshold(double prefetchThreshold) {
+		if ( prefetchThreshold <= 0 || prefetchThreshold > 1 ) {
+			throw new HibernateException( "prefetch threshold must be greater than 0 and at most 1 : " + prefetchThreshold );
+		}
+		this.prefetchOffset = Math.max( 1, (int) Math.ceil( incrementSize * prefetchThreshold ) );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		generationLock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+			if ( generationState.lastSourceValue == null
+					|| ! generationState.value.lt( generationState.upperLimitValue ) ) {
+				generationState.lastSourceValue = nextSourceValue( generationState, callback );
+				generationState.upperLimitValue = generationState.lastSourceValue.copy().add( incrementSize );
+				generationState.prefetchValue = generationState.lastSourceValue.copy().add( prefetchOffset );
+				generationState.value = generationState.lastSourceValue.copy();
+				// handle cases where initial-value is less that one (hsqldb for instance).
+				while ( generationState.value.lt( 1 ) ) {
+					generationState.value.increment();
+				}
+			}
+
+			final Serializable value = generationState.value.makeValueThenIncrement();
+			if ( generationState.nextSourceValue == null
+					&& ! generationState.value.lt( generationState.prefetchValue ) ) {
+				generationState.nextSourceValue = prefetch( callback );
+			}
+			return value;
+		}
+		finally {
+			generationLock.unlock();
+		}
+	}
+
+	private static CompletableFuture<IntegralDataTypeHolder> prefetch(AccessCallback callback) {
+		final AccessCallback isolatedCallback = callback.getIsolatedCallback();
+		if ( isolatedCallback == null ) {
+			return null;
+		}
+		final Executor executor = isolatedCallback.getBackgroundExecutor();
+		if ( executor == null ) {
+			return null;
+		}
+		try {
+			return CompletableFuture.supplyAsync( isolatedCallback::getNextValue, executor );
+		}
+		catch (RejectedExecutionException e) {
+			// the SessionFactory is being closed
+			log.debug( "Unable to request the next block of values in the background", e );
+			return null;
+		}
+	}
+
+	private static IntegralDataTypeHolder nextSourceValue(GenerationState generationState, AccessCallback callback) {
+		final CompletableFuture<IntegralDataTypeHolder> nextSourceValue = generationState.nextSourceValue;
+		if ( nextSourceValue != null ) {
+			generationState.nextSourceValue = null;
+			try {
+				return nextSourceValue.join();
+			}
+			catch (RuntimeException e) {
+				log.debug( "Unable to request the next block of values in the background", e.getCause() );
+			}
+		}
+		return callback.getNextValue();
+	}
+
+	private GenerationState noTenantState;
+	private Map<String,GenerationState> tenantSpecificState;
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			if ( noTenantState == null ) {
+				noTenantState = new GenerationState();
+			}
+			return noTenantState;
+		}
+		else {
+			if ( tenantSpecificState == null ) {
+				tenantSpecificState = new ConcurrentHashMap<>();
+			}
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		}
+	}
+
+	private GenerationState noTenantGenerationState() {
+		if ( noTenantState == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return noTenantState;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantGenerationState().lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
@@ -6,9 +6,12 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.boot.model.relational.Database;
@@ -17,10 +20,16 @@ import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 
 import org.jboss.logging.Logger;
 
@@ -43,7 +52,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 	protected QualifiedName physicalSequenceName;
 
 	public SequenceStructure(
@@ -73,7 +82,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -95,7 +104,7 @@ public class SequenceStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -137,6 +146,59 @@ public class SequenceStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback getIsolatedCallback() {
+				// the bootstrap connections are not tenant-specific
+				if ( session.getTenantIdentifier() != null ) {
+					return null;
+				}
+				return buildIsolatedCallback( session.getFactory() );
+			}
+		};
+	}
+
+	private AccessCallback buildIsolatedCallback(SessionFactoryImplementor sessionFactory) {
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final IsolationDelegate isolationDelegate = new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
+		);
+
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork(
+						new AbstractReturningWork<IntegralDataTypeHolder>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								accessCounter.incrementAndGet();
+								jdbcServices.getSqlStatementLogger().logStatement( sql, FormatStyle.BASIC.getFormatter() );
+								try ( PreparedStatement st = connection.prepareStatement( sql );
+										ResultSet rs = st.executeQuery() ) {
+									rs.next();
+									final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+									value.initialize( rs, 1 );
+									if ( LOG.isDebugEnabled() ) {
+										LOG.debugf( "Sequence value obtained in isolation: %s", value.makeValue() );
+									}
+									return value;
+								}
+							}
+						},
+						true
+				);
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+
+			@Override
+			public Executor getBackgroundExecutor() {
+				return sessionFactory.getAsyncExecutor();
+			}
 		};
 	}
 
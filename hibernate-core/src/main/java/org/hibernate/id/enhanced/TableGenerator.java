@@ -14,6 +14,8 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -34,8 +36,11 @@ import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.ExportableColumn;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -48,6 +53,7 @@ import org.hibernate.jdbc.AbstractReturningWork;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.PrimaryKey;
 import org.hibernate.mapping.Table;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.BasicTypeRegistry;
 import org.hibernate.type.StandardBasicTypes;
@@ -208,7 +214,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	private String updateQuery;
 
 	private Optimizer optimizer;
-	private long accessCount;
+	private final AtomicLong accessCount = new AtomicLong();
 
 	private String contributor;
 
@@ -310,7 +316,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	 * @return Value for property 'tableAccessCount'.
 	 */
 	public final long getTableAccessCount() {
-		return accessCount;
+		return accessCount.get();
 	}
 
 	/**
@@ -349,7 +355,8 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 				optimizationStrategy,
 				identifierType.getReturnedClass(),
 				incrementSize,
-				optimizerInitialValue
+				optimizerInitialValue,
+				params
 		);
 
 		contributor = params.getProperty( CONTRIBUTOR_NAME );
@@ -528,95 +535,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 					@Override
 					public IntegralDataTypeHolder getNextValue() {
 						return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-								new AbstractReturningWork<IntegralDataTypeHolder>() {
-									@Override
-									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										final IntegralDataTypeHolder value = makeValue();
-										int rows;
-										do {
-
-											try (PreparedStatement selectPS = prepareStatement(
-													connection,
-													selectQuery,
-													statementLogger,
-													statsCollector
-											)) {
-												selectPS.setString( 1, segmentValue );
-												final ResultSet selectRS = executeQuery( selectPS, statsCollector );
-												if ( !selectRS.next() ) {
-													long initializationValue;
-													if ( storeLastUsedValue ) {
-														initializationValue = initialValue - 1;
-													}
-													else {
-														initializationValue = initialValue;
-													}
-													value.initialize( initializationValue );
-
-													try (PreparedStatement insertPS = prepareStatement(
-															connection,
-															insertQuery,
-															statementLogger,
-															statsCollector
-													)) {
-														LOG.tracef( "binding parameter [%s] - [%s]", 1, segmentValue );
-														insertPS.setString( 1, segmentValue );
-														value.bind( insertPS, 2 );
-														executeUpdate( insertPS, statsCollector );
-													}
-												}
-												else {
-													int defaultValue;
-													if ( storeLastUsedValue ) {
-														defaultValue = 0;
-													}
-													else {
-														defaultValue = 1;
-													}
-													value.initialize( selectRS, defaultValue );
-												}
-												selectRS.close();
-											}
-											catch (SQLException e) {
-												LOG.unableToReadOrInitHiValue( e );
-												throw e;
-											}
-
-
-											try (PreparedStatement updatePS = prepareStatement(
-													connection,
-													updateQuery,
-													statementLogger,
-													statsCollector
-											)) {
-												final IntegralDataTypeHolder updateValue = value.copy();
-												if ( optimizer.applyIncrementSizeToSourceValues() ) {
-													updateValue.add( incrementSize );
-												}
-												else {
-													updateValue.increment();
-												}
-												updateValue.bind( updatePS, 1 );
-												value.bind( updatePS, 2 );
-												updatePS.setString( 3, segmentValue );
-												rows = executeUpdate( updatePS, statsCollector );
-											}
-											catch (SQLException e) {
-												LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
-												throw e;
-											}
-										}
-										while ( rows == 0 );
-
-										accessCount++;
-										if ( storeLastUsedValue ) {
-											return value.increment();
-										}
-										else {
-											return value;
-										}
-									}
-								},
+								buildWork( statementLogger, statsCollector ),
 								true
 						);
 					}
@@ -625,10 +544,142 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 					public String getTenantIdentifier() {
 						return session.getTenantIdentifier();
 					}
+
+					@Override
+					public AccessCallback getIsolatedCallback() {
+						// the bootstrap connections are not tenant-specific
+						if ( session.getTenantIdentifier() != null ) {
+							return null;
+						}
+						return buildIsolatedCallback( session.getFactory(), statementLogger );
+					}
 				}
 		);
 	}
 
+	private AccessCallback buildIsolatedCallback(
+			SessionFactoryImplementor sessionFactory,
+			SqlStatementLogger statementLogger) {
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final IsolationDelegate isolationDelegate = new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
+		);
+		// not executed on behalf of any session
+		final SessionEventListenerManager statsCollector = new SessionEventListenerManagerImpl();
+
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork( buildWork( statementLogger, statsCollector ), true );
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+
+			@Override
+			public Executor getBackgroundExecutor() {
+				return sessionFactory.getAsyncExecutor();
+			}
+		};
+	}
+
+	private AbstractReturningWork<IntegralDataTypeHolder> buildWork(
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				final IntegralDataTypeHolder value = makeValue();
+				int rows;
+				do {
+
+					try (PreparedStatement selectPS = prepareStatement(
+							connection,
+							selectQuery,
+							statementLogger,
+							statsCollector
+					)) {
+						selectPS.setString( 1, segmentValue );
+						final ResultSet selectRS = executeQuery( selectPS, statsCollector );
+						if ( !selectRS.next() ) {
+							long initializationValue;
+							if ( storeLastUsedValue ) {
+								initializationValue = initialValue - 1;
+							}
+							else {
+								initializationValue = initialValue;
+							}
+							value.initialize( initializationValue );
+
+							try (PreparedStatement insertPS = prepareStatement(
+									connection,
+									insertQuery,
+									statementLogger,
+									statsCollector
+							)) {
+								LOG.tracef( "binding parameter [%s] - [%s]", 1, segmentValue );
+								insertPS.setString( 1, segmentValue );
+								value.bind( insertPS, 2 );
+								executeUpdate( insertPS, statsCollector );
+							}
+						}
+						else {
+							int defaultValue;
+							if ( storeLastUsedValue ) {
+								defaultValue = 0;
+							}
+							else {
+								defaultValue = 1;
+							}
+							value.initialize( selectRS, defaultValue );
+						}
+						selectRS.close();
+					}
+					catch (SQLException e) {
+						LOG.unableToReadOrInitHiValue( e );
+						throw e;
+					}
+
+
+					try (PreparedStatement updatePS = prepareStatement(
+							connection,
+							updateQuery,
+							statementLogger,
+							statsCollector
+					)) {
+						final IntegralDataTypeHolder updateValue = value.copy();
+						if ( optimizer.applyIncrementSizeToSourceValues() ) {
+							updateValue.add( incrementSize );
+						}
+						else {
+							updateValue.increment();
+						}
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						updatePS.setString( 3, segmentValue );
+						rows = executeUpdate( updatePS, statsCollector );
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
+						throw e;
+					}
+				}
+				while ( rows == 0 );
+
+				accessCount.incrementAndGet();
+				if ( storeLastUsedValue ) {
+					return value.increment();
+				}
+				else {
+					return value;
+				}
+			}
+		};
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
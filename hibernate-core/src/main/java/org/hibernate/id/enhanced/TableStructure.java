@@ -10,6 +10,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.LockMode;
@@ -25,8 +27,11 @@ import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.ExportableColumn;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -34,6 +39,7 @@ import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.AbstractReturningWork;
 import org.hibernate.mapping.Table;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 import org.hibernate.type.StandardBasicTypes;
 
 import org.jboss.logging.Logger;
@@ -64,7 +70,7 @@ public class TableStructure implements DatabaseStructure {
 	private String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 
 	public TableStructure(
@@ -101,7 +107,7 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -133,56 +139,7 @@ public class TableStructure implements DatabaseStructure {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
 				return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-						new AbstractReturningWork<IntegralDataTypeHolder>() {
-							@Override
-							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final IntegralDataTypeHolder value = makeValue();
-								int rows;
-								do {
-									try (PreparedStatement selectStatement = prepareStatement(
-											connection,
-											selectQuery,
-											statementLogger,
-											statsCollector
-									)) {
-										final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
-										if ( !selectRS.next() ) {
-											final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch (SQLException sqle) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-
-
-									try (PreparedStatement updatePS = prepareStatement(
-											connection,
-											updateQuery,
-											statementLogger,
-											statsCollector
-									)) {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = executeUpdate( updatePS, statsCollector );
-									}
-									catch (SQLException e) {
-										LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
-										throw e;
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
-							}
-						},
+						buildWork( statementLogger, statsCollector ),
 						true
 				);
 			}
@@ -191,6 +148,99 @@ public class TableStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback getIsolatedCallback() {
+				// the bootstrap connections are not tenant-specific
+				if ( session.getTenantIdentifier() != null ) {
+					return null;
+				}
+				return buildIsolatedCallback( session.getFactory(), statementLogger );
+			}
+		};
+	}
+
+	private AccessCallback buildIsolatedCallback(
+			SessionFactoryImplementor sessionFactory,
+			SqlStatementLogger statementLogger) {
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final IsolationDelegate isolationDelegate = new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
+		);
+		// not executed on behalf of any session
+		final SessionEventListenerManager statsCollector = new SessionEventListenerManagerImpl();
+
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork( buildWork( statementLogger, statsCollector ), true );
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+
+			@Override
+			public Executor getBackgroundExecutor() {
+				return sessionFactory.getAsyncExecutor();
+			}
+		};
+	}
+
+	private AbstractReturningWork<IntegralDataTypeHolder> buildWork(
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				final IntegralDataTypeHolder value = makeValue();
+				int rows;
+				do {
+					try (PreparedStatement selectStatement = prepareStatement(
+							connection,
+							selectQuery,
+							statementLogger,
+							statsCollector
+					)) {
+						final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
+						if ( !selectRS.next() ) {
+							final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
+							LOG.error( err );
+							throw new IdentifierGenerationException( err );
+						}
+						value.initialize( selectRS, 1 );
+						selectRS.close();
+					}
+					catch (SQLException sqle) {
+						LOG.error( "could not read a hi value", sqle );
+						throw sqle;
+					}
+
+
+					try (PreparedStatement updatePS = prepareStatement(
+							connection,
+							updateQuery,
+							statementLogger,
+							statsCollector
+					)) {
+						final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+						final IntegralDataTypeHolder updateValue = value.copy().add( increment );
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						rows = executeUpdate( updatePS, statsCollector );
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
+						throw e;
+					}
+				} while ( rows == 0 );
+
+				accessCounter.incrementAndGet();
+
+				return value;
+			}
 		};
 	}
 
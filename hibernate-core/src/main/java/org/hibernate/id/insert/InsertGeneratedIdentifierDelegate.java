@@ -6,6 +6,8 @@
  */
 package org.hibernate.id.insert;
 
+import java.util.List;
+
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -52,4 +54,33 @@ public interface InsertGeneratedIdentifierDelegate {
 	 */
 	Object performInsert(String insertSQL, SharedSessionContractImplementor session, Binder binder);
 
+	/**
+	 * Can {@link #performBatchedInsert} execute the inserts as a single JDBC batch?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean supportsBatchedInsert() {
+		return false;
+	}
+
+	/**
+	 * Perform the indicated insert SQL statement once for each of the given binders and
+	 * determine the identifier values generated, in the order of the binders.
+	 * <p>
+	 * The default implementation performs the inserts one after the other.
+	 *
+	 * @param insertSQL The INSERT statement string
+	 * @param session The session in which we are operating
+	 * @param binders The param binders, one per inserted row
+	 *
+	 * @return The generated identifier values.
+	 */
+	default Object[] performBatchedInsert(String insertSQL, SharedSessionContractImplementor session, List<Binder> binders) {
+		final Object[] ids = new Object[ binders.size() ];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = performInsert( insertSQL, session, binders.get( i ) );
+		}
+		return ids;
+	}
+
 }
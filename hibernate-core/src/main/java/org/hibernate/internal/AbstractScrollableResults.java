@@ -6,7 +6,10 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
+
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
@@ -81,6 +84,23 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		return persistenceContext;
 	}
 
+	/**
+	 * Collect the keys of the entities loaded for the rows from now on
+	 *
+	 * @see #drainLoadedEntityKeys()
+	 */
+	public void collectLoadedEntityKeys() {
+		jdbcValuesSourceProcessingState.collectLoadedEntityKeys();
+	}
+
+	/**
+	 * The keys of the entities loaded for the rows read since the last call, if
+	 * {@linkplain #collectLoadedEntityKeys() collected}
+	 */
+	public List<EntityKey> drainLoadedEntityKeys() {
+		return jdbcValuesSourceProcessingState.drainLoadedEntityKeys();
+	}
+
 	protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
 	}
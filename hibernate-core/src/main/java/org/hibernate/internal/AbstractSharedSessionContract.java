@@ -14,7 +14,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.NamedNativeQuery;
 import jakarta.persistence.TransactionRequiredException;
@@ -156,6 +159,10 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 
+	// the last asynchronous operation submitted, and the thread running the current one
+	private transient volatile CompletableFuture<?> lastAsyncOperation;
+	private transient volatile Thread asyncOperationThread;
+
 	public AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
 		this.fastSessionServices = factory.getFastSessionServices();
@@ -346,6 +353,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		if ( closed && !waitingForAutoClose ) {
 			return;
 		}
+		checkNoPendingAsyncOperation();
 
 		try {
 			delayedAfterCompletion();
@@ -404,6 +412,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			}
 			throw new IllegalStateException( "Session/EntityManager is closed" );
 		}
+		// every operation checks whether the session is open, so this guards them all
+		checkNoPendingAsyncOperation();
 	}
 
 	@Override
@@ -418,6 +428,45 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> operation) {
+		if ( isClosed() ) {
+			throw new IllegalStateException( "Session/EntityManager is closed" );
+		}
+
+		final Supplier<T> confinedOperation = () -> {
+			asyncOperationThread = Thread.currentThread();
+			try {
+				return operation.get();
+			}
+			finally {
+				asyncOperationThread = null;
+			}
+		};
+
+		final CompletableFuture<?> previousOperation = lastAsyncOperation;
+		final CompletableFuture<T> result;
+		if ( previousOperation == null || previousOperation.isDone() ) {
+			result = CompletableFuture.supplyAsync( confinedOperation, factory.getAsyncExecutor() );
+		}
+		else {
+			// run after the previous operation, whether it failed or not
+			result = previousOperation.handle( (ignored, failure) -> null )
+					.thenApplyAsync( ignored -> confinedOperation.get(), factory.getAsyncExecutor() );
+		}
+		lastAsyncOperation = result;
+		return result;
+	}
+
+	protected void checkNoPendingAsyncOperation() {
+		final CompletableFuture<?> lastOperation = lastAsyncOperation;
+		if ( lastOperation != null
+				&& !lastOperation.isDone()
+				&& asyncOperationThread != Thread.currentThread() ) {
+			throw new IllegalStateException( "Session/EntityManager is in use by an asynchronous operation" );
+		}
+	}
+
 	protected void checkOpenOrWaitingForAutoClose() {
 		if ( !waitingForAutoClose ) {
 			checkOpen();
@@ -6,8 +6,13 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import org.hibernate.Filter;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
@@ -23,10 +28,31 @@ public class FilterJdbcParameter {
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
 
+	private final String filterName;
+	private final String parameterName;
+	private final int valueIndex;
+
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * @param filterName The name of the filter defining the parameter
+	 * @param parameterName The name of the filter parameter
+	 * @param valueIndex The index of the value if the parameter is multi-valued, -1 otherwise
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int valueIndex) {
 		this.parameter = new JdbcParameterImpl( jdbcMapping );
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.valueIndex = valueIndex;
 	}
 
 	public JdbcParameter getParameter() {
@@ -41,6 +67,49 @@ public class FilterJdbcParameter {
 		return new JdbcParameterBindingImpl( jdbcMapping, jdbcParameterValue );
 	}
 
+	/**
+	 * The binding for the value currently set on the given enabled filters, which
+	 * may differ from the value this parameter was created with when the SQL is
+	 * re-used from a cached query plan.
+	 * <p>
+	 * The values of a multi-valued filter parameter are resolved only once per
+	 * execution into {@code resolvedValues}, keyed by filter and parameter name,
+	 * so that every parameter created for one of those values just indexes into
+	 * the resolved array.
+	 */
+	public JdbcParameterBinding getBinding(Map<String, Filter> enabledFilters, Map<String, Object[]> resolvedValues) {
+		if ( filterName == null ) {
+			return getBinding();
+		}
+		final FilterImpl enabledFilter = (FilterImpl) enabledFilters.get( filterName );
+		if ( enabledFilter == null ) {
+			return getBinding();
+		}
+		final Object value;
+		if ( valueIndex >= 0 ) {
+			final Object[] values = resolvedValues.computeIfAbsent(
+					filterName + '.' + parameterName,
+					key -> toArray( (Iterable<?>) enabledFilter.getParameter( parameterName ) )
+			);
+			value = values[valueIndex];
+		}
+		else {
+			value = enabledFilter.getParameter( parameterName );
+		}
+		return new JdbcParameterBindingImpl( jdbcMapping, value );
+	}
+
+	private static Object[] toArray(Iterable<?> values) {
+		if ( values instanceof Collection ) {
+			return ( (Collection<?>) values ).toArray();
+		}
+		final List<Object> list = new ArrayList<>();
+		for ( Object value : values ) {
+			list.add( value );
+		}
+		return list.toArray();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
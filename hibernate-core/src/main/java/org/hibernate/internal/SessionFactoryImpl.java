@@ -20,6 +20,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Supplier;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
@@ -47,6 +51,7 @@ import org.hibernate.SessionFactoryObserver;
 import org.hibernate.StatelessSession;
 import org.hibernate.StatelessSessionBuilder;
 import org.hibernate.boot.cfgxml.spi.CfgXmlAccessService;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.model.relational.internal.SqlStringGenerationContextImpl;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -176,6 +181,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 
 	private volatile DelayedDropAction delayedDropAction;
 
+	// lazily initialized, the ExecutorService is only set if it was created by this SessionFactory
+	private transient volatile Executor asyncExecutor;
+	private transient ExecutorService defaultAsyncExecutor;
+
 	// todo : move to MetamodelImpl
 	private final transient Map<String,IdentifierGenerator> identifierGenerators;
 	private final transient Map<String, FilterDefinition> filters;
@@ -193,6 +202,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			SessionFactoryOptions options) {
 		LOG.debug( "Building session factory" );
 
+		final BootstrapPhaseTimer timer = new BootstrapPhaseTimer();
+
 		final TypeConfiguration typeConfiguration = bootMetamodel.getTypeConfiguration();
 		final MetadataBuildingContext bootModelBuildingContext = typeConfiguration.getMetadataBuildingContext();
 		final BootstrapContext bootstrapContext = bootModelBuildingContext.getBootstrapContext();
@@ -278,38 +289,47 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		final IntegratorObserver integratorObserver = new IntegratorObserver();
 		this.observer.addObserver( integratorObserver );
 		try {
-			for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
-				integrator.integrate( bootMetamodel, bootstrapContext, this );
-				integratorObserver.integrators.add( integrator );
-			}
+			timer.time(
+					"integrators",
+					() -> {
+						for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
+							integrator.integrate( bootMetamodel, bootstrapContext, this );
+							integratorObserver.integrators.add( integrator );
+						}
+					}
+			);
 			//Generators:
 			this.identifierGenerators = new HashMap<>();
-			bootMetamodel.getEntityBindings().stream().filter( model -> !model.isInherited() ).forEach( model -> {
-				final IdentifierGenerator generator = model.getIdentifier().createIdentifierGenerator(
-						bootstrapContext.getIdentifierGeneratorFactory(),
-						jdbcServices.getJdbcEnvironment().getDialect(),
-						(RootClass) model
-				);
-				generator.initialize( sqlStringGenerationContext );
-				identifierGenerators.put( model.getEntityName(), generator );
-			} );
-			bootMetamodel.validate();
+			timer.time(
+					"identifier generators",
+					() -> bootMetamodel.getEntityBindings().stream().filter( model -> !model.isInherited() ).forEach( model -> {
+						final IdentifierGenerator generator = model.getIdentifier().createIdentifierGenerator(
+								bootstrapContext.getIdentifierGeneratorFactory(),
+								jdbcServices.getJdbcEnvironment().getDialect(),
+								(RootClass) model
+						);
+						generator.initialize( sqlStringGenerationContext );
+						identifierGenerators.put( model.getEntityName(), generator );
+					} )
+			);
+			timer.time( "validate boot model", bootMetamodel::validate );
 
 			LOG.debug( "Instantiated session factory" );
 
-			primeSecondLevelCacheRegions( bootMetamodel );
+			timer.time( "second-level cache regions", () -> primeSecondLevelCacheRegions( bootMetamodel ) );
 
-			this.queryEngine = QueryEngine.from( this, bootMetamodel );
+			this.queryEngine = timer.time( "create query engine", () -> QueryEngine.from( this, bootMetamodel ) );
 
 			final RuntimeMetamodelsImpl runtimeMetamodels = new RuntimeMetamodelsImpl();
 			this.runtimeMetamodels = runtimeMetamodels;
 			runtimeMetamodels.finishInitialization(
 					bootMetamodel,
 					bootstrapContext,
-					this
+					this,
+					timer
 			);
 
-			this.queryEngine.prepare( this, bootMetamodel, bootstrapContext );
+			timer.time( "prepare query engine", () -> this.queryEngine.prepare( this, bootMetamodel, bootstrapContext ) );
 
 			if ( options.isNamedQueryStartupCheckingEnabled() ) {
 				final Map<String, HibernateException> errors = queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine );
@@ -328,11 +348,14 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 				}
 			}
 
-			SchemaManagementToolCoordinator.process(
-					bootMetamodel,
-					serviceRegistry,
-					properties,
-					action -> SessionFactoryImpl.this.delayedDropAction = action
+			timer.time(
+					"schema management",
+					() -> SchemaManagementToolCoordinator.process(
+							bootMetamodel,
+							serviceRegistry,
+							properties,
+							action -> SessionFactoryImpl.this.delayedDropAction = action
+					)
 			);
 
 			currentSessionContext = buildCurrentSessionContext();
@@ -391,6 +414,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			bootMetamodel.getMetadataBuildingOptions().getReflectionManager().reset();
 
 			this.entityNameResolver = new CoordinatingEntityNameResolver( this, getInterceptor() );
+
+			timer.logSummary();
 		}
 		catch (Exception e) {
 			for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
@@ -767,6 +792,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			}
 
 			status = Status.CLOSING;
+
+			if ( defaultAsyncExecutor != null ) {
+				defaultAsyncExecutor.shutdown();
+			}
 		}
 
 		try {
@@ -951,6 +980,49 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		return status == Status.CLOSED;
 	}
 
+	@Override
+	public Executor getAsyncExecutor() {
+		Executor executor = asyncExecutor;
+		if ( executor == null ) {
+			synchronized (this) {
+				executor = asyncExecutor;
+				if ( executor == null ) {
+					if ( status != Status.OPEN ) {
+						throw new IllegalStateException( "EntityManagerFactory is closed" );
+					}
+					executor = sessionFactoryOptions.getAsyncExecutor();
+					if ( executor == null ) {
+						defaultAsyncExecutor = createDefaultAsyncExecutor();
+						executor = defaultAsyncExecutor;
+					}
+					asyncExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	private static ExecutorService createDefaultAsyncExecutor() {
+		try {
+			// virtual threads are only available as of Java 21
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			LOG.debug( "Virtual threads are not available, asynchronous operations will use platform threads" );
+			return Executors.newCachedThreadPool( new AsyncExecutorThreadFactory() );
+		}
+	}
+
+	private static class AsyncExecutorThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Async Executor Thread" );
+			return thread;
+		}
+	}
+
 	private transient StatisticsImplementor statistics;
 
 	public StatisticsImplementor getStatistics() {
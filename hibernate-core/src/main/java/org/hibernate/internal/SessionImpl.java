@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.persistence.metamodel.Metamodel;
 import org.hibernate.CacheMode;
@@ -382,6 +383,7 @@ public class SessionImpl
 			return;
 		}
 
+		checkNoPendingAsyncOperation();
 		closeWithoutOpenChecks();
 	}
 
@@ -2295,6 +2297,11 @@ public class SessionImpl
 		return find( entityClass, primaryKey, null, null );
 	}
 
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityClass, Object primaryKey) {
+		return executeAsync( () -> find( entityClass, primaryKey ) );
+	}
+
 	@Override
 	public <T> T find(Class<T> entityClass, Object primaryKey, Map<String, Object> properties) {
 		return find( entityClass, primaryKey, null, properties );
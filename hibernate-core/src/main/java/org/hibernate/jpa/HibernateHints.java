@@ -143,4 +143,21 @@ public interface HibernateHints {
 	 * to a function rather than a call to a procedure
 	 */
 	String HINT_CALLABLE_FUNCTION = "org.hibernate.callableFunction";
+
+	/**
+	 * Hint for specifying that the entities loaded for a row of a
+	 * {@linkplain Query#stream() streamed} query result should be evicted
+	 * from the persistence context when the stream advances to the next
+	 * row, so that a long stream does not fill up the persistence context.
+	 * <p>
+	 * Only the entities of the current row stay managed, and those of the
+	 * last row are evicted when the end of the stream is reached.  Changes
+	 * made to evicted entities are not flushed.  Entities which were already
+	 * managed when the stream was opened are never evicted.
+	 *
+	 * @see org.hibernate.Session#evict
+	 *
+	 * @since 6.0
+	 */
+	String HINT_STREAM_EVICTION = "org.hibernate.streamEviction";
 }
@@ -37,6 +37,7 @@ import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
@@ -66,6 +67,7 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoin;
 import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
@@ -128,6 +130,7 @@ public class LoaderSelectBuilder {
 				Collections.singletonList( restrictedPart ),
 				cachedDomainResult,
 				numberOfKeysToLoad,
+				null,
 				loadQueryInfluencers,
 				lockOptions,
 				determineGraphTraversalState( loadQueryInfluencers ),
@@ -201,6 +204,46 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement based on matching the elements of an array bound
+	 * as a single parameter, so that the SQL does not depend on the number of keys
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Single-column part to base the where-clause restriction on
+	 * @param arrayJdbcMapping The JdbcMapping of the array parameter
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcParameterConsumer Consumer for the JdbcParameter of the array
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see MultiKeyLoadHelper
+	 */
+	public static SelectStatement createSelectByArrayParameter(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			JdbcMapping arrayJdbcMapping,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			SessionFactoryImplementor sessionFactory) {
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				Collections.singletonList( restrictedPart ),
+				null,
+				-1,
+				arrayJdbcMapping,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				jdbcParameterConsumer
+		);
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -243,6 +286,7 @@ public class LoaderSelectBuilder {
 	private final List<ModelPart> restrictedParts;
 	private final DomainResult cachedDomainResult;
 	private final int numberOfKeysToLoad;
+	private final JdbcMapping arrayJdbcMapping;
 	private final boolean forceIdentifierSelection;
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
@@ -261,6 +305,7 @@ public class LoaderSelectBuilder {
 			List<ModelPart> restrictedParts,
 			DomainResult cachedDomainResult,
 			int numberOfKeysToLoad,
+			JdbcMapping arrayJdbcMapping,
 			LoadQueryInfluencers loadQueryInfluencers,
 			LockOptions lockOptions,
 			EntityGraphTraversalState entityGraphTraversalState,
@@ -272,6 +317,7 @@ public class LoaderSelectBuilder {
 		this.restrictedParts = restrictedParts;
 		this.cachedDomainResult = cachedDomainResult;
 		this.numberOfKeysToLoad = numberOfKeysToLoad;
+		this.arrayJdbcMapping = arrayJdbcMapping;
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.lockOptions = lockOptions;
 		this.entityGraphTraversalState = entityGraphTraversalState;
@@ -296,6 +342,7 @@ public class LoaderSelectBuilder {
 				restrictedParts,
 				cachedDomainResult,
 				numberOfKeysToLoad,
+				null,
 				loadQueryInfluencers,
 				lockOptions != null ? lockOptions : LockOptions.NONE,
 				determineGraphTraversalState( loadQueryInfluencers ),
@@ -525,7 +572,13 @@ public class LoaderSelectBuilder {
 										)
 
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( arrayJdbcMapping != null ) {
+							final JdbcParameter jdbcParameter = new JdbcParameterImpl( arrayJdbcMapping );
+							jdbcParameterConsumer.accept( jdbcParameter );
+
+							rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, jdbcParameter ) );
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
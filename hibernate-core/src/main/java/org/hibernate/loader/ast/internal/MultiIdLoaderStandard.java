@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -34,6 +35,7 @@ import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -127,6 +129,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( ids, coerce, lockOptions, loadOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -172,7 +175,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cachedEntries
 					);
 				}
 
@@ -243,43 +247,72 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
 				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
 				sessionFactory
 		);
 
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		if ( arrayJdbcMapping != null ) {
+			// a single array parameter, whatever the number of ids
+			jdbcParameters = new ArrayList<>( 1 );
+			sqlAst = LoaderSelectBuilder.createSelectByArrayParameter(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					arrayJdbcMapping,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
-
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
-
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					Clause.WHERE,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
+		if ( arrayJdbcMapping != null ) {
+			jdbcParameterBindings.addBinding(
+					jdbcParameters.get( 0 ),
+					MultiKeyLoadHelper.createArrayBinding( arrayJdbcMapping, idsInBatch )
 			);
 		}
+		else {
+			int offset = 0;
+
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						Clause.WHERE,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
+		}
 		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
@@ -337,6 +370,40 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		);
 	}
 
+	/**
+	 * Look up the entities which might be found in the second-level cache with a single
+	 * bulk access to the cache, instead of one access per id
+	 */
+	private Map<EntityKey, Object> getFromSecondLevelCache(
+			Object[] ids,
+			boolean coerce,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() || !entityDescriptor.canReadFromCache() ) {
+			return null;
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<EntityKey> entityKeys = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			final EntityKey entityKey = new EntityKey(
+					coerce ? entityDescriptor.getIdentifierMapping().getJavaType().coerce( id, session ) : id,
+					entityDescriptor
+			);
+			// entities found in the Session do not need the cache
+			if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+				entityKeys.add( entityKey );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				(EventSource) session,
+				lockOptions.getLockMode(),
+				entityDescriptor,
+				entityKeys
+		);
+	}
+
 	private List<T> performSingleMultiLoad(Object id, LockOptions lockOptions, SharedSessionContractImplementor session) {
 		T loaded = (T) entityDescriptor.load( id, null, lockOptions, session );
 		return Collections.singletonList( loaded );
@@ -369,6 +436,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			final List<Object> nonManagedIds = new ArrayList<>();
 
 			final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+			final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( ids, coerce, lockOptions, loadOptions, session );
 			for ( int i = 0; i < ids.length; i++ ) {
 				final Object id;
 				if ( coerce ) {
@@ -412,7 +480,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cachedEntries
 					);
 				}
 
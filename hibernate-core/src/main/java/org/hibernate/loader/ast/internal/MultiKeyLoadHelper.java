@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.type.descriptor.java.ArrayJavaType;
+import org.hibernate.type.descriptor.jdbc.ArrayJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeJavaClassMappings;
+import org.hibernate.type.internal.BasicTypeImpl;
+
+/**
+ * Helper for loaders restricting on many keys at once, deciding whether the keys are
+ * bound as a single array parameter rather than as an {@code IN} list.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_KEY_LOAD_ARRAY_PARAMETER
+ */
+public class MultiKeyLoadHelper {
+	private MultiKeyLoadHelper() {
+	}
+
+	/**
+	 * Resolve the JdbcMapping of an array parameter holding values of the given
+	 * restricted part, or {@code null} if the keys should be restricted with an
+	 * {@code IN} list instead.
+	 * <p>
+	 * Arrays are only used for single-column keys whose Java type is the one JDBC
+	 * itself uses for their JDBC type, so that the key values can be bound as-is.
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(ModelPart restrictedPart, SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().multiKeyLoadArrayParameterEnabled()
+				|| !sessionFactory.getJdbcServices().getDialect().supportsArrayParameters() ) {
+			return null;
+		}
+
+		final List<JdbcMapping> jdbcMappings = restrictedPart.getJdbcMappings();
+		if ( jdbcMappings.size() != 1 ) {
+			return null;
+		}
+
+		final JdbcMapping keyJdbcMapping = jdbcMappings.get( 0 );
+		final Class<?> jdbcJavaClass = JdbcTypeJavaClassMappings.INSTANCE.determineJavaClassForJdbcTypeCode(
+				keyJdbcMapping.getJdbcType().getJdbcTypeCode()
+		);
+		if ( jdbcJavaClass != keyJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass() ) {
+			return null;
+		}
+
+		return new BasicTypeImpl<>(
+				new ArrayJavaType( keyJdbcMapping.getJavaTypeDescriptor() ),
+				new ArrayJdbcType( keyJdbcMapping.getJdbcType() )
+		);
+	}
+
+	/**
+	 * Create the binding of the array parameter to the given keys
+	 */
+	public static JdbcParameterBinding createArrayBinding(JdbcMapping arrayJdbcMapping, List<?> keys) {
+		return new JdbcParameterBindingImpl( arrayJdbcMapping, keys.toArray() );
+	}
+}
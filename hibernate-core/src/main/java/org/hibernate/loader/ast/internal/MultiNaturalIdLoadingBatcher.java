@@ -20,6 +20,7 @@ import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -55,6 +56,8 @@ public class MultiNaturalIdLoadingBatcher {
 	}
 
 	private final EntityMappingType entityDescriptor;
+	private final int batchSize;
+	private final JdbcMapping arrayJdbcMapping;
 
 	private final SelectStatement sqlSelect;
 	private final List<JdbcParameter> jdbcParameters;
@@ -72,21 +75,37 @@ public class MultiNaturalIdLoadingBatcher {
 			LockOptions lockOptions,
 			SessionFactoryImplementor sessionFactory) {
 		this.entityDescriptor = entityDescriptor;
+		this.batchSize = batchSize;
+		this.arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( restrictedPart, sessionFactory );
 
 		jdbcParameters = new ArrayList<>( batchSize );
-		sqlSelect = LoaderSelectBuilder.createSelect(
-				entityDescriptor,
-				// return the full entity rather than parts
-				null,
-				restrictedPart,
-				// no "cached" DomainResult
-				null,
-				batchSize,
-				loadQueryInfluencers,
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
+		if ( arrayJdbcMapping != null ) {
+			// a single array parameter, whatever the number of natural-ids
+			sqlSelect = LoaderSelectBuilder.createSelectByArrayParameter(
+					entityDescriptor,
+					restrictedPart,
+					arrayJdbcMapping,
+					loadQueryInfluencers,
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+		else {
+			sqlSelect = LoaderSelectBuilder.createSelect(
+					entityDescriptor,
+					// return the full entity rather than parts
+					null,
+					restrictedPart,
+					// no "cached" DomainResult
+					null,
+					batchSize,
+					loadQueryInfluencers,
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
 
 		this.keyValueResolver = keyValueResolver;
 
@@ -98,6 +117,10 @@ public class MultiNaturalIdLoadingBatcher {
 	}
 
 	public <E> List<E> multiLoad(Object[] naturalIdValues, MultiNaturalIdLoadOptions options, SharedSessionContractImplementor session) {
+		if ( arrayJdbcMapping != null ) {
+			return multiLoadByArray( naturalIdValues, session );
+		}
+
 		final ArrayList<E> multiLoadResults = CollectionHelper.arrayList( naturalIdValues.length );
 		final JdbcParameterBindingsImpl jdbcParamBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 
@@ -144,6 +167,33 @@ public class MultiNaturalIdLoadingBatcher {
 		return multiLoadResults;
 	}
 
+	private <E> List<E> multiLoadByArray(Object[] naturalIdValues, SharedSessionContractImplementor session) {
+		final ArrayList<E> multiLoadResults = CollectionHelper.arrayList( naturalIdValues.length );
+		final JdbcParameterBindingsImpl jdbcParamBindings = new JdbcParameterBindingsImpl( 1 );
+		final List<Object> keysInBatch = new ArrayList<>( batchSize );
+
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			final Object bindValue = keyValueResolver.resolveKeyToLoad( naturalIdValues[ i ], session );
+			if ( bindValue != null ) {
+				keysInBatch.add( bindValue );
+			}
+
+			if ( keysInBatch.size() == batchSize || ( i == naturalIdValues.length - 1 && !keysInBatch.isEmpty() ) ) {
+				// no need to pad the last batch, the statement is the same for any number of keys
+				jdbcParamBindings.addBinding(
+						jdbcParameters.get( 0 ),
+						MultiKeyLoadHelper.createArrayBinding( arrayJdbcMapping, keysInBatch )
+				);
+				final List<E> batchResults = performLoad( jdbcParamBindings, session );
+				multiLoadResults.addAll( batchResults );
+				jdbcParamBindings.clear();
+				keysInBatch.clear();
+			}
+		}
+
+		return multiLoadResults;
+	}
+
 	private <E> List<E> performLoad(JdbcParameterBindings jdbcParamBindings, SharedSessionContractImplementor session) {
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
 
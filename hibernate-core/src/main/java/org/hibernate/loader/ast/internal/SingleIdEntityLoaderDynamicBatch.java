@@ -7,6 +7,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.LockOptions;
@@ -19,6 +20,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -93,22 +95,42 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
 				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIds,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				session.getFactory()
+				sessionFactory
 		);
 
-		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+
+		final SelectStatement sqlAst;
+		if ( arrayJdbcMapping != null ) {
+			// a single array parameter, whatever the number of ids
+			sqlAst = LoaderSelectBuilder.createSelectByArrayParameter(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					arrayJdbcMapping,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+		else {
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIds,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+		}
+
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
@@ -117,18 +139,26 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 				getLoadable().getIdentifierMapping().getJdbcTypeCount()
 		);
 
-		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					idsToLoad[i],
-					Clause.WHERE,
-					offset,
-					getLoadable().getIdentifierMapping(),
-					jdbcParameters,
-					session
+		if ( arrayJdbcMapping != null ) {
+			jdbcParameterBindings.addBinding(
+					jdbcParameters.get( 0 ),
+					MultiKeyLoadHelper.createArrayBinding( arrayJdbcMapping, Arrays.asList( idsToLoad ) )
 			);
 		}
-		assert offset == jdbcParameters.size();
+		else {
+			int offset = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						idsToLoad[i],
+						Clause.WHERE,
+						offset,
+						getLoadable().getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
+		}
 
 		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory
 				.buildSelectTranslator( sessionFactory, sqlAst )
@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.entity;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -180,19 +184,131 @@ public class CacheEntityLoaderHelper {
 		);
 
 		if ( entity != null ) {
-			//PostLoad is needed for EJB3
-			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
-					.setEntity( entity )
-					.setId( event.getEntityId() )
-					.setPersister( persister );
-
-			event.getSession().getSessionFactory()
-					.getFastSessionServices()
-					.firePostLoadEvent( postLoadEvent );
+			firePostLoadEvent( event, persister, entity );
 		}
 		return entity;
 	}
 
+	/**
+	 * Attempts to load the entity from the state looked up by
+	 * {@link #getFromSecondLevelCache(EventSource, LockMode, EntityPersister, List)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cachedEntries The cached state of the entities, or {@code null} if it was
+	 * not looked up, in which case the second-level cache is accessed for this entity
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Map<EntityKey, Object> cachedEntries) {
+		if ( cachedEntries == null ) {
+			return loadFromSecondLevelCache( event, persister, entityKey );
+		}
+
+		final Object ce = cachedEntries.get( entityKey );
+		if ( ce == null ) {
+			// nothing was found in cache
+			return null;
+		}
+
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				ce,
+				event.getSession(),
+				entityKey
+		);
+		if ( entity != null ) {
+			firePostLoadEvent( event, persister, entity );
+		}
+		return entity;
+	}
+
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
+		//PostLoad is needed for EJB3
+		final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
+				.setEntity( entity )
+				.setId( event.getEntityId() )
+				.setPersister( persister );
+
+		event.getSession().getSessionFactory()
+				.getFastSessionServices()
+				.firePostLoadEvent( postLoadEvent );
+	}
+
+	/**
+	 * Looks up the cached state of the given entities with a single bulk access to the
+	 * second-level cache, for use with
+	 * {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Map)}.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The keys of the entities
+	 *
+	 * @return The cached state found, keyed by entity key, or {@code null} if the
+	 * second-level cache cannot be used.
+	 */
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final List<EntityKey> entityKeys) {
+		if ( !canReadFromSecondLevelCache( source, lockMode, persister ) ) {
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Map<Object, EntityKey> entityKeysByCacheKey = new HashMap<>();
+		for ( EntityKey entityKey : entityKeys ) {
+			final Object ck = cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+			entityKeysByCacheKey.put( ck, entityKey );
+		}
+		if ( entityKeysByCacheKey.isEmpty() ) {
+			return null;
+		}
+
+		final Map<Object, Object> cachedValues = CacheHelper.fromSharedCache(
+				source,
+				entityKeysByCacheKey.keySet(),
+				cache
+		);
+		final Map<EntityKey, Object> cachedEntries = new HashMap<>( cachedValues.size() );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		for ( Map.Entry<Object, EntityKey> entry : entityKeysByCacheKey.entrySet() ) {
+			final Object ce = cachedValues.get( entry.getKey() );
+			if ( ce != null ) {
+				cachedEntries.put( entry.getValue(), ce );
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+		}
+		return cachedEntries;
+	}
+
 	/**
 	 * Attempts to load the entity from the second-level cache.
 	 *
@@ -211,11 +327,7 @@ public class CacheEntityLoaderHelper {
 			final EntityPersister persister,
 			final EntityKey entityKey) {
 
-		final boolean useCache = persister.canReadFromCache()
-				&& source.getCacheMode().isGetEnabled()
-				&& lockMode.lessThan( LockMode.READ );
-
-		if ( !useCache ) {
+		if ( !canReadFromSecondLevelCache( source, lockMode, persister ) ) {
 			// we can't use cache here
 			return null;
 		}
@@ -231,6 +343,15 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	private static boolean canReadFromSecondLevelCache(
+			EventSource source,
+			LockMode lockMode,
+			EntityPersister persister) {
+		return persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
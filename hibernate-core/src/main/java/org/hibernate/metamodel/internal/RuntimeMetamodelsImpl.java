@@ -7,6 +7,7 @@
 package org.hibernate.metamodel.internal;
 
 import org.hibernate.NotYetImplementedFor6Exception;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.internal.SessionFactoryImpl;
@@ -49,12 +50,21 @@ public class RuntimeMetamodelsImpl implements RuntimeMetamodelsImplementor {
 			MetadataImplementor bootMetamodel,
 			BootstrapContext bootstrapContext,
 			SessionFactoryImpl sessionFactory) {
+		finishInitialization( bootMetamodel, bootstrapContext, sessionFactory, new BootstrapPhaseTimer() );
+	}
+
+	public void finishInitialization(
+			MetadataImplementor bootMetamodel,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImpl sessionFactory,
+			BootstrapPhaseTimer timer) {
 		final MappingMetamodelImpl mappingMetamodel = bootstrapContext.getTypeConfiguration().scope( sessionFactory );
 		this.mappingMetamodel = mappingMetamodel;
 		mappingMetamodel.finishInitialization(
 				bootMetamodel,
 				bootstrapContext,
-				sessionFactory
+				sessionFactory,
+				timer
 		);
 
 		this.jpaMetamodel = mappingMetamodel.getJpaMetamodel();
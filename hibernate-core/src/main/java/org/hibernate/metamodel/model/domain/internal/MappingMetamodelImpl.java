@@ -9,14 +9,19 @@ package org.hibernate.metamodel.model.domain.internal;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
@@ -27,6 +32,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.NotYetImplementedFor6Exception;
 import org.hibernate.UnknownEntityTypeException;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
@@ -42,10 +48,16 @@ import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.HEMLogging;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
+import org.hibernate.mapping.Any;
+import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IdentifierCollection;
+import org.hibernate.mapping.IndexedCollection;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Value;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting;
 import org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting;
@@ -173,6 +185,56 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 			MetadataImplementor bootModel,
 			BootstrapContext bootstrapContext,
 			SessionFactoryImplementor sessionFactory) {
+		finishInitialization( bootModel, bootstrapContext, sessionFactory, new BootstrapPhaseTimer() );
+	}
+
+	/**
+	 * Create the persisters and the mapping model.  The persisters are created, and their
+	 * initialization finished, by as many threads as the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#BOOTSTRAP_PARALLELISM bootstrap parallelism}.
+	 * The other phases depend on the order in which the model parts are processed, and are
+	 * performed on the calling thread.
+	 */
+	public void finishInitialization(
+			MetadataImplementor bootModel,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory,
+			BootstrapPhaseTimer timer) {
+		final int parallelism = sessionFactory.getSessionFactoryOptions().getBootstrapParallelism();
+		final ForkJoinPool pool = parallelism > 1 ? createPool( parallelism ) : null;
+		try {
+			finishInitialization( bootModel, bootstrapContext, sessionFactory, timer, pool );
+		}
+		finally {
+			if ( pool != null ) {
+				pool.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * The workers load classes, so they use the context class loader of the bootstrapping thread
+	 */
+	private static ForkJoinPool createPool(int parallelism) {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	private void finishInitialization(
+			MetadataImplementor bootModel,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory,
+			BootstrapPhaseTimer timer,
+			ForkJoinPool pool) {
 		final RuntimeModelCreationContext runtimeModelCreationContext = new RuntimeModelCreationContext() {
 			@Override
 			public BootstrapContext getBootstrapContext() {
@@ -200,71 +262,184 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 		final JpaStaticMetaModelPopulationSetting jpaStaticMetaModelPopulationSetting = determineJpaStaticMetaModelPopulationSetting( sessionFactory.getProperties() );
 		final JpaMetaModelPopulationSetting jpaMetaModelPopulationSetting = determineJpaMetaModelPopulationSetting( sessionFactory.getProperties() );
 
-		bootModel.visitRegisteredComponents( Component::prepareForMappingModel );
-		bootModel.getMappedSuperclassMappingsCopy().forEach( MappedSuperclass::prepareForMappingModel );
-		bootModel.getEntityBindings().forEach( PersistentClass::prepareForMappingModel );
+		timer.time(
+				"prepare boot model",
+				() -> {
+					bootModel.visitRegisteredComponents( Component::prepareForMappingModel );
+					bootModel.getMappedSuperclassMappingsCopy().forEach( MappedSuperclass::prepareForMappingModel );
+					bootModel.getEntityBindings().forEach( PersistentClass::prepareForMappingModel );
+					if ( pool != null ) {
+						resolveBasicValues( bootModel );
+					}
+				}
+		);
 
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
+		timer.time(
+				"create entity persisters",
+				() -> processBootEntities(
+						bootModel.getEntityBindings(),
+						sessionFactory.getCache(),
+						persisterFactory,
+						runtimeModelCreationContext,
+						pool
+				)
 		);
 
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
+		timer.time(
+				"create collection persisters",
+				() -> processBootCollections(
+						bootModel.getCollectionBindings(),
+						sessionFactory.getCache(),
+						persisterFactory,
+						runtimeModelCreationContext,
+						pool
+				)
 		);
 
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
 
-		MappingModelCreationProcess.process(
-				entityPersisterMap,
-				sessionFactory.getQueryEngine().getSqmFunctionRegistry(),
-				runtimeModelCreationContext
+		timer.time(
+				"create mapping model",
+				() -> MappingModelCreationProcess.process(
+						entityPersisterMap,
+						sessionFactory.getQueryEngine().getSqmFunctionRegistry(),
+						runtimeModelCreationContext
+				)
 		);
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
-		}
+		timer.time(
+				"post-instantiate entity persisters",
+				() -> {
+					forEach( entityPersisterMap.values(), EntityPersister::postInstantiate, pool );
+					for ( EntityPersister persister : entityPersisterMap.values() ) {
+						registerEntityNameResolvers( persister, entityNameResolvers );
+					}
+				}
+		);
+
+		timer.time(
+				"post-instantiate collection persisters",
+				() -> forEach( collectionPersisterMap.values(), CollectionPersister::postInstantiate, pool )
+		);
+
+
+		timer.time(
+				"create JPA metamodel",
+				() -> ( (JpaMetamodelImpl) this.jpaMetamodel ).processJpa(
+						bootModel,
+						this,
+						entityProxyInterfaceMap,
+						jpaStaticMetaModelPopulationSetting,
+						jpaMetaModelPopulationSetting,
+						bootModel.getNamedEntityGraphs().values(),
+						runtimeModelCreationContext
+				)
+		);
+	}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+	/**
+	 * Resolve the basic values of the boot model up front, as their resolution is lazy and
+	 * not thread-safe, but the persisters are created concurrently
+	 */
+	private static void resolveBasicValues(MetadataImplementor bootModel) {
+		for ( PersistentClass entityBinding : bootModel.getEntityBindings() ) {
+			resolveBasicValues( entityBinding.getIdentifier() );
+			resolveBasicValues( entityBinding.getIdentifierMapper() );
+			resolveBasicValues( entityBinding.getDiscriminator() );
+			resolveBasicValues( entityBinding.getKey() );
+			if ( entityBinding.getVersion() != null ) {
+				resolveBasicValues( entityBinding.getVersion().getValue() );
+			}
+			for ( Property property : entityBinding.getProperties() ) {
+				resolveBasicValues( property.getValue() );
+			}
+		}
+		for ( Collection collectionBinding : bootModel.getCollectionBindings() ) {
+			resolveBasicValues( collectionBinding.getKey() );
+			resolveBasicValues( collectionBinding.getElement() );
+			if ( collectionBinding instanceof IndexedCollection ) {
+				resolveBasicValues( ( (IndexedCollection) collectionBinding ).getIndex() );
+			}
+			if ( collectionBinding instanceof IdentifierCollection ) {
+				resolveBasicValues( ( (IdentifierCollection) collectionBinding ).getIdentifier() );
+			}
+		}
+	}
 
+	private static void resolveBasicValues(Value value) {
+		if ( value instanceof BasicValue ) {
+			( (BasicValue) value ).resolve();
+		}
+		else if ( value instanceof Component ) {
+			for ( Property property : ( (Component) value ).getProperties() ) {
+				resolveBasicValues( property.getValue() );
+			}
+		}
+		else if ( value instanceof Any ) {
+			resolveBasicValues( ( (Any) value ).getDiscriminatorDescriptor() );
+			resolveBasicValues( ( (Any) value ).getKeyMapping() );
+		}
+	}
 
-		( (JpaMetamodelImpl) this.jpaMetamodel ).processJpa(
-				bootModel,
-				this,
-				entityProxyInterfaceMap,
-				jpaStaticMetaModelPopulationSetting,
-				jpaMetaModelPopulationSetting,
-				bootModel.getNamedEntityGraphs().values(),
-				runtimeModelCreationContext
+	/**
+	 * Apply the given function to each of the given models, in parallel if there is a pool.
+	 * The results are in the order of the models either way.
+	 */
+	private static <T, R> List<R> map(java.util.Collection<T> models, Function<T, R> function, ForkJoinPool pool) {
+		if ( pool == null ) {
+			final List<R> results = new ArrayList<>( models.size() );
+			for ( T model : models ) {
+				results.add( function.apply( model ) );
+			}
+			return results;
+		}
+		return pool.invoke(
+				ForkJoinTask.adapt( () -> models.parallelStream().map( function ).collect( Collectors.toList() ) )
 		);
 	}
 
+	private static <T> void forEach(java.util.Collection<T> values, Consumer<T> action, ForkJoinPool pool) {
+		if ( pool == null ) {
+			values.forEach( action );
+		}
+		else {
+			pool.invoke( ForkJoinTask.adapt( () -> new ArrayList<>( values ).parallelStream().forEach( action ) ) );
+		}
+	}
+
 	private void processBootEntities(
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		// the cache regions are resolved up front, on this thread
+		final Map<PersistentClass, EntityDataAccess> accessStrategies = new HashMap<>();
+		final Map<PersistentClass, NaturalIdDataAccess> naturalIdAccessStrategies = new HashMap<>();
 		for ( final PersistentClass model : entityBindings ) {
 			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
+			accessStrategies.put( model, cacheImplementor.getEntityRegionAccess( rootEntityRole ) );
+			naturalIdAccessStrategies.put(
 					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
+					cacheImplementor.getNaturalIdCacheRegionAccessStrategy( rootEntityRole )
 			);
-			entityPersisterMap.put( model.getEntityName(), cp );
+		}
+
+		final List<EntityPersister> persisters = map(
+				entityBindings,
+				model -> persisterFactory.createEntityPersister(
+						model,
+						accessStrategies.get( model ),
+						naturalIdAccessStrategies.get( model ),
+						modelCreationContext
+				),
+				pool
+		);
+
+		for ( final EntityPersister cp : persisters ) {
+			entityPersisterMap.put( cp.getEntityName(), cp );
 
 			if ( cp.getConcreteProxyClass() != null
 					&& cp.getConcreteProxyClass().isInterface()
@@ -307,19 +482,27 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		// the cache regions are resolved up front, on this thread
+		final Map<Collection, CollectionDataAccess> accessStrategies = new HashMap<>();
 		for ( final Collection model : collectionBindings ) {
 			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+			accessStrategies.put( model, cacheImplementor.getCollectionRegionAccess( navigableRole ) );
+		}
 
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
+		final List<CollectionPersister> persisters = map(
+				collectionBindings,
+				model -> persisterFactory.createCollectionPersister(
+						model,
+						accessStrategies.get( model ),
+						modelCreationContext
+				),
+				pool
+		);
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
-			collectionPersisterMap.put( model.getRole(), persister );
+		for ( final CollectionPersister persister : persisters ) {
+			collectionPersisterMap.put( persister.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
 				String entityName = ( (org.hibernate.type.EntityType) indexType ).getAssociatedEntityName();
@@ -28,6 +28,7 @@ import org.hibernate.MappingException;
 import org.hibernate.NotYetImplementedFor6Exception;
 import org.hibernate.QueryException;
 import org.hibernate.TransientObjectException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
@@ -172,6 +173,7 @@ public abstract class AbstractCollectionPersister
 
 	protected final boolean indexContainsFormula;
 	protected final boolean elementIsPureFormula;
+	private final boolean rowDeleteByElementPossible;
 
 	// types
 	private final Type keyType;
@@ -264,7 +266,10 @@ public abstract class AbstractCollectionPersister
 
 	private CollectionLoader collectionLoader;
 	private volatile CollectionLoader standardCollectionLoader;
-	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+	private volatile CollectionElementLoaderByIndex collectionElementLoaderByIndex;
+
+	// whether the loaders are built the first time they are needed, rather than by postInstantiate()
+	private final boolean lazyInitialization;
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// "mapping model"
@@ -298,6 +303,12 @@ public abstract class AbstractCollectionPersister
 
 		this.factory = creationContext.getSessionFactory();
 		this.cacheAccessStrategy = cacheAccessStrategy;
+
+		final SessionFactoryOptions sessionFactoryOptions = factory.getSessionFactoryOptions();
+		this.lazyInitialization = sessionFactoryOptions.isLazyPersisterInitializationEnabled()
+				&& !sessionFactoryOptions.getLazyPersisterInitializationWarmUp().contains( collectionBootDescriptor.getOwnerEntityName() )
+				&& !sessionFactoryOptions.getLazyPersisterInitializationWarmUp().contains( collectionBootDescriptor.getOwner().getJpaEntityName() );
+
 		if ( factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
 			cacheEntryStructure = collectionBootDescriptor.isMap()
 					? StructuredMapCacheEntry.INSTANCE
@@ -447,6 +458,15 @@ public abstract class AbstractCollectionPersister
 			Arrays.fill( elementColumnIsInPrimaryKey, true );
 		}
 
+		boolean rowDeleteByElement = !oneToMany && !isPureFormula
+				&& collectionBootDescriptor.getCustomSQLDelete() == null;
+		for ( int k = 0; k < elementSpan; k++ ) {
+			if ( elementColumnNames[k] == null || !elementColumnIsInPrimaryKey[k] ) {
+				rowDeleteByElement = false;
+			}
+		}
+		rowDeleteByElementPossible = rowDeleteByElement;
+
 		// INDEX AND ROW SELECT
 
 		hasIndex = collectionBootDescriptor.isIndexed();
@@ -772,7 +792,10 @@ public abstract class AbstractCollectionPersister
 	@Override
 	public void postInstantiate() throws MappingException {
 		if ( queryLoaderName == null ) {
-			collectionLoader = createCollectionLoader( LoadQueryInfluencers.NONE );
+			// the standard loader is built on demand by getStandardCollectionLoader()
+			if ( !lazyInitialization ) {
+				collectionLoader = createCollectionLoader( LoadQueryInfluencers.NONE );
+			}
 		}
 		else {
 			// We pass null as metamodel because we did the initialization during construction already
@@ -780,16 +803,35 @@ public abstract class AbstractCollectionPersister
 					.resolve( factory, null, queryLoaderName );
 			collectionLoader = new CollectionLoaderNamedQuery( this, namedQueryMemento );
 		}
-		if ( attributeMapping.getIndexDescriptor() != null ) {
-			collectionElementLoaderByIndex = new CollectionElementLoaderByIndex(
-					attributeMapping,
-					baseIndex,
-					LoadQueryInfluencers.NONE,
-					getFactory()
-			);
+		if ( attributeMapping.getIndexDescriptor() != null && !lazyInitialization ) {
+			collectionElementLoaderByIndex = createCollectionElementLoaderByIndex();
 		}
 	}
 
+	private CollectionElementLoaderByIndex createCollectionElementLoaderByIndex() {
+		return new CollectionElementLoaderByIndex(
+				attributeMapping,
+				baseIndex,
+				LoadQueryInfluencers.NONE,
+				getFactory()
+		);
+	}
+
+	// lazily initialize instance field via 'double-checked locking', when lazyInitialization
+	protected CollectionElementLoaderByIndex getCollectionElementLoaderByIndex() {
+		CollectionElementLoaderByIndex localCopy = collectionElementLoaderByIndex;
+		if ( localCopy == null ) {
+			synchronized (this) {
+				localCopy = collectionElementLoaderByIndex;
+				if ( localCopy == null ) {
+					localCopy = createCollectionElementLoaderByIndex();
+					collectionElementLoaderByIndex = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
+
 	protected void logStaticSQL() {
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf( "Static SQL for collection: %s", getRole() );
@@ -1363,6 +1405,11 @@ public abstract class AbstractCollectionPersister
 		return isLazy;
 	}
 
+	@Override
+	public boolean isRowDeleteByElementPossible() {
+		return rowDeleteByElementPossible;
+	}
+
 	@Override
 	public boolean isInverse() {
 		return isInverse;
@@ -2246,7 +2293,7 @@ public abstract class AbstractCollectionPersister
 
 	@Override
 	public Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner) {
-		return collectionElementLoaderByIndex.load( key, index, session );
+		return getCollectionElementLoaderByIndex().load( key, index, session );
 	}
 
 	@Override
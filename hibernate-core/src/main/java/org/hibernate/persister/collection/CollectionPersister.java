@@ -216,6 +216,17 @@ public interface CollectionPersister extends CollectionDefinition, Restrictable
 			Object key,
 			SharedSessionContractImplementor session);
 	
+	/**
+	 * Does the SQL deleting a row of this collection restrict every column of
+	 * the element, so that deleting the row of an element of a bag only deletes
+	 * the rows holding that exact element?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BAG_CHANGE_TRACKING
+	 */
+	default boolean isRowDeleteByElementPossible() {
+		return false;
+	}
+
 	/**
 	 * Process queued operations within the PersistentCollection.
 	 */
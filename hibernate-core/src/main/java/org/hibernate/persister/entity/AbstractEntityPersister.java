@@ -19,6 +19,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -112,6 +113,7 @@ import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.LazyValue;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
@@ -139,8 +141,10 @@ import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Component;
 import org.hibernate.mapping.DependantValue;
+import org.hibernate.mapping.ForeignKey;
 import org.hibernate.mapping.Formula;
 import org.hibernate.mapping.IndexedConsumer;
+import org.hibernate.mapping.Join;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.mapping.RootClass;
@@ -303,6 +307,7 @@ public abstract class AbstractEntityPersister
 	private final CacheEntryHelper cacheEntryHelper;
 	private final EntityMetamodel entityMetamodel;
 	private final EntityEntryFactory entityEntryFactory;
+	private final Map<DynamicUpdateShape, String> dynamicUpdateStrings;
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	private final String[] rootTableKeyColumnNames;
@@ -407,6 +412,12 @@ public abstract class AbstractEntityPersister
 
 	private boolean[] tableHasColumns;
 
+	// the SQL above and the loaders are built by doLateInit(), at startup or, if
+	// lazyInitialization, the first time they are needed
+	private final boolean lazyInitialization;
+	private volatile boolean lateInitialized;
+	private boolean lateInitializing;
+
 	private final Map<String,String[]> subclassPropertyAliases = new HashMap<>();
 	private final Map<String,String[]> subclassPropertyColumnNames = new HashMap<>();
 
@@ -518,6 +529,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected boolean[] getTableHasColumns() {
+		ensureLateInitialized();
 		return tableHasColumns;
 	}
 
@@ -527,6 +539,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String[] getSQLUpdateByRowIdStrings() {
+		ensureLateInitialized();
 		if ( sqlUpdateByRowIdString == null ) {
 			throw new AssertionFailure( "no update by row id" );
 		}
@@ -537,6 +550,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public String[] getSQLLazyUpdateByRowIdStrings() {
+		ensureLateInitialized();
 		if ( sqlLazyUpdateByRowIdString == null ) {
 			throw new AssertionFailure( "no update by row id" );
 		}
@@ -547,22 +561,27 @@ public abstract class AbstractEntityPersister
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
+		ensureLateInitialized();
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
 	public String[] getSQLDeleteStrings() {
+		ensureLateInitialized();
 		return sqlDeleteStrings;
 	}
 
 	public String[] getSQLInsertStrings() {
+		ensureLateInitialized();
 		return sqlInsertStrings;
 	}
 
 	public String[] getSQLUpdateStrings() {
+		ensureLateInitialized();
 		return sqlUpdateStrings;
 	}
 
 	public String[] getSQLLazyUpdateStrings() {
+		ensureLateInitialized();
 		return sqlLazyUpdateStrings;
 	}
 
@@ -584,10 +603,12 @@ public abstract class AbstractEntityPersister
 	 * @return The IDENTITY-based insertion query.
 	 */
 	public String getSQLIdentityInsertString() {
+		ensureLateInitialized();
 		return sqlIdentityInsertString;
 	}
 
 	public String getVersionSelectString() {
+		ensureLateInitialized();
 		return sqlVersionSelectString;
 	}
 
@@ -696,6 +717,10 @@ public abstract class AbstractEntityPersister
 
 		SessionFactoryOptions sessionFactoryOptions = creationContext.getSessionFactory().getSessionFactoryOptions();
 
+		this.lazyInitialization = sessionFactoryOptions.isLazyPersisterInitializationEnabled()
+				&& !sessionFactoryOptions.getLazyPersisterInitializationWarmUp().contains( bootDescriptor.getEntityName() )
+				&& !sessionFactoryOptions.getLazyPersisterInitializationWarmUp().contains( bootDescriptor.getJpaEntityName() );
+
 		if ( sessionFactoryOptions.isSecondLevelCacheEnabled() ) {
 			this.canWriteToCache = determineCanWriteToCache( bootDescriptor, cacheAccessStrategy );
 			this.canReadFromCache = determineCanReadFromCache( bootDescriptor, cacheAccessStrategy );
@@ -713,6 +738,10 @@ public abstract class AbstractEntityPersister
 
 		this.entityMetamodel = new EntityMetamodel( bootDescriptor, this, creationContext );
 
+		this.dynamicUpdateStrings = entityMetamodel.isDynamicUpdate()
+				? new BoundedConcurrentHashMap<>( DYNAMIC_UPDATE_CACHE_SIZE, 4, BoundedConcurrentHashMap.Eviction.LRU )
+				: null;
+
 		this.entityEntryFactory = entityMetamodel.isMutable()
 				? MutableEntityEntryFactory.INSTANCE
 				: ImmutableEntityEntryFactory.INSTANCE;
@@ -737,6 +766,8 @@ public abstract class AbstractEntityPersister
 
 		propertyMapping = new BasicEntityPropertyMapping( this );
 
+		insertReferencedTableNames = determineReferencedTableNames( bootDescriptor );
+
 		// IDENTIFIER
 
 		identifierColumnSpan = bootDescriptor.getIdentifier().getColumnSpan();
@@ -2031,6 +2062,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
+		ensureLateInitialized();
 		return singleIdEntityLoader.loadDatabaseSnapshot( id, session );
 	}
 
@@ -2785,6 +2817,103 @@ public abstract class AbstractEntityPersister
 
 	private static final boolean[] SINGLE_TRUE = new boolean[] { true };
 
+	private static final int DYNAMIC_UPDATE_CACHE_SIZE = 128;
+
+	/**
+	 * The shape of a dynamic update: the table, the properties to update and,
+	 * with "all" or "dirty" optimistic locking, the nullness of the old values
+	 */
+	private static final class DynamicUpdateShape {
+		private final int table;
+		private final boolean useRowId;
+		private final BitSet bitmap;
+
+		private DynamicUpdateShape(int table, boolean useRowId, BitSet bitmap) {
+			this.table = table;
+			this.useRowId = useRowId;
+			this.bitmap = bitmap;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof DynamicUpdateShape ) ) {
+				return false;
+			}
+			final DynamicUpdateShape that = (DynamicUpdateShape) o;
+			return table == that.table
+					&& useRowId == that.useRowId
+					&& bitmap.equals( that.bitmap );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * ( 31 * table + ( useRowId ? 1 : 0 ) ) + bitmap.hashCode();
+		}
+	}
+
+	/**
+	 * Get the SQL that updates the given properties of a row, reusing the SQL
+	 * previously generated for the same shape of update if possible
+	 */
+	private String getDynamicUpdateString(
+			final boolean[] includeProperty,
+			final int j,
+			final Object[] oldFields,
+			final boolean useRowId) {
+		if ( dynamicUpdateStrings == null ) {
+			return generateUpdateString( includeProperty, j, oldFields, useRowId );
+		}
+
+		final DynamicUpdateShape shape = new DynamicUpdateShape(
+				j,
+				useRowId,
+				determineDynamicUpdateBitmap( includeProperty, j, oldFields )
+		);
+		String sql = dynamicUpdateStrings.get( shape );
+		if ( sql == null ) {
+			sql = generateUpdateString( includeProperty, j, oldFields, useRowId );
+			// there is no SQL if the shape updates no column of the table
+			if ( sql != null ) {
+				dynamicUpdateStrings.put( shape, sql );
+			}
+		}
+		return sql;
+	}
+
+	private BitSet determineDynamicUpdateBitmap(boolean[] includeProperty, int j, Object[] oldFields) {
+		final BitSet bitmap = new BitSet();
+		int position = 0;
+		for ( ; position < includeProperty.length; position++ ) {
+			if ( includeProperty[position] ) {
+				bitmap.set( position );
+			}
+		}
+
+		if ( isAllOrDirtyOptLocking() && oldFields != null ) {
+			// the restriction on the old values depends on their nullness, see generateUpdateString()
+			bitmap.set( position++ );
+			final boolean[] includeInWhere = entityMetamodel.getOptimisticLockStyle().isAll()
+					? getPropertyUpdateability()
+					: includeProperty;
+			final boolean[] versionability = getPropertyVersionability();
+			final Type[] types = getPropertyTypes();
+			for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+				if ( includeInWhere[i] && isPropertyOfTable( i, j ) && versionability[i] ) {
+					for ( boolean notNull : types[i].toColumnNullness( oldFields[i], getFactory() ) ) {
+						if ( notNull ) {
+							bitmap.set( position );
+						}
+						position++;
+					}
+				}
+			}
+		}
+		return bitmap;
+	}
+
 	public String generateUpdateString(boolean[] includeProperty, int j, boolean useRowId) {
 		return generateUpdateString( includeProperty, j, null, useRowId );
 	}
@@ -2996,6 +3125,7 @@ public abstract class AbstractEntityPersister
 	 * @return The insert SQL statement string
 	 */
 	public String generateIdentityInsertString(boolean[] includeProperty) {
+		ensureLateInitialized();
 		Insert insert = identityDelegate.prepareIdentifierGeneratingInsert( factory.getSqlStringGenerationContext() );
 		insert.setTableName( getTableName( 0 ) );
 
@@ -3186,7 +3316,16 @@ public abstract class AbstractEntityPersister
 			}
 		}
 
-		Binder binder = new Binder() {
+		ensureLateInitialized();
+		return identityDelegate.performInsert( sql, session, identityInsertBinder( fields, notNull, object, session ) );
+	}
+
+	private Binder identityInsertBinder(
+			final Object[] fields,
+			final boolean[] notNull,
+			final Object object,
+			final SharedSessionContractImplementor session) {
+		return new Binder() {
 			@Override
 			public void bindValues(PreparedStatement ps) throws SQLException {
 				dehydrate( null, fields, notNull, propertyColumnInsertable, 0, ps, session, false );
@@ -3197,8 +3336,6 @@ public abstract class AbstractEntityPersister
 				return object;
 			}
 		};
-
-		return identityDelegate.performInsert( sql, session, binder );
 	}
 
 	@Override
@@ -3223,6 +3360,41 @@ public abstract class AbstractEntityPersister
 
 	private BasicBatchKey insertBatchKey;
 
+	/**
+	 * The tables referenced by foreign keys of the tables of this entity, used to
+	 * order the insert batches when {@linkplain org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING pipelining}
+	 */
+	private final Set<String> insertReferencedTableNames;
+
+	private Set<String> determineReferencedTableNames(PersistentClass bootDescriptor) {
+		final Set<String> referencedTableNames = new HashSet<>();
+		final Iterator<Table> tables = bootDescriptor.getTableClosureIterator();
+		while ( tables.hasNext() ) {
+			collectReferencedTableNames( tables.next(), referencedTableNames );
+		}
+		final Iterator<Join> joins = bootDescriptor.getJoinClosureIterator();
+		while ( joins.hasNext() ) {
+			collectReferencedTableNames( joins.next().getTable(), referencedTableNames );
+		}
+		return referencedTableNames;
+	}
+
+	private void collectReferencedTableNames(Table table, Set<String> referencedTableNames) {
+		for ( ForeignKey foreignKey : table.getForeignKeys().values() ) {
+			if ( foreignKey.getReferencedTable() != null ) {
+				referencedTableNames.add( determineTableName( foreignKey.getReferencedTable() ) );
+			}
+		}
+	}
+
+	private Set<String> getInsertTableNames() {
+		final Set<String> tableNames = new HashSet<>();
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			tableNames.add( getTableName( j ) );
+		}
+		return tableNames;
+	}
+
 	/**
 	 * Perform an SQL INSERT.
 	 * <p/>
@@ -3265,7 +3437,9 @@ public abstract class AbstractEntityPersister
 		if ( useBatch && insertBatchKey == null ) {
 			insertBatchKey = new BasicBatchKey(
 					getEntityName() + "#INSERT",
-					expectation
+					expectation,
+					getInsertTableNames(),
+					insertReferencedTableNames
 			);
 		}
 		final boolean callable = isInsertCallable( j );
@@ -3738,7 +3912,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3758,7 +3932,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3816,6 +3990,50 @@ public abstract class AbstractEntityPersister
 		return id;
 	}
 
+	@Override
+	public boolean canBatchIdentityInserts() {
+		return isIdentifierAssignedByInsert()
+				&& !entityMetamodel.isDynamicInsert()
+				&& getFactory().getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+				&& getIdentityDelegate().supportsBatchedInsert();
+	}
+
+	/**
+	 * Persist several instances, inserting the root table rows as a single JDBC
+	 * batch whose generated identifiers are then used to insert the rows of the
+	 * other tables.
+	 */
+	@Override
+	public Object[] insert(Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		if ( entityMetamodel.isDynamicInsert() ) {
+			final Object[] ids = new Object[ objects.length ];
+			for ( int i = 0; i < objects.length; i++ ) {
+				ids[i] = insert( fields[i], objects[i], session );
+			}
+			return ids;
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Inserting {0} entities: {1} (native id)", objects.length, getEntityName() );
+		}
+
+		final List<Binder> binders = new ArrayList<>( objects.length );
+		for ( int i = 0; i < objects.length; i++ ) {
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( fields[i], objects[i], session );
+			binders.add( identityInsertBinder( fields[i], getPropertyInsertability(), objects[i], session ) );
+		}
+
+		ensureLateInitialized();
+		final Object[] ids = identityDelegate.performBatchedInsert( getSQLIdentityInsertString(), session, binders );
+		for ( int j = 1; j < getTableSpan(); j++ ) {
+			for ( int i = 0; i < objects.length; i++ ) {
+				insert( ids[i], fields[i], getPropertyInsertability(), j, getSQLInsertStrings()[j], objects[i], session );
+			}
+		}
+		return ids;
+	}
+
 	@Override
 	public void insert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
 		// apply any pre-insert in-memory value generation
@@ -4123,14 +4341,42 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public final void postInstantiate() throws MappingException {
-		doLateInit();
-
-		prepareLoader( singleIdEntityLoader );
-		prepareLoader( multiIdEntityLoader );
+		if ( !lazyInitialization ) {
+			ensureLateInitialized();
+		}
 
 		doPostInstantiate();
 	}
 
+	/**
+	 * Build the SQL and prepare the loaders, unless it was done already.
+	 * <p>
+	 * Called by {@link #postInstantiate()}, or the first time they are needed if
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#LAZY_PERSISTER_INITIALIZATION
+	 * lazy initialization} is enabled.  In the latter case, concurrent callers wait
+	 * for the initialization, while calls made by the initialization itself return
+	 * immediately.
+	 */
+	protected final void ensureLateInitialized() {
+		if ( !lateInitialized ) {
+			synchronized ( this ) {
+				if ( !lateInitialized && !lateInitializing ) {
+					lateInitializing = true;
+					try {
+						doLateInit();
+
+						prepareLoader( singleIdEntityLoader );
+						prepareLoader( multiIdEntityLoader );
+					}
+					finally {
+						lateInitializing = false;
+					}
+					lateInitialized = true;
+				}
+			}
+		}
+	}
+
 	private void prepareLoader(Loader loader) {
 		if ( loader instanceof Preparable ) {
 			( (Preparable) loader ).prepare();
@@ -4171,6 +4417,7 @@ public abstract class AbstractEntityPersister
 			LOG.tracev( "Fetching entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
 		}
 
+		ensureLateInitialized();
 		if ( optionalObject == null ) {
 			return singleIdEntityLoader.load( id, lockOptions, readOnly, session );
 		}
@@ -4180,6 +4427,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdEntityLoader() {
+		ensureLateInitialized();
 		return singleIdEntityLoader;
 	}
 
@@ -4202,7 +4450,7 @@ public abstract class AbstractEntityPersister
 				loaded = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( loadEvent, this, entityKey );
 			}
 			if ( loaded == null ) {
-				loaded = singleIdEntityLoader.load(
+				loaded = getSingleIdEntityLoader().load(
 						identifier,
 						entity,
 						LockOptions.NONE,
@@ -4249,6 +4497,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		ensureLateInitialized();
 		return multiIdEntityLoader.load( ids, loadOptions, session );
 	}
 
@@ -4704,6 +4953,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Deprecated
 	public InsertGeneratedIdentifierDelegate getIdentityDelegate() {
+		ensureLateInitialized();
 		return identityDelegate;
 	}
 
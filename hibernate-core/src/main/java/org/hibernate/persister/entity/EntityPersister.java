@@ -551,6 +551,29 @@ public interface EntityPersister
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Can the instances using a natively generated identifier be persisted in JDBC
+	 * batches by {@link #insert(Object[][], Object[], SharedSessionContractImplementor)}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean canBatchIdentityInserts() {
+		return false;
+	}
+
+	/**
+	 * Persist several instances, using natively generated identifiers (optional operation)
+	 *
+	 * @return The generated identifiers, in the order of the instances
+	 */
+	default Object[] insert(Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		final Object[] ids = new Object[ objects.length ];
+		for ( int i = 0; i < objects.length; i++ ) {
+			ids[i] = insert( fields[i], objects[i], session );
+		}
+		return ids;
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
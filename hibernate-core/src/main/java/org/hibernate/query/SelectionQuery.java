@@ -13,6 +13,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -62,6 +63,25 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return list();
 	}
 
+	/**
+	 * Asynchronously execute the query and return the query results as a
+	 * {@link List}, as {@link #list()} does.
+	 * <p>
+	 * The JDBC work is run on the {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 * asynchronous executor}, after the asynchronous operations previously submitted
+	 * by the session.  Neither the session nor this query may be used until the returned
+	 * stage is completed.
+	 * <p>
+	 * As the work runs on another thread, it cannot take part in a JTA transaction, nor in
+	 * any other transaction bound to the calling thread, so this operation may only be used
+	 * with resource-local transactions.
+	 *
+	 * @return a stage completed with the result list
+	 *
+	 * @since 6.0
+	 */
+	CompletionStage<List<R>> listAsync();
+
 	/**
 	 * Returns scrollable access to the query results.
 	 *
@@ -154,6 +174,18 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	Optional<R> uniqueResultOptional();
 
+	/**
+	 * Asynchronously execute the query and return the single result of the query,
+	 * or {@code null} if the query returns no results, as {@link #uniqueResult()} does.
+	 *
+	 * @return a stage completed with the single result or {@code null}
+	 *
+	 * @see #listAsync()
+	 *
+	 * @since 6.0
+	 */
+	CompletionStage<R> uniqueResultAsync();
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	@Override
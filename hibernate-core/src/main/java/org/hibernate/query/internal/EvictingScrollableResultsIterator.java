@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.internal.AbstractScrollableResults;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} which evicts the entities loaded for a row
+ * from the persistence context when advancing to the next row, so that streaming
+ * a large result does not fill up the persistence context.
+ * <p>
+ * Only the entities materialized by the results themselves are evicted.  Entities
+ * which were already managed when they were read, which were loaded or persisted
+ * by the consumer of the stream, or which were deleted in the meantime are kept.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_EVICTION
+ */
+@Incubating
+public class EvictingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final AbstractScrollableResults<T> scrollableResults;
+	private final SessionImplementor session;
+
+	private boolean rowReturned;
+
+	public EvictingScrollableResultsIterator(
+			AbstractScrollableResults<T> scrollableResults,
+			SessionImplementor session) {
+		super( scrollableResults );
+		this.scrollableResults = scrollableResults;
+		this.session = session;
+		scrollableResults.collectLoadedEntityKeys();
+	}
+
+	/**
+	 * Create the iterator for streaming the given results, evicting the loaded
+	 * entities if requested by the query options and supported by the session
+	 */
+	public static <T> ScrollableResultsIterator<T> create(
+			ScrollableResultsImplementor<T> scrollableResults,
+			SharedSessionContractImplementor session,
+			boolean streamEvictionEnabled) {
+		// a StatelessSession already clears its temporary persistence context after each row
+		if ( streamEvictionEnabled
+				&& session instanceof SessionImplementor
+				&& scrollableResults instanceof AbstractScrollableResults ) {
+			return new EvictingScrollableResultsIterator<>(
+					(AbstractScrollableResults<T>) scrollableResults,
+					(SessionImplementor) session
+			);
+		}
+		return new ScrollableResultsIterator<>( scrollableResults );
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( rowReturned ) {
+			rowReturned = false;
+			evictLoadedEntities();
+		}
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		rowReturned = true;
+		return super.next();
+	}
+
+	private void evictLoadedEntities() {
+		if ( !session.isOpen() ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( EntityKey entityKey : scrollableResults.drainLoadedEntityKeys() ) {
+			// the entity might have been evicted by a cascade already
+			final Object entity = persistenceContext.getEntity( entityKey );
+			if ( entity != null && isEvictable( entity, persistenceContext ) ) {
+				session.evict( entity );
+			}
+		}
+	}
+
+	private static boolean isEvictable(Object entity, PersistenceContext persistenceContext) {
+		final EntityEntry entityEntry = persistenceContext.getEntry( entity );
+		if ( entityEntry == null || !entityEntry.isExistsInDatabase() ) {
+			return false;
+		}
+		final Status status = entityEntry.getStatus();
+		return status == Status.MANAGED || status == Status.READ_ONLY;
+	}
+}
@@ -45,13 +45,18 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(Key key, Supplier<SelectQueryPlan<R>> creator) {
 		final StatisticsImplementor statistics = statisticsSupplier.get();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.queryPlanCacheMiss( key.getQueryString() );
+			statistics.queryPlanCacheMiss( key.getQueryString(), key.hasEnabledFilters(), key.hasAppliedGraph() );
 		}
 		return creator.get();
 	}
 
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled()
+				&& QueryInterpretationCacheStandardImpl.isCacheableNonSelectQueryPlan( key ) ) {
+			statistics.queryPlanCacheMiss( key.getQueryString(), key.hasEnabledFilters(), key.hasAppliedGraph() );
+		}
 		return null;
 	}
 
@@ -21,6 +21,7 @@ import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -74,7 +75,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) queryPlanCache.get( key );
 		if ( cached != null ) {
 			if ( stats ) {
-				statistics.queryPlanCacheHit( key.getQueryString() );
+				statistics.queryPlanCacheHit( key.getQueryString(), key.hasEnabledFilters(), key.hasAppliedGraph() );
 			}
 			return cached;
 		}
@@ -82,7 +83,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		final SelectQueryPlan<R> plan = creator.get();
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( stats ) {
-			statistics.queryPlanCacheMiss( key.getQueryString() );
+			statistics.queryPlanCacheMiss( key.getQueryString(), key.hasEnabledFilters(), key.hasAppliedGraph() );
 		}
 		return plan;
 	}
@@ -90,12 +91,38 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
-		return null;
+		if ( !isCacheableNonSelectQueryPlan( key ) ) {
+			return null;
+		}
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+
+		final NonSelectQueryPlan cached = (NonSelectQueryPlan) queryPlanCache.get( key );
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( cached != null ) {
+				statistics.queryPlanCacheHit( key.getQueryString(), key.hasEnabledFilters(), key.hasAppliedGraph() );
+			}
+			else {
+				statistics.queryPlanCacheMiss( key.getQueryString(), key.hasEnabledFilters(), key.hasAppliedGraph() );
+			}
+		}
+		return cached;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		if ( isCacheableNonSelectQueryPlan( key ) ) {
+			queryPlanCache.put( key.prepareForStore(), plan );
+		}
+	}
+
+	/**
+	 * Only the plans of HQL insert, update and delete statements are cached.  A native
+	 * non-select plan refers to the parameters of the query it was created for, so it
+	 * cannot be shared by other query instances.
+	 */
+	static boolean isCacheableNonSelectQueryPlan(Key key) {
+		return key instanceof SqmInterpretationsKey;
 	}
 
 	@Override
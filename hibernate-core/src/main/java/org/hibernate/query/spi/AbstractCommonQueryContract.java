@@ -72,6 +72,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAM_EVICTION;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
@@ -176,6 +177,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 
 		putIfNotNull( hints, HINT_READONLY, getQueryOptions().isReadOnly() );
 		putIfNotNull( hints, HINT_FETCH_SIZE, getQueryOptions().getFetchSize() );
+		if ( getQueryOptions().isStreamEvictionEnabled() ) {
+			hints.put( HINT_STREAM_EVICTION, TRUE );
+		}
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
@@ -313,6 +317,11 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 			return true;
 		}
 
+		if ( HINT_STREAM_EVICTION.equals( hintName ) ) {
+			applyStreamEvictionHint( ConfigurationHelper.getBoolean( value ) );
+			return true;
+		}
+
 		if ( HINT_CACHEABLE.equals( hintName ) ) {
 			applyCacheableHint( ConfigurationHelper.getBoolean( value ) );
 			return true;
@@ -377,6 +386,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setFetchSize( fetchSize );
 	}
 
+	protected void applyStreamEvictionHint(boolean streamEviction) {
+		getQueryOptions().setStreamEvictionEnabled( streamEviction );
+	}
+
 	protected void applyCacheModeHint(CacheMode cacheMode) {
 		getQueryOptions().setCacheMode( cacheMode );
 	}
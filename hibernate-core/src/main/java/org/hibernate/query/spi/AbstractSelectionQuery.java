@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jakarta.persistence.FlushModeType;
@@ -49,6 +50,7 @@ import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.hql.spi.NamedHqlQueryMemento;
+import org.hibernate.query.internal.EvictingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -354,6 +356,11 @@ public abstract class AbstractSelectionQuery<R>
 		}
 	}
 
+	@Override
+	public CompletionStage<List<R>> listAsync() {
+		return getSession().executeAsync( this::list );
+	}
+
 	protected void beforeQuery() {
 		getQueryParameterBindings().validate();
 
@@ -415,7 +422,11 @@ public abstract class AbstractSelectionQuery<R>
 	@Override
 	public Stream stream() {
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final ScrollableResultsIterator iterator = EvictingScrollableResultsIterator.create(
+				scrollableResults,
+				getSession(),
+				getQueryOptions().isStreamEvictionEnabled()
+		);
 		final Spliterator spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
@@ -427,6 +438,11 @@ public abstract class AbstractSelectionQuery<R>
 		return uniqueElement( list() );
 	}
 
+	@Override
+	public CompletionStage<R> uniqueResultAsync() {
+		return getSession().executeAsync( this::uniqueResult );
+	}
+
 	@Override
 	public R getSingleResult() {
 		try {
@@ -103,6 +103,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getFetchSize();
 	}
 
+	@Override
+	public boolean isStreamEvictionEnabled() {
+		return queryOptions.isStreamEvictionEnabled();
+	}
+
 	@Override
 	public Limit getLimit() {
 		return queryOptions.getLimit();
@@ -30,6 +30,20 @@ public interface QueryInterpretationCache {
 			return this;
 		}
 		String getQueryString();
+
+		/**
+		 * Whether the keyed plan was translated with filters enabled
+		 */
+		default boolean hasEnabledFilters() {
+			return false;
+		}
+
+		/**
+		 * Whether the keyed plan was translated with an entity graph applied
+		 */
+		default boolean hasAppliedGraph() {
+			return false;
+		}
 	}
 
 	int getNumberOfCachedHqlInterpretations();
@@ -44,6 +44,16 @@ public interface QueryOptions {
 	 */
 	Boolean isReadOnly();
 
+	/**
+	 * Should the entities loaded for a row be evicted when a stream of
+	 * the results advances to the next row.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_EVICTION
+	 */
+	default boolean isStreamEvictionEnabled() {
+		return false;
+	}
+
 	/**
 	 * JPA {@link jakarta.persistence.EntityGraph} explicitly applied to the
 	 * query.
@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * The translation of a "simple" (single-table) SQM mutation statement, kept by
+ * the simple NonSelectQueryPlan implementations for re-use across executions.
+ * <p>
+ * Immutable once built, so it can be shared between concurrent executions of a
+ * cached plan.  Like the select plans, an interpretation is tied to the "shape"
+ * of the multi-valued parameter bindings it was translated for (see
+ * {@link SqmUtil#determineBindingShape}) and records the parameter expansions
+ * against its own copy of the DomainParameterXref.
+ */
+class CacheableSqmMutationInterpretation<T extends Statement, J extends JdbcMutation> {
+	private final SqmTranslation<T> sqmTranslation;
+	private final DomainParameterXref domainParameterXref;
+	private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private final int[] bindingShape;
+	private final J jdbcMutation;
+
+	private JdbcParameterBindings firstParameterBindings;
+
+	private CacheableSqmMutationInterpretation(
+			SqmTranslation<T> sqmTranslation,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+			int[] bindingShape,
+			J jdbcMutation,
+			JdbcParameterBindings firstParameterBindings) {
+		this.sqmTranslation = sqmTranslation;
+		this.domainParameterXref = domainParameterXref;
+		this.jdbcParamsXref = jdbcParamsXref;
+		this.bindingShape = bindingShape;
+		this.jdbcMutation = jdbcMutation;
+		this.firstParameterBindings = firstParameterBindings;
+	}
+
+	/**
+	 * Translate the statement for the given execution
+	 *
+	 * @param sqmTranslator Translates the SQM statement into a SQL AST, recording
+	 * parameter expansions against the passed DomainParameterXref
+	 * @param sqlAstTranslatorCreator Creates the translator of the SQL AST into the
+	 * JdbcMutation
+	 */
+	static <T extends Statement, J extends JdbcMutation> CacheableSqmMutationInterpretation<T, J> build(
+			DomainParameterXref domainParameterXref,
+			int[] bindingShape,
+			DomainQueryExecutionContext executionContext,
+			BiFunction<DomainParameterXref, DomainQueryExecutionContext, SqmTranslation<T>> sqmTranslator,
+			BiFunction<SessionFactoryImplementor, T, SqlAstTranslator<J>> sqlAstTranslatorCreator) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		// the expansions of multi-valued parameters are specific to this interpretation
+		final DomainParameterXref interpretationXref = bindingShape == null
+				? domainParameterXref
+				: domainParameterXref.copy();
+
+		final SqmTranslation<T> sqmTranslation = sqmTranslator.apply( interpretationXref, executionContext );
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( interpretationXref, sqmTranslation::getJdbcParamsBySqmParam );
+
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmTranslation,
+				interpretationXref,
+				jdbcParamsXref,
+				executionContext
+		);
+		final J jdbcMutation = sqlAstTranslatorCreator.apply( factory, sqmTranslation.getSqlAst() )
+				.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+
+		return new CacheableSqmMutationInterpretation<>(
+				sqmTranslation,
+				interpretationXref,
+				jdbcParamsXref,
+				bindingShape,
+				jdbcMutation,
+				jdbcParameterBindings
+		);
+	}
+
+	/**
+	 * The bindings created while building this interpretation, which may only be
+	 * used by the execution which built it
+	 */
+	JdbcParameterBindings takeFirstParameterBindings() {
+		final JdbcParameterBindings jdbcParameterBindings = firstParameterBindings;
+		firstParameterBindings = null;
+		return jdbcParameterBindings;
+	}
+
+	/**
+	 * Create the bindings for re-using this interpretation for the given execution.
+	 *
+	 * @return The bindings, or {@code null} if this interpretation cannot be re-used
+	 * for the execution and a new one needs to be built
+	 */
+	JdbcParameterBindings createReusableParameterBindings(
+			int[] bindingShape,
+			DomainQueryExecutionContext executionContext) {
+		if ( !Arrays.equals( this.bindingShape, bindingShape ) ) {
+			return null;
+		}
+
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmTranslation,
+				domainParameterXref,
+				jdbcParamsXref,
+				executionContext
+		);
+		if ( !jdbcMutation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			return null;
+		}
+
+		jdbcMutation.bindFilterJdbcParameters(
+				jdbcParameterBindings,
+				executionContext.getSession().getLoadQueryInfluencers().getEnabledFilters()
+		);
+		return jdbcParameterBindings;
+	}
+
+	SqmTranslation<T> getSqmTranslation() {
+		return sqmTranslation;
+	}
+
+	Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> getJdbcParamsXref() {
+		return jdbcParamsXref;
+	}
+
+	J getJdbcMutation() {
+		return jdbcMutation;
+	}
+
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			SqmTranslation<?> sqmTranslation,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				sqmTranslation.getFromClauseAccess()::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <P> MappingModelExpressible<P> getResolvedMappingModelType(SqmParameter<P> parameter) {
+						return (MappingModelExpressible<P>) sqmTranslation.getSqmParameterMappingModelTypeResolutions().get( parameter );
+					}
+				},
+				session
+		);
+	}
+}
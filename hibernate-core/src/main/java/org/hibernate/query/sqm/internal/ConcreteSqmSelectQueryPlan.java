@@ -7,10 +7,13 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.query.Query;
 import org.hibernate.ScrollMode;
@@ -22,6 +25,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.TupleTransformer;
@@ -74,11 +78,23 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
 	private final String hql;
 	private final DomainParameterXref domainParameterXref;
+	private final List<QueryParameterImplementor<?>> multiValuedParameters;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The maximum number of interpretations kept, each for a different shape of the
+	 * multi-valued parameter bindings
+	 */
+	private static final int MAX_CACHED_INTERPRETATIONS = 16;
+
+	private final Map<BindingShapeKey, CacheableSqmInterpretation> cacheableSqmInterpretations = new BoundedConcurrentHashMap<>(
+			MAX_CACHED_INTERPRETATIONS,
+			1,
+			BoundedConcurrentHashMap.Eviction.LRU
+	);
+	private final Lock interpretationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -90,89 +106,79 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.sqm = sqm;
 		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
+		this.multiValuedParameters = SqmUtil.collectMultiValuedParameters( domainParameterXref );
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey );
-							}
-
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+							subSelectFetchKeyHandler.addKey( entityKey );
+						}
+
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
 							}
-						},
-						rowTransformer,
-						ListResultsConsumer.UniqueSemantic.FILTER
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					},
+					rowTransformer,
+					ListResultsConsumer.UniqueSemantic.FILTER
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
-
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				return jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+//			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+//					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+//					sqmInterpretation.selectStatement,
+//					Collections.emptyList(),
+//					jdbcParameterBindings
+//			);
+
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			return jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
-		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		// NOTE : this statement ^^ is not affected by load-query-influencers
+		//		because those are part of the plan's cache key.  Multi-valued
+		//		parameter expansion is handled per interpretation - the expansions
+		//		are recorded against a copy of the DomainParameterXref which is
+		//		kept with the CacheableSqmInterpretation, and an interpretation
+		//		is cached per "shape" of the multi-valued bindings.
 	}
 
 	@SuppressWarnings("unchecked")
@@ -265,26 +271,38 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		to protect access.  However, a simple lock is enough here.  It is not
+		// 		`synchronized`, so that virtual threads do not pin their carrier thread
+		// 		while the interpretation is built
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
+		final int[] bindingShape = SqmUtil.determineBindingShape(
+				multiValuedParameters,
+				executionContext.getQueryParameterBindings()
+		);
+		// The multi-valued parameters are expanded for the number of bound values,
+		// so there is an interpretation per shape of the bindings
+		final BindingShapeKey shapeKey = bindingShape == null ? BindingShapeKey.SINGLE_VALUED : new BindingShapeKey( bindingShape );
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( shapeKey );
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
+			interpretationLock.lock();
+			try {
+				localCopy = cacheableSqmInterpretations.get( shapeKey );
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
-							domainParameterXref,
+							bindingShape == null ? domainParameterXref : domainParameterXref.copy(),
 							executionContext
 					);
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+					cacheableSqmInterpretations.put( shapeKey, localCopy );
 				}
 			}
+			finally {
+				interpretationLock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -297,12 +315,12 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
-						domainParameterXref,
+						bindingShape == null ? domainParameterXref : domainParameterXref.copy(),
 						executionContext
 				);
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				cacheableSqmInterpretations.put( shapeKey, localCopy );
 			}
 		}
 
@@ -317,7 +335,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -330,7 +348,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				},
 				session
 		);
-		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters( jdbcParameterBindings );
+		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters(
+				jdbcParameterBindings,
+				session.getLoadQueryInfluencers().getEnabledFilters()
+		);
 		return jdbcParameterBindings;
 	}
 
@@ -388,6 +409,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
 				tableGroupAccess,
+				domainParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
@@ -402,10 +424,43 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				JdbcParameterBindings jdbcParameterBindings);
 	}
 
+	/**
+	 * The number of values bound to each multi-valued parameter, as determined by
+	 * {@link SqmUtil#determineBindingShape}
+	 */
+	private static final class BindingShapeKey {
+		private static final BindingShapeKey SINGLE_VALUED = new BindingShapeKey( ArrayHelper.EMPTY_INT_ARRAY );
+
+		private final int[] shape;
+		private final int hashCode;
+
+		private BindingShapeKey(int[] shape) {
+			this.shape = shape;
+			this.hashCode = Arrays.hashCode( shape );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof BindingShapeKey ) ) {
+				return false;
+			}
+			return Arrays.equals( shape, ( (BindingShapeKey) o ).shape );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	private static class CacheableSqmInterpretation {
 		private final SelectStatement selectStatement;
 		private final JdbcSelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -414,12 +469,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcSelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -437,6 +494,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
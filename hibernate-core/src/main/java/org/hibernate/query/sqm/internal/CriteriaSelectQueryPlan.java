@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+
+/**
+ * SelectQueryPlan for a Criteria query, which may be shared between
+ * structurally equal Criteria trees.
+ * <p>
+ * The parameters of a Criteria query are objects, so the plan (built from
+ * one tree) and the bindings (registered against another tree) know the
+ * same parameter under different identities.  The plan therefore remembers
+ * the parameters of the tree it was built from, in canonical order (see
+ * {@link SqmCanonicalForm}), and {@link #forParameters} adapts it to the
+ * parameters of the executing query.
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final List<QueryParameterImplementor<?>> parameters;
+
+	public CriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, List<QueryParameterImplementor<?>> parameters) {
+		this.delegate = delegate;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Access to this plan in terms of the given parameters, which are the
+	 * canonically ordered parameters of the executing query
+	 */
+	public SelectQueryPlan<R> forParameters(List<QueryParameterImplementor<?>> queryParameters) {
+		assert queryParameters.size() == parameters.size();
+
+		Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap = null;
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			final QueryParameterImplementor<?> planParameter = parameters.get( i );
+			final QueryParameterImplementor<?> queryParameter = queryParameters.get( i );
+			if ( planParameter != queryParameter ) {
+				if ( parameterMap == null ) {
+					parameterMap = new IdentityHashMap<>( parameters.size() );
+				}
+				parameterMap.put( planParameter, queryParameter );
+			}
+		}
+
+		if ( parameterMap == null ) {
+			// the executing query is the one this plan was built from
+			return delegate;
+		}
+		return new ReboundSelectQueryPlan<>( delegate, parameterMap );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private static class ReboundSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap;
+
+		private ReboundSelectQueryPlan(
+				SelectQueryPlan<R> delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap) {
+			this.delegate = delegate;
+			this.parameterMap = parameterMap;
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( rebind( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, rebind( executionContext ) );
+		}
+
+		private DomainQueryExecutionContext rebind(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings bindings = new ReboundQueryParameterBindings(
+					executionContext.getQueryParameterBindings(),
+					parameterMap
+			);
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return bindings;
+				}
+			};
+		}
+	}
+
+	/**
+	 * View of the executing query's bindings in terms of the plan's parameters
+	 */
+	private static class ReboundQueryParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap;
+
+		private ReboundQueryParameterBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMap) {
+			this.delegate = delegate;
+			this.parameterMap = parameterMap;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> resolve(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> queryParameter = parameterMap.get( parameter );
+			return queryParameter == null ? parameter : (QueryParameterImplementor<P>) queryParameter;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( resolve( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( resolve( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor persistenceContext) {
+			return delegate.generateQueryKeyMemento( persistenceContext );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
@@ -19,7 +19,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -78,6 +77,7 @@ import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -443,16 +443,6 @@ public class QuerySqmImpl<R>
 		return false;
 	}
 
-	@Override
-	public Supplier<Boolean> hasMultiValuedParameterBindingsChecker() {
-		return this::hasMultiValuedParameterBindings;
-	}
-
-	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
-	}
-
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// select execution
@@ -558,33 +548,70 @@ public class QuerySqmImpl<R>
 	// Select query plan
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
-		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
+		final SqmInterpretationsKey cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
+		if ( cacheKey == null ) {
+			return buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() );
+		}
+
+		final QueryInterpretationCache interpretationCache = getSession().getFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		if ( cacheKey.isCriteria() ) {
+			final SelectQueryPlan<R> queryPlan = interpretationCache.resolveSelectQueryPlan(
 					cacheKey,
-					this::buildSelectQueryPlan
+					() -> buildCriteriaSelectQueryPlan( cacheKey.getCriteriaParameters() )
 			);
+			return ( (CriteriaSelectQueryPlan<R>) queryPlan ).forParameters( cacheKey.getCriteriaParameters() );
 		}
 		else {
-			return buildSelectQueryPlan();
+			return interpretationCache.resolveSelectQueryPlan(
+					cacheKey,
+					() -> buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() )
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildSelectQueryPlan() {
+	private SelectQueryPlan<R> buildCriteriaSelectQueryPlan(List<QueryParameterImplementor<?>> parameters) {
+		if ( getSession().isJpaCriteriaCopyComplianceEnabled() ) {
+			// the statement is already a copy private to this query
+			return new CriteriaSelectQueryPlan<>(
+					buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() ),
+					parameters
+			);
+		}
+
+		// the plan outlives this query, so it must not refer to a tree the application may still mutate
+		final SqmSelectStatement<R> statement = ( (SqmSelectStatement<R>) getSqmStatement() )
+				.copy( SqmCopyContext.simpleContext() );
+		return new CriteriaSelectQueryPlan<>(
+				buildSelectQueryPlan( statement, DomainParameterXref.from( statement ) ),
+				// copying creates new instances of the value-bind parameters
+				SqmCanonicalForm.from( statement ).getParameters()
+		);
+	}
+
+	private SelectQueryPlan<R> buildSelectQueryPlan(SqmSelectStatement<R> statement, DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<R>) getSqmStatement(),
+				statement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedSelectQueryPlan( concreteSqmStatements );
+			return buildAggregatedSelectQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteSelectQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteSelectQueryPlan(
+					concreteSqmStatements[0],
+					domainParameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -593,6 +620,7 @@ public class QuerySqmImpl<R>
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteSelectQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -603,12 +631,13 @@ public class QuerySqmImpl<R>
 
 	private <T> SelectQueryPlan<T> buildConcreteSelectQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -7,7 +7,6 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.List;
-import java.util.Map;
 
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -15,7 +14,6 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.MappingModelHelper;
 import org.hibernate.query.spi.NavigablePath;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
@@ -23,16 +21,12 @@ import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.Expression;
-import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.from.MutatingTableReferenceGroupWrapper;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
@@ -47,10 +41,9 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final EntityMappingType entityDescriptor;
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
+	private final List<QueryParameterImplementor<?>> multiValuedParameters;
 
-	private JdbcDelete jdbcDelete;
-	private SqmTranslation<DeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private volatile CacheableSqmMutationInterpretation<DeleteStatement, JdbcDelete> interpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -61,9 +54,12 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		this.entityDescriptor = entityDescriptor;
 		this.sqmDelete = sqmDelete;
 		this.domainParameterXref = domainParameterXref;
+		this.multiValuedParameters = SqmUtil.collectMultiValuedParameters( domainParameterXref );
 	}
 
-	private SqlAstTranslator<JdbcDelete> createDeleteTranslator(DomainQueryExecutionContext executionContext) {
+	private SqmTranslation<DeleteStatement> createDeleteTranslation(
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -77,15 +73,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		sqmInterpretation = translator.translate();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildDeleteTranslator( factory, sqmInterpretation.getSqlAst() );
+		return translator.translate();
 	}
 
 	@Override
@@ -94,43 +82,36 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcDelete> deleteTranslator = null;
-		if ( jdbcDelete == null ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				sqmInterpretation.getFromClauseAccess()::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-					}
-				},
-				session
+		final int[] bindingShape = SqmUtil.determineBindingShape(
+				multiValuedParameters,
+				executionContext.getQueryParameterBindings()
 		);
-
-		if ( jdbcDelete != null
-				&& ! jdbcDelete.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
-
-		if ( deleteTranslator != null ) {
-			jdbcDelete = deleteTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
-		}
-		else {
-			jdbcDelete.bindFilterJdbcParameters( jdbcParameterBindings );
+		CacheableSqmMutationInterpretation<DeleteStatement, JdbcDelete> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = localCopy == null
+				? null
+				: localCopy.createReusableParameterBindings( bindingShape, executionContext );
+		if ( jdbcParameterBindings == null ) {
+			localCopy = CacheableSqmMutationInterpretation.build(
+					domainParameterXref,
+					bindingShape,
+					executionContext,
+					this::createDeleteTranslation,
+					(sessionFactory, sqlAst) -> sessionFactory.getJdbcServices()
+							.getJdbcEnvironment()
+							.getSqlAstTranslatorFactory()
+							.buildDeleteTranslator( sessionFactory, sqlAst )
+			);
+			jdbcParameterBindings = localCopy.takeFirstParameterBindings();
+			interpretation = localCopy;
 		}
+		final SqmTranslation<DeleteStatement> sqmInterpretation = localCopy.getSqmTranslation();
 
 		final boolean missingRestriction = sqmDelete.getWhereClause() == null
 				|| sqmDelete.getWhereClause().getPredicate() == null;
 		if ( missingRestriction ) {
 			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert localCopy.getJdbcParamsXref().isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -177,7 +158,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		);
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcDelete,
+				localCopy.getJdbcMutation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
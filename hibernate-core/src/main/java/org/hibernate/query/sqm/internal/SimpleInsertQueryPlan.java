@@ -7,26 +7,19 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.List;
-import java.util.Map;
 
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryParameterImplementor;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
-import org.hibernate.sql.ast.spi.FromClauseAccess;
-import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.insert.InsertStatement;
 import org.hibernate.sql.exec.spi.JdbcInsert;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -37,20 +30,21 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 	private final SqmInsertStatement<?> sqmInsert;
 	private final DomainParameterXref domainParameterXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
+	private final List<QueryParameterImplementor<?>> multiValuedParameters;
 
-	private JdbcInsert jdbcInsert;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private volatile CacheableSqmMutationInterpretation<InsertStatement, JdbcInsert> interpretation;
 
 	public SimpleInsertQueryPlan(
 			SqmInsertStatement<?> sqmInsert,
 			DomainParameterXref domainParameterXref) {
 		this.sqmInsert = sqmInsert;
 		this.domainParameterXref = domainParameterXref;
+		this.multiValuedParameters = SqmUtil.collectMultiValuedParameters( domainParameterXref );
 	}
 
-	private SqlAstTranslator<JdbcInsert> createInsertTranslator(DomainQueryExecutionContext executionContext) {
+	private SqmTranslation<InsertStatement> createInsertTranslation(
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -64,21 +58,7 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		final SqmTranslation<InsertStatement> sqmInterpretation = translator.translate();
-
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		this.paramTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices()
-				.getJdbcEnvironment()
-				.getSqlAstTranslatorFactory()
-				.buildInsertTranslator( factory, sqmInterpretation.getSqlAst() );
+		return translator.translate();
 	}
 
 	@Override
@@ -87,42 +67,32 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcInsert> insertTranslator = null;
-		if ( jdbcInsert == null ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) paramTypeResolutions.get(parameter);
-					}
-				},
-				session
+		final int[] bindingShape = SqmUtil.determineBindingShape(
+				multiValuedParameters,
+				executionContext.getQueryParameterBindings()
 		);
-
-		if ( jdbcInsert != null && !jdbcInsert.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
-
-		if ( insertTranslator != null ) {
-			jdbcInsert = insertTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
-		}
-		else {
-			jdbcInsert.bindFilterJdbcParameters( jdbcParameterBindings );
+		CacheableSqmMutationInterpretation<InsertStatement, JdbcInsert> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = localCopy == null
+				? null
+				: localCopy.createReusableParameterBindings( bindingShape, executionContext );
+		if ( jdbcParameterBindings == null ) {
+			localCopy = CacheableSqmMutationInterpretation.build(
+					domainParameterXref,
+					bindingShape,
+					executionContext,
+					this::createInsertTranslation,
+					(sessionFactory, sqlAst) -> sessionFactory.getJdbcServices()
+							.getJdbcEnvironment()
+							.getSqlAstTranslatorFactory()
+							.buildInsertTranslator( sessionFactory, sqlAst )
+			);
+			jdbcParameterBindings = localCopy.takeFirstParameterBindings();
+			interpretation = localCopy;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcInsert,
+				localCopy.getJdbcMutation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
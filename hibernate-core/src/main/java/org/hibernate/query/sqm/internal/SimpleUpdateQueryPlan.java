@@ -7,26 +7,19 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.List;
-import java.util.Map;
 
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryParameterImplementor;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
-import org.hibernate.sql.ast.spi.FromClauseAccess;
-import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcUpdate;
@@ -37,17 +30,16 @@ import org.hibernate.sql.exec.spi.JdbcUpdate;
 public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 	private final SqmUpdateStatement<?> sqmUpdate;
 	private final DomainParameterXref domainParameterXref;
+	private final List<QueryParameterImplementor<?>> multiValuedParameters;
 
-	private JdbcUpdate jdbcUpdate;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions;
+	private volatile CacheableSqmMutationInterpretation<UpdateStatement, JdbcUpdate> interpretation;
 
 	public SimpleUpdateQueryPlan(
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref) {
 		this.sqmUpdate = sqmUpdate;
 		this.domainParameterXref = domainParameterXref;
+		this.multiValuedParameters = SqmUtil.collectMultiValuedParameters( domainParameterXref );
 	}
 
 	@Override
@@ -56,42 +48,32 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcUpdate> updateTranslator = null;
-		if ( jdbcUpdate == null ) {
-			updateTranslator = createUpdateTranslator( executionContext );
-		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmParamMappingTypeResolutions.get(parameter);
-					}
-				},
-				session
+		final int[] bindingShape = SqmUtil.determineBindingShape(
+				multiValuedParameters,
+				executionContext.getQueryParameterBindings()
 		);
-
-		if ( jdbcUpdate != null && !jdbcUpdate.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			updateTranslator = createUpdateTranslator( executionContext );
-		}
-
-		if ( updateTranslator != null ) {
-			jdbcUpdate = updateTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
-		}
-		else {
-			jdbcUpdate.bindFilterJdbcParameters( jdbcParameterBindings );
+		CacheableSqmMutationInterpretation<UpdateStatement, JdbcUpdate> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = localCopy == null
+				? null
+				: localCopy.createReusableParameterBindings( bindingShape, executionContext );
+		if ( jdbcParameterBindings == null ) {
+			localCopy = CacheableSqmMutationInterpretation.build(
+					domainParameterXref,
+					bindingShape,
+					executionContext,
+					this::createUpdateTranslation,
+					(sessionFactory, sqlAst) -> sessionFactory.getJdbcServices()
+							.getJdbcEnvironment()
+							.getSqlAstTranslatorFactory()
+							.buildUpdateTranslator( sessionFactory, sqlAst )
+			);
+			jdbcParameterBindings = localCopy.takeFirstParameterBindings();
+			interpretation = localCopy;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcUpdate,
+				localCopy.getJdbcMutation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -102,7 +84,9 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		);
 	}
 
-	private SqlAstTranslator<JdbcUpdate> createUpdateTranslator(DomainQueryExecutionContext executionContext) {
+	private SqmTranslation<UpdateStatement> createUpdateTranslation(
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -116,18 +100,6 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		final SqmTranslation<UpdateStatement> sqmInterpretation = translator.translate();
-
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		this.sqmParamMappingTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildUpdateTranslator( factory, sqmInterpretation.getSqlAst() );
+		return translator.translate();
 	}
 }
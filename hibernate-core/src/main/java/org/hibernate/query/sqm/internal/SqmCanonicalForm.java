@@ -0,0 +1,1137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.sql.internal.SelfInterpretingSqmPath;
+import org.hibernate.query.sqm.tree.SqmTypedNode;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmAliasedNodeRef;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmAndPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmOrPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A canonical, parameter-abstracted rendering of a Criteria-built SQM tree,
+ * used as the structural part of a query plan cache key.
+ * <p>
+ * Unlike the query string of an HQL query, a Criteria tree has no natural
+ * textual identity - its aliases are usually generated and its parameters
+ * are objects rather than names.  The canonical form replaces every
+ * {@link SqmFrom} with an ordinal based on the order in which it is first
+ * encountered and every {@link JpaCriteriaParameter} with an ordinal plus its
+ * anticipated type, so that two structurally equal trees built independently
+ * render to the same form.  The parameters are collected in that same order,
+ * which allows a plan built for one tree to be executed with the bindings of
+ * another one; see {@link CriteriaSelectQueryPlan}.
+ * <p>
+ * The rendering is deliberately conservative: only node types whose
+ * translation-relevant state is fully captured are supported.  Encountering
+ * anything else makes {@link #from} return {@code null}, meaning that the
+ * tree is simply not cacheable.
+ */
+public final class SqmCanonicalForm {
+	/**
+	 * Prefix of every canonical form.  HQL can never start with it, which keeps
+	 * Criteria based keys distinct from HQL based ones.
+	 */
+	private static final String PREFIX = QuerySqmImpl.CRITERIA_HQL_STRING;
+
+	/**
+	 * Render the canonical form of the given Criteria select statement.
+	 *
+	 * @return The canonical form, or {@code null} if the statement contains
+	 * nodes which cannot be rendered canonically
+	 */
+	public static SqmCanonicalForm from(SqmSelectStatement<?> statement) {
+		final Renderer renderer = new Renderer();
+		try {
+			renderer.visitSelectStatement( statement );
+		}
+		catch (NotCanonicalizableException e) {
+			return null;
+		}
+		return new SqmCanonicalForm( renderer.sb.toString(), renderer.parameters );
+	}
+
+	private final String form;
+	private final List<QueryParameterImplementor<?>> parameters;
+
+	private SqmCanonicalForm(String form, List<QueryParameterImplementor<?>> parameters) {
+		this.form = form;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * The rendered canonical form
+	 */
+	public String getForm() {
+		return form;
+	}
+
+	/**
+	 * The query parameters of the rendered tree, in canonical order
+	 */
+	public List<QueryParameterImplementor<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public String toString() {
+		return form;
+	}
+
+	private static class NotCanonicalizableException extends RuntimeException {
+		private static final NotCanonicalizableException INSTANCE = new NotCanonicalizableException();
+
+		private NotCanonicalizableException() {
+			super( "SQM tree cannot be rendered canonically", null, false, false );
+		}
+	}
+
+	private static class Renderer implements SemanticQueryWalker<Object> {
+		private final StringBuilder sb = new StringBuilder( PREFIX );
+		private final Map<SqmFrom<?, ?>, Integer> fromOrdinals = new IdentityHashMap<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterOrdinals = new IdentityHashMap<>();
+		private final List<QueryParameterImplementor<?>> parameters = new ArrayList<>();
+
+		private static <T> T unsupported() {
+			throw NotCanonicalizableException.INSTANCE;
+		}
+
+		private void render(SqmVisitableNode node) {
+			if ( node == null ) {
+				sb.append( '~' );
+			}
+			else {
+				node.accept( this );
+			}
+		}
+
+		private void render(List<? extends SqmVisitableNode> nodes) {
+			sb.append( '[' );
+			for ( int i = 0; i < nodes.size(); i++ ) {
+				if ( i > 0 ) {
+					sb.append( ',' );
+				}
+				render( nodes.get( i ) );
+			}
+			sb.append( ']' );
+		}
+
+		private void renderString(String value) {
+			if ( value == null ) {
+				sb.append( '~' );
+			}
+			else {
+				// length-prefixed, so that no value can ever be mistaken for structure
+				sb.append( value.length() ).append( '\'' ).append( value );
+			}
+		}
+
+		private void renderType(SqmExpressible<?> type) {
+			sb.append( '<' );
+			if ( type != null ) {
+				renderJavaType( type.getExpressibleJavaType() );
+			}
+			sb.append( '>' );
+		}
+
+		private void renderJavaType(JavaType<?> javaType) {
+			if ( javaType != null ) {
+				sb.append( javaType.getJavaType().getTypeName() );
+			}
+		}
+
+		private void renderFrom(SqmFrom<?, ?> from) {
+			final Integer ordinal = fromOrdinals.get( from );
+			if ( ordinal == null ) {
+				final int newOrdinal = fromOrdinals.size();
+				fromOrdinals.put( from, newOrdinal );
+				sb.append( 'f' ).append( newOrdinal );
+			}
+			else {
+				sb.append( 'f' ).append( ordinal );
+			}
+		}
+
+		private void renderPath(SqmPath<?> path) {
+			if ( path instanceof SqmTreatedPath<?, ?> ) {
+				unsupported();
+			}
+			if ( path instanceof SqmFrom<?, ?> ) {
+				final SqmFrom<?, ?> from = (SqmFrom<?, ?>) path;
+				if ( from.hasTreats() ) {
+					unsupported();
+				}
+				renderFrom( from );
+			}
+			else {
+				final SqmPath<?> lhs = path.getLhs();
+				if ( lhs == null ) {
+					unsupported();
+				}
+				renderPath( lhs );
+				sb.append( '.' );
+				renderString( path.getReferencedPathSource().getPathName() );
+			}
+		}
+
+		private void renderNegation(SqmPredicate predicate) {
+			if ( predicate.isNegated() ) {
+				sb.append( '!' );
+			}
+		}
+
+		private void renderCteContainer(SqmCteContainer container) {
+			if ( !container.getCteStatements().isEmpty() ) {
+				unsupported();
+			}
+		}
+
+		private void renderQueryPart(SqmQueryPart<?> queryPart) {
+			queryPart.accept( this );
+			final SqmOrderByClause orderByClause = queryPart.getOrderByClause();
+			if ( orderByClause != null ) {
+				visitOrderByClause( orderByClause );
+			}
+			sb.append( " offset " );
+			render( queryPart.getOffsetExpression() );
+			sb.append( " fetch " ).append( queryPart.getFetchClauseType() ).append( ' ' );
+			render( queryPart.getFetchExpression() );
+		}
+
+		private void renderGroupOrOrderItem(SqmExpression<?> expression) {
+			if ( expression instanceof SqmAliasedNodeRef ) {
+				sb.append( '#' ).append( ( (SqmAliasedNodeRef) expression ).getPosition() );
+			}
+			else {
+				render( expression );
+			}
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// statements
+
+		@Override
+		public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+			renderCteContainer( statement );
+			renderQueryPart( statement.getQueryPart() );
+			return null;
+		}
+
+		@Override
+		public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitSetClause(SqmSetClause setClause) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitAssignment(SqmAssignment assignment) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitCteContainer(SqmCteContainer consumer) {
+			renderCteContainer( consumer );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// query parts
+
+		@Override
+		public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+			sb.append( '(' ).append( queryGroup.getSetOperator() );
+			for ( SqmQueryPart<?> queryPart : queryGroup.getQueryParts() ) {
+				sb.append( ' ' );
+				renderQueryPart( queryPart );
+			}
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+			// the from-clause is rendered first, so that from-element ordinals
+			// are assigned in declaration order
+			sb.append( "from " );
+			visitFromClause( querySpec.getFromClause() );
+			sb.append( " select " );
+			visitSelectClause( querySpec.getSelectClause() );
+			sb.append( " where " );
+			visitWhereClause( querySpec.getWhereClause() );
+			sb.append( " group by " );
+			visitGroupByClause( querySpec.getGroupByClauseExpressions() );
+			sb.append( " having " );
+			visitHavingClause( querySpec.getHavingClausePredicate() );
+			return null;
+		}
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			if ( fromClause == null ) {
+				sb.append( '~' );
+				return null;
+			}
+			sb.append( '[' );
+			for ( SqmRoot<?> root : fromClause.getRoots() ) {
+				root.accept( this );
+				sb.append( ';' );
+			}
+			sb.append( ']' );
+			return null;
+		}
+
+		private void renderJoins(SqmFrom<?, ?> from) {
+			for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+				sb.append( ' ' );
+				join.accept( this );
+			}
+		}
+
+		@Override
+		public Object visitRootPath(SqmRoot<?> sqmRoot) {
+			if ( sqmRoot.isCorrelated() || sqmRoot.hasTreats() ) {
+				return unsupported();
+			}
+			renderString( sqmRoot.getEntityName() );
+			sb.append( " as " );
+			renderFrom( sqmRoot );
+			renderJoins( sqmRoot );
+			return null;
+		}
+
+		@Override
+		public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+			if ( correlation.hasTreats() ) {
+				return unsupported();
+			}
+			sb.append( "correlate " );
+			renderFrom( correlation.getCorrelationParent() );
+			sb.append( " as " );
+			renderFrom( correlation );
+			renderJoins( correlation );
+			return null;
+		}
+
+		@Override
+		public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+			if ( joinedFromElement.hasTreats() ) {
+				return unsupported();
+			}
+			sb.append( "cross join " );
+			renderString( joinedFromElement.getEntityName() );
+			sb.append( " as " );
+			renderFrom( joinedFromElement );
+			renderJoins( joinedFromElement );
+			return null;
+		}
+
+		@Override
+		public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+			if ( joinedFromElement.hasTreats() ) {
+				return unsupported();
+			}
+			sb.append( joinedFromElement.getSqmJoinType() ).append( " join " );
+			renderString( joinedFromElement.getEntityName() );
+			sb.append( " as " );
+			renderFrom( joinedFromElement );
+			sb.append( " on " );
+			render( joinedFromElement.getJoinPredicate() );
+			renderJoins( joinedFromElement );
+			return null;
+		}
+
+		@Override
+		public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+			if ( joinedFromElement.hasTreats() || joinedFromElement instanceof SqmCorrelation<?, ?> ) {
+				return unsupported();
+			}
+			sb.append( joinedFromElement.getSqmJoinType() );
+			sb.append( joinedFromElement.isFetched() ? " fetch " : " join " );
+			renderPath( joinedFromElement.getLhs() );
+			sb.append( '.' );
+			renderString( joinedFromElement.getReferencedPathSource().getPathName() );
+			sb.append( " as " );
+			renderFrom( joinedFromElement );
+			sb.append( " on " );
+			render( joinedFromElement.getJoinPredicate() );
+			renderJoins( joinedFromElement );
+			return null;
+		}
+
+		@Override
+		public Object visitSelectClause(SqmSelectClause selectClause) {
+			if ( selectClause == null ) {
+				sb.append( '~' );
+				return null;
+			}
+			if ( selectClause.isDistinct() ) {
+				sb.append( "distinct " );
+			}
+			render( selectClause.getSelections() );
+			return null;
+		}
+
+		@Override
+		public Object visitSelection(SqmSelection<?> selection) {
+			render( selection.getSelectableNode() );
+			sb.append( " as " );
+			renderString( selection.getAlias() );
+			return null;
+		}
+
+		@Override
+		public Object visitValues(SqmValues values) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+			sb.append( '[' );
+			if ( groupByClauseExpressions != null ) {
+				for ( SqmExpression<?> expression : groupByClauseExpressions ) {
+					renderGroupOrOrderItem( expression );
+					sb.append( ',' );
+				}
+			}
+			sb.append( ']' );
+			return null;
+		}
+
+		@Override
+		public Object visitHavingClause(SqmPredicate clause) {
+			render( clause );
+			return null;
+		}
+
+		@Override
+		public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+			sb.append( "new " ).append( sqmDynamicInstantiation.getInstantiationTarget().getNature() ).append( ' ' );
+			renderJavaType( sqmDynamicInstantiation.getInstantiationTarget().getTargetTypeDescriptor() );
+			sb.append( '(' );
+			for ( SqmDynamicInstantiationArgument<?> argument : sqmDynamicInstantiation.getArguments() ) {
+				render( argument.getSelectableNode() );
+				sb.append( " as " );
+				renderString( argument.getAlias() );
+				sb.append( ',' );
+			}
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+			sb.append( "compound " );
+			renderJavaType( selection.getJavaTypeDescriptor() );
+			sb.append( '(' );
+			for ( SqmSelectableNode<?> selectionItem : selection.getSelectionItems() ) {
+				render( selectionItem );
+				sb.append( " as " );
+				renderString( selectionItem.getAlias() );
+				sb.append( ',' );
+			}
+			sb.append( ')' );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// paths
+
+		@Override
+		public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+			renderPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+			renderPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+			renderPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+			renderPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+			renderPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+			renderPath( path );
+			return null;
+		}
+
+		@Override
+		public Object visitSelfInterpretingSqmPath(SelfInterpretingSqmPath<?> sqmPath) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> function) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+			sb.append( "size(" );
+			renderPath( function.getPluralPath() );
+			sb.append( ')' );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// expressions
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			final Object value = literal.getLiteralValue();
+			if ( value == null ) {
+				sb.append( "null" );
+			}
+			else if ( value instanceof String || value instanceof Character ) {
+				renderString( value.toString() );
+			}
+			else if ( value instanceof Boolean || value instanceof Integer || value instanceof Long
+					|| value instanceof Short || value instanceof Byte || value instanceof Double
+					|| value instanceof Float || value instanceof BigInteger || value instanceof BigDecimal
+					|| value instanceof Temporal || value instanceof UUID ) {
+				// the toString() of these types is unambiguous for the given type
+				sb.append( value );
+			}
+			else {
+				return unsupported();
+			}
+			renderType( literal.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+			sb.append( sqmEnumLiteral.getEnumValue().getDeclaringClass().getName() )
+					.append( '.' )
+					.append( sqmEnumLiteral.getEnumValue().name() );
+			return null;
+		}
+
+		@Override
+		public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+			renderJavaType( sqmFieldLiteral.getExpressibleJavaType() );
+			sb.append( '.' ).append( sqmFieldLiteral.getFieldName() );
+			return null;
+		}
+
+		@Override
+		public Object visitTuple(SqmTuple<?> sqmTuple) {
+			sb.append( "tuple" );
+			render( sqmTuple.getGroupedExpressions() );
+			return null;
+		}
+
+		@Override
+		public Object visitCollation(SqmCollation sqmCollate) {
+			sb.append( "collation " );
+			renderString( sqmCollate.getLiteralValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+			sb.append( '(' );
+			render( expression.getLeftHandOperand() );
+			sb.append( ' ' ).append( expression.getOperator() ).append( ' ' );
+			render( expression.getRightHandOperand() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			renderCteContainer( expression );
+			sb.append( "subquery" );
+			renderType( expression.getNodeType() );
+			sb.append( '(' );
+			renderQueryPart( expression.getQueryPart() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+			sb.append( expression.getModifier() ).append( ' ' );
+			render( expression.getSubQuery() );
+			return null;
+		}
+
+		@Override
+		public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+			sb.append( "case " );
+			render( expression.getFixture() );
+			for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+				sb.append( " when " );
+				render( whenFragment.getCheckValue() );
+				sb.append( " then " );
+				render( whenFragment.getResult() );
+			}
+			sb.append( " else " );
+			render( expression.getOtherwise() );
+			sb.append( " end" );
+			renderType( expression.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+			sb.append( "case" );
+			for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+				sb.append( " when " );
+				render( whenFragment.getPredicate() );
+				sb.append( " then " );
+				render( whenFragment.getResult() );
+			}
+			sb.append( " else " );
+			render( expression.getOtherwise() );
+			sb.append( " end" );
+			renderType( expression.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitAny(SqmAny<?> sqmAny) {
+			sb.append( "any " );
+			render( sqmAny.getSubquery() );
+			return null;
+		}
+
+		@Override
+		public Object visitEvery(SqmEvery<?> sqmEvery) {
+			sb.append( "every " );
+			render( sqmEvery.getSubquery() );
+			return null;
+		}
+
+		@Override
+		public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+			sb.append( sqmSummarization.getKind() );
+			render( sqmSummarization.getGroupings() );
+			return null;
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			Integer ordinal = parameterOrdinals.get( expression );
+			if ( ordinal == null ) {
+				ordinal = parameters.size();
+				parameterOrdinals.put( expression, ordinal );
+				parameters.add( expression );
+			}
+			sb.append( '?' ).append( ordinal );
+			if ( expression instanceof ValueBindJpaCriteriaParameter<?> ) {
+				sb.append( 'v' );
+			}
+			if ( expression.allowsMultiValuedBinding() ) {
+				sb.append( 'm' );
+			}
+			renderType( expression.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+			sb.append( "type " );
+			renderString( expression.getNodeType().getHibernateEntityName() );
+			return null;
+		}
+
+		@Override
+		public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+			return unsupported();
+		}
+
+		@Override
+		public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+			sb.append( expression.getOperation() ).append( '(' );
+			render( expression.getOperand() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> tSqmFunction) {
+			renderString( tSqmFunction.getFunctionName() );
+			sb.append( '(' );
+			for ( SqmTypedNode<?> argument : tSqmFunction.getArguments() ) {
+				if ( !( argument instanceof SqmVisitableNode ) ) {
+					return unsupported();
+				}
+				render( (SqmVisitableNode) argument );
+				sb.append( ',' );
+			}
+			sb.append( ')' );
+			if ( tSqmFunction instanceof SqmAggregateFunction<?> ) {
+				sb.append( " filter " );
+				render( ( (SqmAggregateFunction<?>) tSqmFunction ).getFilter() );
+			}
+			renderType( tSqmFunction.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+			sb.append( extractUnit.getUnit() );
+			return null;
+		}
+
+		@Override
+		public Object visitFormat(SqmFormat sqmFormat) {
+			sb.append( "format " );
+			renderString( sqmFormat.getLiteralValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitCastTarget(SqmCastTarget<?> sqmCastTarget) {
+			sb.append( "cast " );
+			renderType( sqmCastTarget.getNodeType() );
+			sb.append( sqmCastTarget.getLength() )
+					.append( ',' )
+					.append( sqmCastTarget.getPrecision() )
+					.append( ',' )
+					.append( sqmCastTarget.getScale() );
+			return null;
+		}
+
+		@Override
+		public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+			sb.append( trimSpecification.getSpecification() );
+			return null;
+		}
+
+		@Override
+		public Object visitDistinct(SqmDistinct<?> distinct) {
+			sb.append( "distinct " );
+			render( distinct.getExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitStar(SqmStar sqmStar) {
+			sb.append( '*' );
+			return null;
+		}
+
+		@Override
+		public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+			sb.append( "coalesce" );
+			render( sqmCoalesce.getArguments() );
+			renderType( sqmCoalesce.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitToDuration(SqmToDuration<?> toDuration) {
+			sb.append( "duration(" );
+			render( toDuration.getMagnitude() );
+			sb.append( ' ' );
+			render( toDuration.getUnit() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitByUnit(SqmByUnit sqmByUnit) {
+			sb.append( "by(" );
+			render( sqmByUnit.getDuration() );
+			sb.append( ' ' );
+			render( sqmByUnit.getUnit() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+			sb.append( durationUnit.getUnit() );
+			return null;
+		}
+
+		@Override
+		public Object visitFullyQualifiedClass(Class<?> namedClass) {
+			return unsupported();
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// predicates
+
+		@Override
+		public Object visitWhereClause(SqmWhereClause whereClause) {
+			render( whereClause == null ? null : whereClause.getPredicate() );
+			return null;
+		}
+
+		@Override
+		public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+			sb.append( '(' );
+			render( predicate.getSubPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitAndPredicate(SqmAndPredicate predicate) {
+			sb.append( '(' );
+			render( predicate.getLeftHandPredicate() );
+			sb.append( " and " );
+			render( predicate.getRightHandPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitOrPredicate(SqmOrPredicate predicate) {
+			sb.append( '(' );
+			render( predicate.getLeftHandPredicate() );
+			sb.append( " or " );
+			render( predicate.getRightHandPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+			renderNegation( predicate );
+			sb.append( '(' );
+			render( predicate.getLeftHandExpression() );
+			sb.append( ' ' ).append( predicate.getSqmOperator() ).append( ' ' );
+			render( predicate.getRightHandExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+			renderNegation( predicate );
+			sb.append( "empty(" );
+			render( predicate.getPluralPath() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+			renderNegation( predicate );
+			sb.append( "null(" );
+			render( predicate.getExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+			renderNegation( predicate );
+			sb.append( "between(" );
+			render( predicate.getExpression() );
+			sb.append( ',' );
+			render( predicate.getLowerBound() );
+			sb.append( ',' );
+			render( predicate.getUpperBound() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitLikePredicate(SqmLikePredicate predicate) {
+			renderNegation( predicate );
+			sb.append( predicate.isCaseSensitive() ? "like(" : "ilike(" );
+			render( predicate.getMatchExpression() );
+			sb.append( ',' );
+			render( predicate.getPattern() );
+			sb.append( ',' );
+			render( predicate.getEscapeCharacter() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+			renderNegation( predicate );
+			sb.append( "member(" );
+			render( predicate.getLeftHandExpression() );
+			sb.append( ',' );
+			render( predicate.getPluralPath() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+			renderNegation( predicate );
+			sb.append( "not(" );
+			render( predicate.getWrappedPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			renderNegation( predicate );
+			sb.append( "in(" );
+			render( predicate.getTestExpression() );
+			sb.append( ',' );
+			render( predicate.getListExpressions() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+			renderNegation( predicate );
+			sb.append( "in(" );
+			render( predicate.getTestExpression() );
+			sb.append( ',' );
+			render( predicate.getSubQueryExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+			renderNegation( predicate );
+			sb.append( "is(" );
+			render( predicate.getBooleanExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitExistsPredicate(SqmExistsPredicate sqmExistsPredicate) {
+			renderNegation( sqmExistsPredicate );
+			sb.append( "exists(" );
+			render( sqmExistsPredicate.getExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// ordering and limits
+
+		@Override
+		public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+			sb.append( " order by [" );
+			final List<SqmSortSpecification> sortSpecifications = orderByClause.getSortSpecifications();
+			for ( SqmSortSpecification sortSpecification : sortSpecifications == null
+					? Collections.<SqmSortSpecification>emptyList()
+					: sortSpecifications ) {
+				visitSortSpecification( sortSpecification );
+				sb.append( ',' );
+			}
+			sb.append( ']' );
+			return null;
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			renderGroupOrOrderItem( sortSpecification.getSortExpression() );
+			sb.append( ' ' )
+					.append( sortSpecification.getSortOrder() )
+					.append( ' ' )
+					.append( sortSpecification.getNullPrecedence() );
+			return null;
+		}
+
+		@Override
+		public Object visitOffsetExpression(SqmExpression<?> expression) {
+			render( expression );
+			return null;
+		}
+
+		@Override
+		public Object visitFetchExpression(SqmExpression<?> expression) {
+			render( expression );
+			return null;
+		}
+	}
+}
@@ -6,16 +6,33 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.function.Supplier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 
-import static java.lang.Boolean.TRUE;
+import jakarta.persistence.Tuple;
 
 /**
  * @author Steve Ebersole
@@ -25,11 +42,11 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		String getQueryString();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
-		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
 		Class<?> getResultType();
+		SqmStatement<?> getSqmStatement();
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
@@ -37,94 +54,255 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return null;
 		}
 
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			return createCriteriaInterpretationsKey( keySource );
+		}
+
 		return new SqmInterpretationsKey(
 				keySource.getQueryString(),
+				Collections.emptyList(),
 				keySource.getResultType(),
 				keySource.getQueryOptions().getLockOptions(),
 				keySource.getQueryOptions().getTupleTransformer(),
-				keySource.getQueryOptions().getResultListTransformer()
+				keySource.getQueryOptions().getResultListTransformer(),
+				renderEnabledFilters( keySource.getLoadQueryInfluencers() ),
+				enabledFetchProfiles( keySource.getLoadQueryInfluencers() ),
+				renderAppliedGraph( keySource.getQueryOptions().getAppliedGraph() )
+		);
+	}
+
+	private static SqmInterpretationsKey createCriteriaInterpretationsKey(InterpretationsKeySource keySource) {
+		final Class<?> resultType = keySource.getResultType();
+		if ( resultType != null && Tuple.class.isAssignableFrom( resultType ) ) {
+			// the TupleMetadata of the plan refers to the selections of the tree by identity
+			return null;
+		}
+
+		if ( !( keySource.getSqmStatement() instanceof SqmSelectStatement<?> ) ) {
+			return null;
+		}
+
+		// Criteria trees have no query string, so we use a canonical rendering of
+		// the tree instead.  The parameters of the tree are collected in the same
+		// order, so that the plan can be applied to the bindings of another tree
+		final SqmCanonicalForm canonicalForm = SqmCanonicalForm.from( (SqmSelectStatement<?>) keySource.getSqmStatement() );
+		if ( canonicalForm == null ) {
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				canonicalForm.getForm(),
+				canonicalForm.getParameters(),
+				resultType,
+				keySource.getQueryOptions().getLockOptions(),
+				keySource.getQueryOptions().getTupleTransformer(),
+				keySource.getQueryOptions().getResultListTransformer(),
+				renderEnabledFilters( keySource.getLoadQueryInfluencers() ),
+				enabledFetchProfiles( keySource.getLoadQueryInfluencers() ),
+				renderAppliedGraph( keySource.getQueryOptions().getAppliedGraph() )
 		);
 	}
-	@SuppressWarnings("RedundantIfStatement")
+
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
-			return false;
-		}
+		// NOTE : enabled filters, fetch profiles and an applied entity graph are
+		//		part of the key, see `#renderEnabledFilters`, `#enabledFetchProfiles`
+		//		and `#renderAppliedGraph`.  Multi-valued parameter bindings do not
+		//		prevent caching either - the plan keeps the expansions per
+		//		interpretation and re-translates when the number of bound values
+		//		changes
 
-		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
-			// At the moment we cannot cache query plan if there is filter enabled.
-			return false;
+		return true;
+	}
+
+	/**
+	 * The enabled filters, as far as they influence the translation: the filter names
+	 * and, for each parameter, whether it is multi-valued and if so how many values
+	 * are bound.  The parameter values themselves are re-bound for each execution.
+	 *
+	 * @see org.hibernate.internal.FilterJdbcParameter#getBinding(Map, Map)
+	 */
+	private static String renderEnabledFilters(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
 		}
 
-		if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
-			// At the moment we cannot cache query plan if there is an
-			// EntityGraph enabled.
-			return false;
+		final StringBuilder sb = new StringBuilder();
+		for ( Filter filter : new TreeMap<>( loadQueryInfluencers.getEnabledFilters() ).values() ) {
+			final FilterImpl enabledFilter = (FilterImpl) filter;
+			sb.append( enabledFilter.getName() ).append( '(' );
+			for ( Map.Entry<String, ?> entry : new TreeMap<>( enabledFilter.getParameters() ).entrySet() ) {
+				sb.append( entry.getKey() );
+				final JdbcMapping jdbcMapping = enabledFilter.getFilterDefinition().getParameterJdbcMapping( entry.getKey() );
+				// same condition as FilterHelper uses to decide about expanding the parameter
+				if ( entry.getValue() instanceof Iterable<?>
+						&& !jdbcMapping.getJavaTypeDescriptor().isInstance( entry.getValue() ) ) {
+					int size = 0;
+					for ( Object ignored : (Iterable<?>) entry.getValue() ) {
+						size++;
+					}
+					sb.append( '[' ).append( size ).append( ']' );
+				}
+				sb.append( ',' );
+			}
+			sb.append( ')' );
 		}
+		return sb.toString();
+	}
 
-		if ( keySource.hasMultiValuedParameterBindingsChecker().get() ) {
-			// cannot cache query plans if there are multi-valued param bindings
-			return false;
+	private static Set<String> enabledFetchProfiles(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFetchProfiles() ) {
+			return Collections.emptySet();
 		}
-		if ( keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
-			// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-			//		- the expansion is done per-execution based on the "static" SQM
-			//  - Note from Christian: The call to domainParameterXref.clearExpansions() in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-			//  - This could be solved by using a method-local clone of domainParameterXref when multi-valued params exist
-			return false;
+		return new HashSet<>( loadQueryInfluencers.getEnabledFetchProfileNames() );
+	}
+
+	/**
+	 * The applied entity graph, rendered structurally.  Graphs are mutable, and
+	 * different graph instances describing the same fetches should share a plan.
+	 */
+	private static String renderAppliedGraph(AppliedGraph appliedGraph) {
+		if ( appliedGraph.getSemantic() == null ) {
+			return null;
 		}
 
-		return true;
+		final StringBuilder sb = new StringBuilder();
+		sb.append( appliedGraph.getSemantic() ).append( ' ' );
+		renderGraph( appliedGraph.getGraph(), sb );
+		return sb.toString();
 	}
 
-	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+	private static void renderGraph(GraphImplementor<?> graph, StringBuilder sb) {
+		sb.append( graph.getGraphedType().getTypeName() ).append( '{' );
+		for ( AttributeNodeImplementor<?> attributeNode : graph.getAttributeNodeImplementors() ) {
+			sb.append( attributeNode.getAttributeName() );
+			renderSubGraphs( attributeNode.getSubGraphMap(), sb );
+			sb.append( "key" );
+			renderSubGraphs( attributeNode.getKeySubGraphMap(), sb );
+			sb.append( ',' );
+		}
+		sb.append( '}' );
 	}
 
+	private static void renderSubGraphs(Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphs, StringBuilder sb) {
+		sb.append( '[' );
+		if ( !subGraphs.isEmpty() ) {
+			final List<SubGraphImplementor<?>> sorted = new ArrayList<>( subGraphs.values() );
+			// the maps are keyed by Class, which has no stable iteration order
+			sorted.sort( Comparator.comparing( subGraph -> subGraph.getGraphedType().getTypeName() ) );
+			for ( SubGraphImplementor<?> subGraph : sorted ) {
+				renderGraph( subGraph, sb );
+			}
+		}
+		sb.append( ']' );
+	}
+
+	/**
+	 * Key for the plan of an HQL insert, update or delete statement.  The simple
+	 * (single-table) plans keep their translation for re-use (see
+	 * `CacheableSqmMutationInterpretation`); the multi-table plans are stateless
+	 * and still translate for each execution, so caching them is merely harmless.
+	 */
+	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keySource) {
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			// the canonical form of Criteria trees (SqmCanonicalForm) only covers selects
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				keySource.getQueryString(),
+				Collections.emptyList(),
+				null,
+				keySource.getQueryOptions().getLockOptions(),
+				null,
+				null,
+				renderEnabledFilters( keySource.getLoadQueryInfluencers() ),
+				enabledFetchProfiles( keySource.getLoadQueryInfluencers() ),
+				null
+		);
+	}
 
 	private final String query;
+	private final List<QueryParameterImplementor<?>> criteriaParameters;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
+	private final String enabledFilters;
+	private final Set<String> enabledFetchProfiles;
+	private final String appliedGraph;
 
 	private SqmInterpretationsKey(
 			String query,
+			List<QueryParameterImplementor<?>> criteriaParameters,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
-			ResultListTransformer resultListTransformer) {
+			ResultListTransformer resultListTransformer,
+			String enabledFilters,
+			Set<String> enabledFetchProfiles,
+			String appliedGraph) {
 		this.query = query;
+		this.criteriaParameters = criteriaParameters;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
+		this.enabledFilters = enabledFilters;
+		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.appliedGraph = appliedGraph;
 	}
 
 	@Override
 	public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
+				// The parameters are those of the query which caused the plan to be built;
+				// they are not part of the identity of the key
+				Collections.emptyList(),
 				resultType,
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
 				tupleTransformer,
-				resultListTransformer
+				resultListTransformer,
+				enabledFilters,
+				enabledFetchProfiles,
+				appliedGraph
 		);
 	}
 
 	@Override
 	public String getQueryString() {
-		return query;
+		// the canonical form of a Criteria query is not meant for display
+		return isCriteria() ? QuerySqmImpl.CRITERIA_HQL_STRING : query;
+	}
+
+	@Override
+	public boolean hasEnabledFilters() {
+		return enabledFilters != null;
+	}
+
+	@Override
+	public boolean hasAppliedGraph() {
+		return appliedGraph != null;
+	}
+
+	/**
+	 * Whether this key was generated for a Criteria query
+	 */
+	public boolean isCriteria() {
+		return query.startsWith( QuerySqmImpl.CRITERIA_HQL_STRING );
+	}
+
+	/**
+	 * The parameters of the Criteria query this key was generated for, in
+	 * canonical order
+	 *
+	 * @see CriteriaSelectQueryPlan#forParameters
+	 */
+	public List<QueryParameterImplementor<?>> getCriteriaParameters() {
+		return criteriaParameters;
 	}
 
 	@Override
@@ -141,7 +319,10 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( lockOptions, that.lockOptions )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
-				&& areEqual( resultListTransformer, that.resultListTransformer );
+				&& areEqual( resultListTransformer, that.resultListTransformer )
+				&& areEqual( enabledFilters, that.enabledFilters )
+				&& enabledFetchProfiles.equals( that.enabledFetchProfiles )
+				&& areEqual( appliedGraph, that.appliedGraph );
 	}
 
 	private <T> boolean areEqual(T o1, T o2) {
@@ -160,6 +341,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		result = 31 * result + ( lockOptions != null ? lockOptions.hashCode() : 0 );
 		result = 31 * result + ( tupleTransformer != null ? tupleTransformer.hashCode() : 0 );
 		result = 31 * result + ( resultListTransformer != null ? resultListTransformer.hashCode() : 0 );
+		result = 31 * result + ( enabledFilters != null ? enabledFilters.hashCode() : 0 );
+		result = 31 * result + enabledFetchProfiles.hashCode();
+		result = 31 * result + ( appliedGraph != null ? appliedGraph.hashCode() : 0 );
 		return result;
 	}
 }
@@ -14,7 +14,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.function.Supplier;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Parameter;
@@ -52,6 +51,7 @@ import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.SqmSelectionQuery;
@@ -319,33 +319,69 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
-		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
+		final SqmInterpretationsKey cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
+		if ( cacheKey == null ) {
+			return buildQueryPlan( getSqmStatement(), getDomainParameterXref() );
+		}
+
+		final QueryInterpretationCache interpretationCache = getSession().getFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		if ( cacheKey.isCriteria() ) {
+			final SelectQueryPlan<R> queryPlan = interpretationCache.resolveSelectQueryPlan(
 					cacheKey,
-					this::buildQueryPlan
+					() -> buildCriteriaQueryPlan( cacheKey.getCriteriaParameters() )
 			);
+			return ( (CriteriaSelectQueryPlan<R>) queryPlan ).forParameters( cacheKey.getCriteriaParameters() );
 		}
 		else {
-			return buildQueryPlan();
+			return interpretationCache.resolveSelectQueryPlan(
+					cacheKey,
+					() -> buildQueryPlan( getSqmStatement(), getDomainParameterXref() )
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildQueryPlan() {
+	private SelectQueryPlan<R> buildCriteriaQueryPlan(List<QueryParameterImplementor<?>> parameters) {
+		if ( getSession().isJpaCriteriaCopyComplianceEnabled() ) {
+			// the statement is already a copy private to this query
+			return new CriteriaSelectQueryPlan<>(
+					buildQueryPlan( getSqmStatement(), getDomainParameterXref() ),
+					parameters
+			);
+		}
+
+		// the plan outlives this query, so it must not refer to a tree the application may still mutate
+		final SqmSelectStatement<R> statement = getSqmStatement().copy( SqmCopyContext.simpleContext() );
+		return new CriteriaSelectQueryPlan<>(
+				buildQueryPlan( statement, DomainParameterXref.from( statement ) ),
+				// copying creates new instances of the value-bind parameters
+				SqmCanonicalForm.from( statement ).getParameters()
+		);
+	}
+
+	private SelectQueryPlan<R> buildQueryPlan(SqmSelectStatement<R> statement, DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<?>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<?>) getSqmStatement(),
+				statement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedQueryPlan( concreteSqmStatements );
+			return buildAggregatedQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteQueryPlan(
+					concreteSqmStatements[0],
+					domainParameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -354,6 +390,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -364,12 +401,13 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 
 	private <T> SelectQueryPlan<T> buildConcreteQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -391,16 +429,6 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		return getSession().getLoadQueryInfluencers();
 	}
 
-	@Override
-	public Supplier<Boolean> hasMultiValuedParameterBindingsChecker() {
-		return this::hasMultiValuedParameterBindings;
-	}
-
-	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
-	}
-
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// CommonQueryContract
@@ -145,6 +145,45 @@ public class SqmUtil {
 		return result;
 	}
 
+	/**
+	 * The query parameters which allow multi-valued binding
+	 *
+	 * @see #determineBindingShape
+	 */
+	public static List<QueryParameterImplementor<?>> collectMultiValuedParameters(DomainParameterXref domainParameterXref) {
+		List<QueryParameterImplementor<?>> multiValuedParameters = null;
+		for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( queryParameter.allowsMultiValuedBinding() ) {
+				if ( multiValuedParameters == null ) {
+					multiValuedParameters = new ArrayList<>();
+				}
+				multiValuedParameters.add( queryParameter );
+			}
+		}
+		return multiValuedParameters == null ? Collections.emptyList() : multiValuedParameters;
+	}
+
+	/**
+	 * The number of values bound to each of the given multi-valued parameters, or -1
+	 * for single-valued bindings.  The SQL AST depends on exactly this, so a translation
+	 * can be reused for bindings of the same shape.
+	 *
+	 * @return The shape, or {@code null} if there are no multi-valued parameters
+	 */
+	public static int[] determineBindingShape(
+			List<QueryParameterImplementor<?>> multiValuedParameters,
+			QueryParameterBindings bindings) {
+		if ( multiValuedParameters.isEmpty() ) {
+			return null;
+		}
+		final int[] shape = new int[ multiValuedParameters.size() ];
+		for ( int i = 0; i < shape.length; i++ ) {
+			final QueryParameterBinding<?> binding = bindings.getBinding( multiValuedParameters.get( i ) );
+			shape[i] = binding.isMultiValued() ? binding.getBindValues().size() : -1;
+		}
+		return shape;
+	}
+
 //	public static JdbcParameterBindings buildJdbcParameterBindings(
 //			SqmStatement sqmStatement,
 //			JdbcParameterBySqmParameterAccess sqmInterpretation,
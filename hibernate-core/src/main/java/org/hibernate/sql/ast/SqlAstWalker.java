@@ -53,6 +53,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -176,6 +177,15 @@ public interface SqlAstWalker {
 
 	void visitInListPredicate(InListPredicate inListPredicate);
 
+	/**
+	 * The predicate is only created by the multi-key loaders when the Dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsArrayParameters() supports array parameters},
+	 * so walkers which do not handle it need not implement this method.
+	 */
+	default void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		throw new UnsupportedOperationException( "In-array predicates are not supported by " + getClass().getName() );
+	}
+
 	void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate);
 
 	void visitExistsPredicate(ExistsPredicate existsPredicate);
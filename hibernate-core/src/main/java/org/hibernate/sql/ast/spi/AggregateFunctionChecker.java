@@ -45,6 +45,7 @@ import org.hibernate.sql.ast.tree.insert.InsertStatement;
 import org.hibernate.sql.ast.tree.insert.Values;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryGroup;
@@ -196,6 +197,10 @@ public class AggregateFunctionChecker extends AbstractSqlAstWalker {
 	public void visitInListPredicate(InListPredicate inListPredicate) {
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 	}
@@ -31,6 +31,7 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.internal.EvictingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -141,7 +142,11 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext,
 				rowTransformer
 		);
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final ScrollableResultsIterator<R> iterator = EvictingScrollableResultsIterator.create(
+				scrollableResults,
+				executionContext.getSession(),
+				executionContext.getQueryOptions().isStreamEvictionEnabled()
+		);
 		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream<R> stream = StreamSupport.stream( spliterator, false );
@@ -439,11 +444,15 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSql() );
 			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSql() ),
+					queryIdentifier,
 					getResultSize( result ),
 					milliseconds
 			);
+			if ( statistics.isHistogramsEnabled() ) {
+				statistics.queryExecutionTime( queryIdentifier, endTime - startTime );
+			}
 		}
 
 		return result;
@@ -6,9 +6,12 @@
  */
 package org.hibernate.sql.exec.spi;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.Filter;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.query.spi.QueryOptions;
@@ -49,4 +52,25 @@ public interface JdbcOperation {
 			}
 		}
 	}
+
+	/**
+	 * Binds the filter parameters using the values of the given enabled filters
+	 * rather than the values captured when this operation was translated, which
+	 * allows re-using a cached operation across filter parameter values.  The
+	 * values of each multi-valued filter parameter are resolved just once, even
+	 * if the filter is applied to several tables.
+	 */
+	default void bindFilterJdbcParameters(
+			JdbcParameterBindings jdbcParameterBindings,
+			Map<String, Filter> enabledFilters) {
+		if ( CollectionHelper.isNotEmpty( getFilterJdbcParameters() ) ) {
+			final Map<String, Object[]> resolvedValues = new HashMap<>();
+			for ( FilterJdbcParameter filterJdbcParameter : getFilterJdbcParameters() ) {
+				jdbcParameterBindings.addBinding(
+						filterJdbcParameter.getParameter(),
+						filterJdbcParameter.getBinding( enabledFilters, resolvedValues )
+				);
+			}
+		}
+	}
 }
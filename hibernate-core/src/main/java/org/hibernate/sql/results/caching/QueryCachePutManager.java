@@ -7,6 +7,7 @@
 package org.hibernate.sql.results.caching;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 
 /**
  * @author Steve Ebersole
@@ -14,5 +15,14 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 public interface QueryCachePutManager {
 	void registerJdbcRow(Object[] values);
 
+	/**
+	 * Register the current row of the given values.  Only asks for the
+	 * {@linkplain JdbcValues#getCurrentRowValuesArray() values array}
+	 * if they are to be put into the cache.
+	 */
+	default void registerJdbcRow(JdbcValues jdbcValues) {
+		registerJdbcRow( jdbcValues.getCurrentRowValuesArray() );
+	}
+
 	void finishUp(SharedSessionContractImplementor session);
 }
@@ -8,6 +8,7 @@ package org.hibernate.sql.results.caching.internal;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 
 /**
  * QueryCachePutManager implementation for cases where we will not be putting
@@ -28,6 +29,10 @@ public class QueryCachePutManagerDisabledImpl implements QueryCachePutManager {
 	public void registerJdbcRow(Object[] values) {
 	}
 
+	@Override
+	public void registerJdbcRow(JdbcValues jdbcValues) {
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 
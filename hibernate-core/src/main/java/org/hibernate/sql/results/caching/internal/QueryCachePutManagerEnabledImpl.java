@@ -6,14 +6,11 @@
  */
 package org.hibernate.sql.results.caching.internal;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -28,7 +25,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
-	private final List<Object> dataToCache = new ArrayList<>();
+	private final ColumnarCachedResults.Builder dataToCache;
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -40,19 +37,13 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
-		if ( metadataForCache != null ) {
-			dataToCache.add( metadataForCache );
-		}
+		this.dataToCache = new ColumnarCachedResults.Builder( metadataForCache );
 	}
 
 	@Override
 	public void registerJdbcRow(Object[] values) {
-
-		// todo (6.0) : verify whether we really need to copy these..
-		//		`RowProcessingStateStandardImpl` (see `#finishRowProcessing`) already creates new array
-		//		instances for each row
-//		dataToCache.add( values );
-		dataToCache.add( Arrays.copyOf( values, values.length ) );
+		// the values are copied into the columns, so the array may be reused for the next row
+		dataToCache.addRow( values );
 	}
 
 	@Override
@@ -60,7 +51,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		if ( queryKey != null ) {
 			final boolean put = queryCache.put(
 					queryKey,
-					dataToCache,
+					dataToCache.build(),
 					session
 			);
 			if ( put && statistics.isStatisticsEnabled() ) {
@@ -84,6 +84,53 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return (J) jdbcValue;
 	}
 
+	/**
+	 * Is the assembled value null?  Unlike {@link #assemble}, does not box a
+	 * numeric or boolean JDBC value when no converter applies.
+	 */
+	public boolean isNull(RowProcessingState rowProcessingState) {
+		if ( valueConverter != null ) {
+			return assemble( rowProcessingState ) == null;
+		}
+		return rowProcessingState.isJdbcValueNull( valuesArrayPosition );
+	}
+
+	/**
+	 * Assemble the numeric value as a {@code long}, {@code 0} for a null value.
+	 * Unlike {@link #assemble}, does not box the JDBC value when no converter applies.
+	 */
+	public long assembleLong(RowProcessingState rowProcessingState) {
+		if ( valueConverter != null ) {
+			final Object value = assemble( rowProcessingState );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+		return rowProcessingState.getJdbcLongValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Assemble the numeric value as a {@code double}, {@code 0} for a null value.
+	 * Unlike {@link #assemble}, does not box the JDBC value when no converter applies.
+	 */
+	public double assembleDouble(RowProcessingState rowProcessingState) {
+		if ( valueConverter != null ) {
+			final Object value = assemble( rowProcessingState );
+			return value == null ? 0D : ( (Number) value ).doubleValue();
+		}
+		return rowProcessingState.getJdbcDoubleValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Assemble the boolean value, {@code false} for a null value.  Unlike
+	 * {@link #assemble}, does not box the JDBC value when no converter applies.
+	 */
+	public boolean assembleBoolean(RowProcessingState rowProcessingState) {
+		if ( valueConverter != null ) {
+			final Object value = assemble( rowProcessingState );
+			return value != null && (Boolean) value;
+		}
+		return rowProcessingState.getJdbcBooleanValue( valuesArrayPosition );
+	}
+
 	@Override
 	public JavaType<J> getAssembledJavaType() {
 		return assembledJavaType;
@@ -30,6 +30,10 @@ public class ArgumentReader<A> implements DomainResultAssembler<A> {
 		return alias;
 	}
 
+	public DomainResultAssembler<A> getDelegateAssembler() {
+		return delegateAssembler;
+	}
+
 	@Override
 	public A assemble(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		return delegateAssembler.assemble( rowProcessingState, options );
@@ -7,6 +7,8 @@
 package org.hibernate.sql.results.graph.instantiation.internal;
 
 import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
 /**
  * @author Steve Ebersole
@@ -27,4 +29,15 @@ public class BeanInjection {
 	public DomainResultAssembler getValueAssembler() {
 		return valueAssembler;
 	}
+
+	/**
+	 * Assemble the value and inject it into the given target
+	 */
+	@SuppressWarnings("unchecked")
+	public void inject(
+			Object target,
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options) {
+		beanInjector.inject( target, valueAssembler.assemble( rowProcessingState, options ) );
+	}
 }
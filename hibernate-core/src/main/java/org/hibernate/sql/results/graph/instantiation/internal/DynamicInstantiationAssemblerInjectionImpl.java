@@ -15,6 +15,7 @@ import org.hibernate.internal.util.beans.BeanInfoHelper;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.query.sqm.tree.expression.Compatibility;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -69,12 +70,22 @@ public class DynamicInstantiationAssemblerInjectionImpl<T> implements DomainResu
 								argumentReader.getAssembledJavaType().getJavaTypeClass()
 						);
 						if ( field != null ) {
-							beanInjections.add(
-									new BeanInjection(
-											new BeanInjectorField( field ),
-											argumentReader
-									)
-							);
+							if ( PrimitiveFieldInjection.isApplicable( field, argumentReader ) ) {
+								beanInjections.add(
+										new PrimitiveFieldInjection(
+												field,
+												(BasicResultAssembler<?>) argumentReader.getDelegateAssembler()
+										)
+								);
+							}
+							else {
+								beanInjections.add(
+										new BeanInjection(
+												new BeanInjectorField( field ),
+												argumentReader
+										)
+								);
+							}
 						}
 						else {
 							throw new InstantiationException(
@@ -117,10 +128,7 @@ public class DynamicInstantiationAssemblerInjectionImpl<T> implements DomainResu
 		try {
 			final T result = target.getJavaTypeClass().newInstance();
 			for ( BeanInjection beanInjection : beanInjections ) {
-				beanInjection.getBeanInjector().inject(
-						result,
-						beanInjection.getValueAssembler().assemble( rowProcessingState, options )
-				);
+				beanInjection.inject( result, rowProcessingState, options );
 			}
 			return result;
 		}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.graph.instantiation.internal;
+
+import java.lang.reflect.Field;
+
+import org.hibernate.query.sqm.sql.internal.InstantiationException;
+import org.hibernate.query.sqm.tree.expression.Compatibility;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * Injects a basic value into a field of primitive type, without boxing the
+ * numeric or boolean JDBC value
+ */
+class PrimitiveFieldInjection extends BeanInjection {
+	private final Field field;
+	private final BasicResultAssembler<?> assembler;
+
+	PrimitiveFieldInjection(Field field, BasicResultAssembler<?> assembler) {
+		super( new BeanInjectorField<>( field ), assembler );
+		this.field = field;
+		this.assembler = assembler;
+	}
+
+	/**
+	 * Is the argument a basic value without converter, whose type is the
+	 * wrapper of the primitive type of the field?
+	 */
+	static boolean isApplicable(Field field, ArgumentReader<?> argumentReader) {
+		final Class<?> fieldType = field.getType();
+		if ( !fieldType.isPrimitive() || fieldType == char.class ) {
+			return false;
+		}
+		if ( !( argumentReader.getDelegateAssembler() instanceof BasicResultAssembler ) ) {
+			return false;
+		}
+		final BasicResultAssembler<?> assembler = (BasicResultAssembler<?>) argumentReader.getDelegateAssembler();
+		final Class<?> valueType = assembler.getAssembledJavaType().getJavaTypeClass();
+		return assembler.getValueConverter() == null
+				&& Compatibility.isWrapper( valueType )
+				&& Compatibility.primitiveEquivalent( valueType ) == fieldType;
+	}
+
+	@Override
+	public void inject(
+			Object target,
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options) {
+		if ( assembler.isNull( rowProcessingState ) ) {
+			// let the field report the null value, just like for any other value
+			getBeanInjector().inject( target, null );
+			return;
+		}
+		try {
+			final Class<?> fieldType = field.getType();
+			if ( fieldType == long.class ) {
+				field.setLong( target, assembler.assembleLong( rowProcessingState ) );
+			}
+			else if ( fieldType == int.class ) {
+				field.setInt( target, (int) assembler.assembleLong( rowProcessingState ) );
+			}
+			else if ( fieldType == short.class ) {
+				field.setShort( target, (short) assembler.assembleLong( rowProcessingState ) );
+			}
+			else if ( fieldType == byte.class ) {
+				field.setByte( target, (byte) assembler.assembleLong( rowProcessingState ) );
+			}
+			else if ( fieldType == double.class ) {
+				field.setDouble( target, assembler.assembleDouble( rowProcessingState ) );
+			}
+			else if ( fieldType == float.class ) {
+				field.setFloat( target, (float) assembler.assembleDouble( rowProcessingState ) );
+			}
+			else {
+				field.setBoolean( target, assembler.assembleBoolean( rowProcessingState ) );
+			}
+		}
+		catch (Exception e) {
+			throw new InstantiationException( "Error performing the dynamic instantiation", e );
+		}
+	}
+}
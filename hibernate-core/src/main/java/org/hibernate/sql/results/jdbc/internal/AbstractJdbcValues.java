@@ -28,7 +28,7 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 	public final boolean next(RowProcessingState rowProcessingState) {
 		final boolean hadRow = processNext( rowProcessingState );
 		if ( hadRow ) {
-			queryCachePutManager.registerJdbcRow( getCurrentRowValuesArray() );
+			queryCachePutManager.registerJdbcRow( this );
 		}
 		return hadRow;
 	}
@@ -0,0 +1,367 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * The JDBC values of a query result, as stored in the query cache.  The values are stored
+ * column by column: numeric and boolean values in a primitive array, as
+ * {@linkplain PrimitiveValueReader read from the ResultSet}, and strings dictionary-encoded,
+ * so that a large result does not take an array per row and an object per value.
+ * <p>
+ * Exposed as the immutable {@code List} the query cache contract expects: the
+ * {@link JdbcValuesMetadata}, if one, followed by the {@code Object[]} values of each row,
+ * built on access.  {@link JdbcValuesCacheHit} reads the values directly instead.
+ */
+public final class ColumnarCachedResults extends AbstractList<Object> implements Serializable {
+	private final JdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final Column[] columns;
+
+	private ColumnarCachedResults(JdbcValuesMetadata metadata, int rowCount, Column[] columns) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.columns = columns;
+	}
+
+	public JdbcValuesMetadata getMetadata() {
+		return metadata;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public Object[] getRow(int row) {
+		final Object[] values = new Object[columns.length];
+		for ( int i = 0; i < columns.length; i++ ) {
+			values[i] = columns[i].get( row );
+		}
+		return values;
+	}
+
+	public Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	public boolean isNull(int row, int column) {
+		return columns[column].isNull( row );
+	}
+
+	public long getLongValue(int row, int column) {
+		return columns[column].getLong( row );
+	}
+
+	public double getDoubleValue(int row, int column) {
+		return columns[column].getDouble( row );
+	}
+
+	public boolean getBooleanValue(int row, int column) {
+		return columns[column].getBoolean( row );
+	}
+
+	@Override
+	public Object get(int index) {
+		if ( metadata == null ) {
+			return getRow( index );
+		}
+		return index == 0 ? metadata : getRow( index - 1 );
+	}
+
+	@Override
+	public int size() {
+		return metadata == null ? rowCount : rowCount + 1;
+	}
+
+	private abstract static class Column implements Serializable {
+		abstract Object get(int row);
+
+		boolean isNull(int row) {
+			return get( row ) == null;
+		}
+
+		long getLong(int row) {
+			final Object value = get( row );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+
+		double getDouble(int row) {
+			final Object value = get( row );
+			return value == null ? 0D : ( (Number) value ).doubleValue();
+		}
+
+		boolean getBoolean(int row) {
+			final Object value = get( row );
+			return value != null && (Boolean) value;
+		}
+	}
+
+	private static final class PrimitiveColumn extends Column {
+		private final PrimitiveValueReader reader;
+		private final long[] values;
+		// null if there are no null values
+		private final BitSet nulls;
+
+		private PrimitiveColumn(PrimitiveValueReader reader, long[] values, BitSet nulls) {
+			this.reader = reader;
+			this.values = values;
+			this.nulls = nulls;
+		}
+
+		@Override
+		Object get(int row) {
+			return isNull( row ) ? null : reader.box( values[row] );
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return nulls != null && nulls.get( row );
+		}
+
+		@Override
+		long getLong(int row) {
+			return reader.toLong( values[row] );
+		}
+
+		@Override
+		double getDouble(int row) {
+			return reader.toDouble( values[row] );
+		}
+
+		@Override
+		boolean getBoolean(int row) {
+			return reader == PrimitiveValueReader.BOOLEAN ? values[row] != 0L : super.getBoolean( row );
+		}
+	}
+
+	private static final class StringColumn extends Column {
+		private final String[] dictionary;
+		// -1 for a null value
+		private final int[] codes;
+
+		private StringColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		@Override
+		Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return codes[row] < 0;
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		Object get(int row) {
+			return values[row];
+		}
+	}
+
+	/**
+	 * Builds the columnar form of the rows of a result, as they are read.  Each column is
+	 * encoded according to the type of its values, and falls back to an {@code Object[]}
+	 * if they are not all of the same type.
+	 */
+	public static final class Builder {
+		private final JdbcValuesMetadata metadata;
+		private ColumnBuilder[] columnBuilders;
+		private int rowCount;
+
+		public Builder(JdbcValuesMetadata metadata) {
+			this.metadata = metadata;
+		}
+
+		/**
+		 * Add the values of a row, which are copied so that the array may be reused
+		 */
+		public void addRow(Object[] values) {
+			if ( columnBuilders == null ) {
+				columnBuilders = new ColumnBuilder[values.length];
+				for ( int i = 0; i < values.length; i++ ) {
+					columnBuilders[i] = new ColumnBuilder();
+				}
+			}
+			for ( int i = 0; i < values.length; i++ ) {
+				columnBuilders[i].add( rowCount, values[i] );
+			}
+			rowCount++;
+		}
+
+		public ColumnarCachedResults build() {
+			final Column[] columns;
+			if ( columnBuilders == null ) {
+				columns = new Column[0];
+			}
+			else {
+				columns = new Column[columnBuilders.length];
+				for ( int i = 0; i < columnBuilders.length; i++ ) {
+					columns[i] = columnBuilders[i].build( rowCount );
+				}
+			}
+			return new ColumnarCachedResults( metadata, rowCount, columns );
+		}
+	}
+
+	private static final class ColumnBuilder {
+		private static final int INITIAL_CAPACITY = 16;
+
+		// at most one of these is used, until the first non-null value all are null
+		private PrimitiveValueReader reader;
+		private long[] primitiveValues;
+		private BitSet nulls;
+
+		private Map<String, Integer> dictionaryCodes;
+		private List<String> dictionary;
+		private int[] codes;
+
+		private Object[] values;
+
+		void add(int row, Object value) {
+			if ( values != null ) {
+				values = ensureCapacity( values, row );
+				values[row] = value;
+			}
+			else if ( primitiveValues != null ) {
+				addPrimitive( row, value );
+			}
+			else if ( codes != null ) {
+				addString( row, value );
+			}
+			else if ( value != null ) {
+				startColumn( row, value );
+			}
+		}
+
+		private void startColumn(int row, Object value) {
+			final int capacity = Math.max( INITIAL_CAPACITY, row + 1 );
+			reader = PrimitiveValueReader.forValue( value );
+			if ( reader != null ) {
+				primitiveValues = new long[capacity];
+				if ( row > 0 ) {
+					nulls = new BitSet();
+					nulls.set( 0, row );
+				}
+				addPrimitive( row, value );
+			}
+			else if ( value instanceof String ) {
+				dictionaryCodes = new HashMap<>();
+				dictionary = new ArrayList<>();
+				codes = new int[capacity];
+				Arrays.fill( codes, 0, row, -1 );
+				addString( row, value );
+			}
+			else {
+				values = new Object[capacity];
+				values[row] = value;
+			}
+		}
+
+		private void addPrimitive(int row, Object value) {
+			if ( value == null ) {
+				// the value array is only grown for non-null values, as it is padded with zeros when built
+				if ( nulls == null ) {
+					nulls = new BitSet();
+				}
+				nulls.set( row );
+			}
+			else if ( PrimitiveValueReader.forValue( value ) == reader ) {
+				if ( row >= primitiveValues.length ) {
+					primitiveValues = Arrays.copyOf( primitiveValues, Math.max( row + 1, primitiveValues.length * 2 ) );
+				}
+				primitiveValues[row] = reader.unbox( value );
+			}
+			else {
+				switchToValues( row );
+				values[row] = value;
+			}
+		}
+
+		private void addString(int row, Object value) {
+			if ( value != null && !( value instanceof String ) ) {
+				switchToValues( row );
+				values[row] = value;
+				return;
+			}
+			if ( row == codes.length ) {
+				codes = Arrays.copyOf( codes, row * 2 );
+			}
+			if ( value == null ) {
+				codes[row] = -1;
+			}
+			else {
+				codes[row] = dictionaryCodes.computeIfAbsent(
+						(String) value,
+						string -> {
+							dictionary.add( string );
+							return dictionary.size() - 1;
+						}
+				);
+			}
+		}
+
+		private void switchToValues(int row) {
+			final Column column = build( row );
+			final Object[] switched = new Object[Math.max( INITIAL_CAPACITY, row * 2 )];
+			for ( int i = 0; i < row; i++ ) {
+				switched[i] = column.get( i );
+			}
+			reader = null;
+			primitiveValues = null;
+			nulls = null;
+			dictionaryCodes = null;
+			dictionary = null;
+			codes = null;
+			values = switched;
+		}
+
+		private static Object[] ensureCapacity(Object[] values, int row) {
+			return row < values.length ? values : Arrays.copyOf( values, row * 2 );
+		}
+
+		Column build(int rowCount) {
+			if ( primitiveValues != null ) {
+				return new PrimitiveColumn(
+						reader,
+						Arrays.copyOf( primitiveValues, rowCount ),
+						nulls == null || nulls.isEmpty() ? null : nulls
+				);
+			}
+			else if ( codes != null ) {
+				return new StringColumn( dictionary.toArray( new String[0] ), Arrays.copyOf( codes, rowCount ) );
+			}
+			else if ( values != null ) {
+				return new ObjectColumn( Arrays.copyOf( values, rowCount ) );
+			}
+			else {
+				// only null values
+				return new ObjectColumn( new Object[rowCount] );
+			}
+		}
+	}
+}
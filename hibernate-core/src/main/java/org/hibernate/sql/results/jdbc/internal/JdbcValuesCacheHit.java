@@ -17,6 +17,9 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
 /**
  * A JdbcValuesSource implementation for cases where we had a cache hit.
+ * <p>
+ * Reads the values of {@link ColumnarCachedResults} directly, without building the
+ * array of each row unless it is {@linkplain #getCurrentRowValuesArray() asked for}.
  *
  * @author Steve Ebersole
  */
@@ -24,6 +27,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private static final Object[][] NO_DATA = new Object[0][];
 
 	private Object[][] cachedData;
+	private ColumnarCachedResults columnarData;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private int position = -1;
@@ -40,8 +44,24 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		this.resolvedMapping = resolvedMapping;
 	}
 
+	public JdbcValuesCacheHit(ColumnarCachedResults columnarData, JdbcValuesMapping resolvedMapping) {
+		super( QueryCachePutManagerDisabledImpl.INSTANCE );
+		this.columnarData = columnarData;
+		this.numberOfRows = columnarData.getRowCount();
+		this.resolvedMapping = resolvedMapping;
+	}
+
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
-		this( extractData( cachedResults ), resolvedMapping );
+		super( QueryCachePutManagerDisabledImpl.INSTANCE );
+		if ( cachedResults instanceof ColumnarCachedResults ) {
+			this.columnarData = (ColumnarCachedResults) cachedResults;
+			this.numberOfRows = columnarData.getRowCount();
+		}
+		else {
+			this.cachedData = extractData( cachedResults );
+			this.numberOfRows = cachedData.length;
+		}
+		this.resolvedMapping = resolvedMapping;
 	}
 
 	private static Object[][] extractData(List<?> cachedResults) {
@@ -220,11 +240,55 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( columnarData != null ) {
+			return columnarData.getRow( position );
+		}
 		return cachedData[position];
 	}
 
+	@Override
+	public Object getCurrentRowValue(int valuesArrayPosition) {
+		if ( columnarData != null ) {
+			return columnarData.getValue( position, valuesArrayPosition );
+		}
+		return cachedData[position][valuesArrayPosition];
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int valuesArrayPosition) {
+		if ( columnarData != null ) {
+			return columnarData.isNull( position, valuesArrayPosition );
+		}
+		return super.isCurrentRowValueNull( valuesArrayPosition );
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int valuesArrayPosition) {
+		if ( columnarData != null ) {
+			return columnarData.getLongValue( position, valuesArrayPosition );
+		}
+		return super.getCurrentRowLongValue( valuesArrayPosition );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valuesArrayPosition) {
+		if ( columnarData != null ) {
+			return columnarData.getDoubleValue( position, valuesArrayPosition );
+		}
+		return super.getCurrentRowDoubleValue( valuesArrayPosition );
+	}
+
+	@Override
+	public boolean getCurrentRowBooleanValue(int valuesArrayPosition) {
+		if ( columnarData != null ) {
+			return columnarData.getBooleanValue( position, valuesArrayPosition );
+		}
+		return super.getCurrentRowBooleanValue( valuesArrayPosition );
+	}
+
 	@Override
 	protected void release() {
 		cachedData = null;
+		columnarData = null;
 	}
 }
@@ -25,6 +25,7 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -40,6 +41,12 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final Object[] currentRowJdbcValues;
 
+	// numeric and boolean values are read without boxing them, and only boxed into
+	// `currentRowJdbcValues` when accessed as an Object; all null if there are none
+	private final PrimitiveValueReader[] primitiveValueReaders;
+	private final long[] currentRowPrimitiveValues;
+	private final boolean[] currentRowUnboxed;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -55,6 +62,30 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
+
+		this.primitiveValueReaders = resolvePrimitiveValueReaders( sqlSelections, currentRowJdbcValues.length );
+		if ( primitiveValueReaders != null ) {
+			this.currentRowPrimitiveValues = new long[ currentRowJdbcValues.length ];
+			this.currentRowUnboxed = new boolean[ currentRowJdbcValues.length ];
+		}
+		else {
+			this.currentRowPrimitiveValues = null;
+			this.currentRowUnboxed = null;
+		}
+	}
+
+	private static PrimitiveValueReader[] resolvePrimitiveValueReaders(SqlSelection[] sqlSelections, int rowSize) {
+		PrimitiveValueReader[] readers = null;
+		for ( SqlSelection sqlSelection : sqlSelections ) {
+			final PrimitiveValueReader reader = PrimitiveValueReader.resolve( sqlSelection.getJdbcValueExtractor() );
+			if ( reader != null ) {
+				if ( readers == null ) {
+					readers = new PrimitiveValueReader[ rowSize ];
+				}
+				readers[ sqlSelection.getValuesArrayPosition() ] = reader;
+			}
+		}
+		return readers;
 	}
 
 	private static QueryCachePutManager resolveQueryCachePutManager(
@@ -179,7 +210,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	public void beforeFirst(RowProcessingState rowProcessingState) {
 		try {
 			resultSetAccess.getResultSet().beforeFirst();
-			Arrays.fill( currentRowJdbcValues, null );
+			clearCurrentRowValues();
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#beforeFirst()", e );
@@ -229,7 +260,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	public void afterLast(RowProcessingState rowProcessingState) {
 		try {
 			resultSetAccess.getResultSet().afterLast();
-			Arrays.fill( currentRowJdbcValues, null );
+			clearCurrentRowValues();
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#afterLast()", e );
@@ -290,16 +321,44 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		);
 	}
 
+	private void clearCurrentRowValues() {
+		Arrays.fill( currentRowJdbcValues, null );
+		if ( currentRowUnboxed != null ) {
+			Arrays.fill( currentRowUnboxed, false );
+		}
+	}
+
 	private void readCurrentRowValues() {
 		final ResultSet resultSet = resultSetAccess.getResultSet();
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		for ( final SqlSelection sqlSelection : sqlSelections ) {
+			final int position = sqlSelection.getValuesArrayPosition();
 			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
-						session
-				);
+				final PrimitiveValueReader reader = primitiveValueReaders == null
+						? null
+						: primitiveValueReaders[ position ];
+				if ( reader == null ) {
+					currentRowJdbcValues[ position ] = sqlSelection.getJdbcValueExtractor().extract(
+							resultSet,
+							sqlSelection.getJdbcResultSetIndex(),
+							session
+					);
+				}
+				else {
+					final long value = reader.read( resultSet, sqlSelection.getJdbcResultSetIndex() );
+					final boolean wasNull = resultSet.wasNull();
+					if ( JdbcExtractingLogging.TRACE_ENABLED ) {
+						reader.logExtracted( sqlSelection.getJdbcResultSetIndex(), wasNull, value );
+					}
+					if ( wasNull ) {
+						currentRowJdbcValues[ position ] = null;
+						currentRowUnboxed[ position ] = false;
+					}
+					else {
+						currentRowPrimitiveValues[ position ] = value;
+						currentRowUnboxed[ position ] = true;
+					}
+				}
 			}
 			catch (Exception e) {
 				throw new HibernateException(
@@ -322,6 +381,63 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public Object[] getCurrentRowValuesArray() {
+		if ( currentRowUnboxed != null ) {
+			for ( int i = 0; i < currentRowUnboxed.length; i++ ) {
+				if ( currentRowUnboxed[i] ) {
+					box( i );
+				}
+			}
+		}
 		return currentRowJdbcValues;
 	}
+
+	@Override
+	public Object getCurrentRowValue(int valuesArrayPosition) {
+		if ( currentRowUnboxed != null && currentRowUnboxed[valuesArrayPosition] ) {
+			box( valuesArrayPosition );
+		}
+		return currentRowJdbcValues[valuesArrayPosition];
+	}
+
+	private void box(int valuesArrayPosition) {
+		currentRowJdbcValues[valuesArrayPosition] = primitiveValueReaders[valuesArrayPosition].box(
+				currentRowPrimitiveValues[valuesArrayPosition]
+		);
+		currentRowUnboxed[valuesArrayPosition] = false;
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int valuesArrayPosition) {
+		if ( currentRowUnboxed != null && currentRowUnboxed[valuesArrayPosition] ) {
+			return false;
+		}
+		return currentRowJdbcValues[valuesArrayPosition] == null;
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int valuesArrayPosition) {
+		if ( currentRowUnboxed != null && currentRowUnboxed[valuesArrayPosition] ) {
+			return primitiveValueReaders[valuesArrayPosition].toLong( currentRowPrimitiveValues[valuesArrayPosition] );
+		}
+		final Object value = currentRowJdbcValues[valuesArrayPosition];
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valuesArrayPosition) {
+		if ( currentRowUnboxed != null && currentRowUnboxed[valuesArrayPosition] ) {
+			return primitiveValueReaders[valuesArrayPosition].toDouble( currentRowPrimitiveValues[valuesArrayPosition] );
+		}
+		final Object value = currentRowJdbcValues[valuesArrayPosition];
+		return value == null ? 0D : ( (Number) value ).doubleValue();
+	}
+
+	@Override
+	public boolean getCurrentRowBooleanValue(int valuesArrayPosition) {
+		if ( currentRowUnboxed != null && currentRowUnboxed[valuesArrayPosition] ) {
+			return currentRowPrimitiveValues[valuesArrayPosition] != 0L;
+		}
+		final Object value = currentRowJdbcValues[valuesArrayPosition];
+		return value != null && (Boolean) value;
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private Map<EntityUniqueKey, Initializer> initializerByUniquKeyMap;
 	private Map<CollectionKey, LoadingCollectionEntry> loadingCollectionMap;
 	private List<CollectionInitializer> arrayInitializers;
+	private List<EntityKey> loadedEntityKeys;
 
 	private final PreLoadEvent preLoadEvent;
 	private final PostLoadEvent postLoadEvent;
@@ -98,6 +100,30 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		return postLoadEvent;
 	}
 
+	/**
+	 * Collect the keys of the entities loaded from now on
+	 *
+	 * @see #drainLoadedEntityKeys()
+	 */
+	public void collectLoadedEntityKeys() {
+		if ( loadedEntityKeys == null ) {
+			loadedEntityKeys = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * The keys of the entities loaded since the last call, if
+	 * {@linkplain #collectLoadedEntityKeys() collected}
+	 */
+	public List<EntityKey> drainLoadedEntityKeys() {
+		if ( loadedEntityKeys == null || loadedEntityKeys.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		final List<EntityKey> keys = loadedEntityKeys;
+		loadedEntityKeys = new ArrayList<>();
+		return keys;
+	}
+
 	@Override
 	public void registerLoadingEntity(
 			EntityKey entityKey,
@@ -195,6 +221,9 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		if ( loadingEntityMap == null ) {
 			return;
 		}
+		if ( loadedEntityKeys != null ) {
+			loadedEntityKeys.addAll( loadingEntityMap.keySet() );
+		}
 		final EventListenerGroup<PostLoadEventListener> listenerGroup = executionContext.getSession().getFactory()
 				.getFastSessionServices()
 				.eventListenerGroup_POST_LOAD;
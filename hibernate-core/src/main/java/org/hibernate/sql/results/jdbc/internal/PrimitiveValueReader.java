@@ -0,0 +1,288 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatTypeDescriptor;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.BooleanJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.FloatJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.RealJdbcType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.TinyIntJdbcType;
+
+/**
+ * Reads the value of a numeric or boolean column through the primitive {@link ResultSet}
+ * getter, so that it is only boxed if it is actually accessed as an {@code Object}.
+ * The value is kept in a {@code long}: integral values as-is, floating point values as
+ * their raw bits, and booleans as {@code 1} or {@code 0}.
+ * <p>
+ * Only used in place of the standard extractors of the standard {@link JdbcType}s, for
+ * which it reads exactly the same values.  Also used to keep the values of the columns of
+ * {@link ColumnarCachedResults}.
+ *
+ * @see JdbcValuesResultSetImpl
+ */
+enum PrimitiveValueReader {
+	INTEGER( Types.INTEGER ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getInt( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return (int) value;
+		}
+
+		@Override
+		long unbox(Object value) {
+			return (Integer) value;
+		}
+	},
+	BIGINT( Types.BIGINT ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getLong( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return value;
+		}
+
+		@Override
+		long unbox(Object value) {
+			return (Long) value;
+		}
+	},
+	SMALLINT( Types.SMALLINT ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getShort( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return (short) value;
+		}
+
+		@Override
+		long unbox(Object value) {
+			return (Short) value;
+		}
+	},
+	TINYINT( Types.TINYINT ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getByte( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return (byte) value;
+		}
+
+		@Override
+		long unbox(Object value) {
+			return (Byte) value;
+		}
+	},
+	DOUBLE( Types.DOUBLE ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return Double.doubleToRawLongBits( resultSet.getDouble( position ) );
+		}
+
+		@Override
+		Object box(long value) {
+			return Double.longBitsToDouble( value );
+		}
+
+		@Override
+		long unbox(Object value) {
+			return Double.doubleToRawLongBits( (Double) value );
+		}
+
+		@Override
+		long toLong(long value) {
+			return (long) Double.longBitsToDouble( value );
+		}
+
+		@Override
+		double toDouble(long value) {
+			return Double.longBitsToDouble( value );
+		}
+	},
+	FLOAT( Types.FLOAT ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return Double.doubleToRawLongBits( resultSet.getFloat( position ) );
+		}
+
+		@Override
+		Object box(long value) {
+			return (float) Double.longBitsToDouble( value );
+		}
+
+		@Override
+		long unbox(Object value) {
+			return Double.doubleToRawLongBits( (Float) value );
+		}
+
+		@Override
+		long toLong(long value) {
+			return (long) Double.longBitsToDouble( value );
+		}
+
+		@Override
+		double toDouble(long value) {
+			return Double.longBitsToDouble( value );
+		}
+	},
+	BOOLEAN( Types.BOOLEAN ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getBoolean( position ) ? 1L : 0L;
+		}
+
+		@Override
+		Object box(long value) {
+			return value != 0L;
+		}
+
+		@Override
+		long unbox(Object value) {
+			return (Boolean) value ? 1L : 0L;
+		}
+	};
+
+	private final int sqlTypeCode;
+
+	PrimitiveValueReader(int sqlTypeCode) {
+		this.sqlTypeCode = sqlTypeCode;
+	}
+
+	/**
+	 * Read the value at the given position of the current row, which is meaningless
+	 * if {@link ResultSet#wasNull()} afterwards
+	 */
+	abstract long read(ResultSet resultSet, int position) throws SQLException;
+
+	/**
+	 * The value, as the {@code Object} the standard extractor would have returned
+	 */
+	abstract Object box(long value);
+
+	/**
+	 * The inverse of {@link #box}
+	 */
+	abstract long unbox(Object value);
+
+	long toLong(long value) {
+		return value;
+	}
+
+	/**
+	 * Log the value read at the given position, like the standard extractor does
+	 */
+	void logExtracted(int jdbcPosition, boolean wasNull, long value) {
+		if ( wasNull ) {
+			JdbcExtractingLogging.logNullExtracted( jdbcPosition, sqlTypeCode );
+		}
+		else {
+			JdbcExtractingLogging.logExtracted( jdbcPosition, sqlTypeCode, box( value ) );
+		}
+	}
+
+	double toDouble(long value) {
+		return value;
+	}
+
+	/**
+	 * Resolve the reader to use in place of the given extractor, or {@code null}
+	 * if the values must be extracted by the extractor itself.
+	 */
+	static PrimitiveValueReader resolve(ValueExtractor<?> extractor) {
+		if ( !( extractor instanceof BasicExtractor ) ) {
+			return null;
+		}
+
+		final BasicExtractor<?> basicExtractor = (BasicExtractor<?>) extractor;
+		final Class<? extends JdbcType> jdbcTypeClass = basicExtractor.getJdbcType().getClass();
+		final Class<? extends JavaType> javaTypeClass = basicExtractor.getJavaType().getClass();
+		if ( jdbcTypeClass == IntegerJdbcType.class && javaTypeClass == IntegerJavaType.class ) {
+			return INTEGER;
+		}
+		if ( jdbcTypeClass == BigIntJdbcType.class && javaTypeClass == LongJavaType.class ) {
+			return BIGINT;
+		}
+		if ( jdbcTypeClass == SmallIntJdbcType.class && javaTypeClass == ShortJavaType.class ) {
+			return SMALLINT;
+		}
+		if ( jdbcTypeClass == TinyIntJdbcType.class && javaTypeClass == ByteJavaType.class ) {
+			return TINYINT;
+		}
+		if ( jdbcTypeClass == DoubleJdbcType.class && javaTypeClass == DoubleJavaType.class ) {
+			return DOUBLE;
+		}
+		if ( ( jdbcTypeClass == FloatJdbcType.class || jdbcTypeClass == RealJdbcType.class )
+				&& javaTypeClass == FloatTypeDescriptor.class ) {
+			return FLOAT;
+		}
+		if ( jdbcTypeClass == BooleanJdbcType.class && javaTypeClass == BooleanJavaType.class ) {
+			return BOOLEAN;
+		}
+		return null;
+	}
+
+	/**
+	 * Resolve the reader whose {@linkplain #box boxed} values are of the type of the
+	 * given value, or {@code null} if there is none.
+	 */
+	static PrimitiveValueReader forValue(Object value) {
+		final Class<?> valueClass = value.getClass();
+		if ( valueClass == Integer.class ) {
+			return INTEGER;
+		}
+		if ( valueClass == Long.class ) {
+			return BIGINT;
+		}
+		if ( valueClass == Short.class ) {
+			return SMALLINT;
+		}
+		if ( valueClass == Byte.class ) {
+			return TINYINT;
+		}
+		if ( valueClass == Double.class ) {
+			return DOUBLE;
+		}
+		if ( valueClass == Float.class ) {
+			return FLOAT;
+		}
+		if ( valueClass == Boolean.class ) {
+			return BOOLEAN;
+		}
+		return null;
+	}
+}
@@ -74,6 +74,53 @@ public interface JdbcValues {
 	 */
 	Object[] getCurrentRowValuesArray();
 
+	/**
+	 * Get the JDBC value at the given position of the current row.
+	 *
+	 * @see #getCurrentRowValuesArray()
+	 */
+	default Object getCurrentRowValue(int valuesArrayPosition) {
+		return getCurrentRowValuesArray()[ valuesArrayPosition ];
+	}
+
+	/**
+	 * Is the JDBC value at the given position of the current row null?
+	 * Unlike {@link #getCurrentRowValue}, does not box a primitive value.
+	 */
+	default boolean isCurrentRowValueNull(int valuesArrayPosition) {
+		return getCurrentRowValue( valuesArrayPosition ) == null;
+	}
+
+	/**
+	 * Get the numeric JDBC value at the given position of the current row as a
+	 * {@code long}, without boxing it.  Like {@link java.sql.ResultSet#getLong},
+	 * returns {@code 0} for a null value.
+	 */
+	default long getCurrentRowLongValue(int valuesArrayPosition) {
+		final Object value = getCurrentRowValue( valuesArrayPosition );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Get the numeric JDBC value at the given position of the current row as a
+	 * {@code double}, without boxing it.  Like {@link java.sql.ResultSet#getDouble},
+	 * returns {@code 0} for a null value.
+	 */
+	default double getCurrentRowDoubleValue(int valuesArrayPosition) {
+		final Object value = getCurrentRowValue( valuesArrayPosition );
+		return value == null ? 0D : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Get the boolean JDBC value at the given position of the current row, without
+	 * boxing it.  Like {@link java.sql.ResultSet#getBoolean}, returns {@code false}
+	 * for a null value.
+	 */
+	default boolean getCurrentRowBooleanValue(int valuesArrayPosition) {
+		final Object value = getCurrentRowValue( valuesArrayPosition );
+		return value != null && (Boolean) value;
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
@@ -51,6 +51,41 @@ public interface RowProcessingState extends ExecutionContext {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Is the value at the given index of the "current JDBC row" null?
+	 * Does not box a primitive value.
+	 */
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
+	/**
+	 * Retrieve the numeric value at the given index of the "current JDBC row"
+	 * without boxing it, {@code 0} for a null value.
+	 */
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Retrieve the numeric value at the given index of the "current JDBC row"
+	 * without boxing it, {@code 0} for a null value.
+	 */
+	default double getJdbcDoubleValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0D : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Retrieve the boolean value at the given index of the "current JDBC row"
+	 * without boxing it, {@code false} for a null value.
+	 */
+	default boolean getJdbcBooleanValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value != null && (Boolean) value;
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
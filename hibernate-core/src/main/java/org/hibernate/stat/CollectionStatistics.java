@@ -27,6 +27,15 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 */
 	long getFetchCount();
 
+	/**
+	 * The distribution of the times taken to fetch this collection from
+	 * the database, or {@code null} if histograms are not
+	 * {@linkplain Statistics#isHistogramsEnabled() enabled}
+	 */
+	default LatencyHistogram getFetchHistogram() {
+		return null;
+	}
+
 	/**
 	 * Number of times (since last Statistics clearing) this collection
 	 * has been recreated (rows potentially deleted and then rows (re-)inserted)
@@ -39,6 +39,15 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 */
 	long getLoadCount();
 
+	/**
+	 * The distribution of the times taken to load this entity by id from
+	 * the database, or {@code null} if histograms are not
+	 * {@linkplain Statistics#isHistogramsEnabled() enabled}
+	 */
+	default LatencyHistogram getLoadHistogram() {
+		return null;
+	}
+
 	/**
 	 * Number of times (since last Statistics clearing) this entity
 	 * has been fetched
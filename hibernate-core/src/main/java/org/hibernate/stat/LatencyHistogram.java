@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of the durations of an operation, such as the executions
+ * of a query, allowing percentiles to be derived.
+ * <p>
+ * Histograms are only collected when enabled via
+ * {@value org.hibernate.cfg.AvailableSettings#STATISTICS_HISTOGRAMS_ENABLED}.
+ * The durations are recorded into logarithmic buckets of fixed size, so that
+ * the reported percentiles are approximations which are never more than
+ * {@value #RELATIVE_PRECISION_PERCENT}% higher than the actual value.
+ * <p>
+ * All durations are expressed in nanoseconds.
+ *
+ * @see QueryStatistics#getExecutionHistogram()
+ * @see EntityStatistics#getLoadHistogram()
+ * @see CollectionStatistics#getFetchHistogram()
+ */
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The maximum error of the reported percentiles, relative to the actual value
+	 */
+	int RELATIVE_PRECISION_PERCENT = 7;
+
+	/**
+	 * The number of recorded durations
+	 */
+	long getCount();
+
+	/**
+	 * The sum of all recorded durations
+	 */
+	long getTotalTime();
+
+	/**
+	 * The longest recorded duration, or 0 if nothing was recorded
+	 */
+	long getMaxTime();
+
+	/**
+	 * The duration which the given percentage of all recorded durations
+	 * do not exceed, or 0 if nothing was recorded.
+	 *
+	 * @param percentile The percentile, between 0 and 100, e.g. 99.9
+	 */
+	long getValueAtPercentile(double percentile);
+}
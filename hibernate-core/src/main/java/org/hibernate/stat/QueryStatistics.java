@@ -53,6 +53,14 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * The distribution of the execution times of this query, or
+	 * {@code null} if histograms are not {@linkplain Statistics#isHistogramsEnabled() enabled}
+	 */
+	default LatencyHistogram getExecutionHistogram() {
+		return null;
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
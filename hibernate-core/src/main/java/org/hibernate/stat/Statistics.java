@@ -37,6 +37,16 @@ public interface Statistics {
 	 */
 	void setStatisticsEnabled(boolean enabled);
 
+	/**
+	 * Are {@linkplain LatencyHistogram latency histograms} collected in
+	 * addition to the other statistics?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_HISTOGRAMS_ENABLED
+	 */
+	default boolean isHistogramsEnabled() {
+		return false;
+	}
+
 	/**
 	 * Reset all statistics.
 	 */
@@ -379,4 +389,40 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The number of query plans successfully retrieved from cache for
+	 * queries executed with filters enabled.  Included in
+	 * {@link #getQueryPlanCacheHitCount()}.
+	 */
+	default long getFilteredQueryPlanCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of query plan lookups <em>not</em> found in cache for
+	 * queries executed with filters enabled.  Included in
+	 * {@link #getQueryPlanCacheMissCount()}.
+	 */
+	default long getFilteredQueryPlanCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of query plans successfully retrieved from cache for
+	 * queries executed with an entity graph applied.  Included in
+	 * {@link #getQueryPlanCacheHitCount()}.
+	 */
+	default long getEntityGraphQueryPlanCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of query plan lookups <em>not</em> found in cache for
+	 * queries executed with an entity graph applied.  Included in
+	 * {@link #getQueryPlanCacheMissCount()}.
+	 */
+	default long getEntityGraphQueryPlanCacheMissCount() {
+		return 0;
+	}
 }
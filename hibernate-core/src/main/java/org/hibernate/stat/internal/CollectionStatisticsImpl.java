@@ -11,6 +11,7 @@ import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Collection related statistics
@@ -25,8 +26,9 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final LatencyHistogramImpl fetchHistogram;
 
-	CollectionStatisticsImpl(CollectionPersister persister) {
+	CollectionStatisticsImpl(CollectionPersister persister, boolean histogramEnabled) {
 		super(
 				() -> persister.getCacheAccessStrategy() != null
 						? persister.getCacheAccessStrategy().getRegion()
@@ -34,6 +36,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		);
 
 		this.collectionRole = persister.getRole();
+		this.fetchHistogram = histogramEnabled ? new LatencyHistogramImpl() : null;
 	}
 
 	public long getLoadCount() {
@@ -44,6 +47,11 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		return fetchCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getFetchHistogram() {
+		return fetchHistogram;
+	}
+
 	public long getRecreateCount() {
 		return recreateCount.sum();
 	}
@@ -64,6 +72,12 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		fetchCount.increment();
 	}
 
+	void recordFetchTime(long nanoseconds) {
+		if ( fetchHistogram != null ) {
+			fetchHistogram.record( nanoseconds );
+		}
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
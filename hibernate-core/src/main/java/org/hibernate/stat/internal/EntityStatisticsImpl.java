@@ -11,6 +11,7 @@ import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Entity related statistics
@@ -26,14 +27,16 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LatencyHistogramImpl loadHistogram;
 
-	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
+	EntityStatisticsImpl(EntityPersister rootEntityDescriptor, boolean histogramEnabled) {
 		super(
 				() -> rootEntityDescriptor.getCacheAccessStrategy() != null
 						? rootEntityDescriptor.getCacheAccessStrategy().getRegion()
 						: null
 		);
 		this.rootEntityName = rootEntityDescriptor.getRootEntityName();
+		this.loadHistogram = histogramEnabled ? new LatencyHistogramImpl() : null;
 	}
 
 	public long getDeleteCount() {
@@ -68,6 +71,17 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		fetchCount.increment();
 	}
 
+	@Override
+	public LatencyHistogram getLoadHistogram() {
+		return loadHistogram;
+	}
+
+	void recordLoadTime(long nanoseconds) {
+		if ( loadHistogram != null ) {
+			loadHistogram.record( nanoseconds );
+		}
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
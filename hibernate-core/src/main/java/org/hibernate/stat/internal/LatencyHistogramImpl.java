@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * Lock-free, fixed-memory LatencyHistogram, using the log-linear bucketing
+ * of HdrHistogram: every power of two is split into {@value #SUB_BUCKET_COUNT}
+ * equally sized buckets, making the width of a bucket 1/16th of its
+ * lower bound.  Durations below 2^42 ns (about 73 minutes) are distinguished;
+ * longer ones are counted in an overflow bucket.
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 41;
+	// plus one overflow bucket
+	private static final int BUCKET_COUNT = ( MAX_EXPONENT - SUB_BUCKET_BITS + 2 ) * SUB_BUCKET_COUNT + 1;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	/**
+	 * Record a duration
+	 *
+	 * @param nanoseconds The duration; negative values are recorded as 0
+	 */
+	public void record(long nanoseconds) {
+		final long value = Math.max( nanoseconds, 0 );
+		buckets.incrementAndGet( bucketIndex( value ) );
+		count.increment();
+		totalTime.add( value );
+		for ( long old = maxTime.get(); value > old && !maxTime.compareAndSet( old, value ); old = maxTime.get() ) {}
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100 : " + percentile );
+		}
+
+		// work on a snapshot, the buckets may be updated concurrently
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * total ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulative += counts[i];
+			if ( cumulative >= rank ) {
+				return Math.min( highestValueInBucket( i ), getMaxTime() );
+			}
+		}
+		return getMaxTime();
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		if ( exponent > MAX_EXPONENT ) {
+			return BUCKET_COUNT - 1;
+		}
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		if ( index == BUCKET_COUNT - 1 ) {
+			return Long.MAX_VALUE;
+		}
+		final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		final int subBucket = index % SUB_BUCKET_COUNT;
+		final long bucketWidth = 1L << ( exponent - SUB_BUCKET_BITS );
+		return ( 1L << exponent ) + ( subBucket + 1 ) * bucketWidth - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",p50=" + getValueAtPercentile( 50 )
+				+ ",p99=" + getValueAtPercentile( 99 )
+				+ ",max=" + getMaxTime()
+				+ ']';
+	}
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -38,12 +39,18 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final LatencyHistogramImpl executionHistogram;
 
 	private final Lock readLock;
 	private final Lock writeLock;
 
 	public QueryStatisticsImpl(String query) {
+		this( query, false );
+	}
+
+	public QueryStatisticsImpl(String query, boolean histogramEnabled) {
 		this.query = query;
+		this.executionHistogram = histogramEnabled ? new LatencyHistogramImpl() : null;
 		ReadWriteLock lock = new ReentrantReadWriteLock();
 		this.readLock = lock.readLock();
 		this.writeLock = lock.writeLock();
@@ -133,6 +140,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return totalExecutionTime.get();
 	}
 
+	@Override
+	public LatencyHistogram getExecutionHistogram() {
+		return executionHistogram;
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -177,6 +189,12 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		}
 	}
 
+	void recordExecutionTime(long nanoseconds) {
+		if ( executionHistogram != null ) {
+			executionHistogram.record( nanoseconds );
+		}
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -49,6 +49,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final boolean queryCacheEnabled;
 
 	private volatile boolean isStatisticsEnabled;
+	private final boolean histogramsEnabled;
 	private volatile Instant startTime;
 
 	private final LongAdder sessionOpenCount = new LongAdder();
@@ -91,6 +92,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder filteredQueryPlanCacheHitCount = new LongAdder();
+	private final LongAdder filteredQueryPlanCacheMissCount = new LongAdder();
+	private final LongAdder entityGraphQueryPlanCacheHitCount = new LongAdder();
+	private final LongAdder entityGraphQueryPlanCacheMissCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -127,6 +132,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		histogramsEnabled = sessionFactoryOptions.isStatisticsHistogramsEnabled();
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -197,6 +203,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		filteredQueryPlanCacheHitCount.reset();
+		filteredQueryPlanCacheMissCount.reset();
+		entityGraphQueryPlanCacheHitCount.reset();
+		entityGraphQueryPlanCacheMissCount.reset();
 
 		resetStart();
 	}
@@ -225,6 +235,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		isStatisticsEnabled = enabled;
 	}
 
+	@Override
+	public boolean isHistogramsEnabled() {
+		return histogramsEnabled;
+	}
+
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -285,6 +300,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityLoadTime(String entityName, long nanoseconds) {
+		getEntityStatistics( entityName ).recordLoadTime( nanoseconds );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -384,6 +404,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionFetchTime(String role, long nanoseconds) {
+		getCollectionStatistics( role ).recordFetchTime( nanoseconds );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -632,7 +657,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public QueryStatisticsImpl getQueryStatistics(String queryString) {
 		return queryStatsMap.getOrCompute(
 				queryString,
-				QueryStatisticsImpl::new
+				query -> new QueryStatisticsImpl( query, histogramsEnabled )
 		);
 	}
 
@@ -688,6 +713,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryExecutionTime(String hql, long nanoseconds) {
+		if ( hql != null ) {
+			getQueryStatistics( hql ).recordExecutionTime( nanoseconds );
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -737,6 +769,26 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getFilteredQueryPlanCacheHitCount() {
+		return filteredQueryPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getFilteredQueryPlanCacheMissCount() {
+		return filteredQueryPlanCacheMissCount.sum();
+	}
+
+	@Override
+	public long getEntityGraphQueryPlanCacheHitCount() {
+		return entityGraphQueryPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getEntityGraphQueryPlanCacheMissCount() {
+		return entityGraphQueryPlanCacheMissCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -764,6 +816,30 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheHit(String query, boolean filtered, boolean entityGraph) {
+		queryPlanCacheHit( query );
+
+		if ( filtered ) {
+			filteredQueryPlanCacheHitCount.increment();
+		}
+		if ( entityGraph ) {
+			entityGraphQueryPlanCacheHitCount.increment();
+		}
+	}
+
+	@Override
+	public void queryPlanCacheMiss(String query, boolean filtered, boolean entityGraph) {
+		queryPlanCacheMiss( query );
+
+		if ( filtered ) {
+			filteredQueryPlanCacheMissCount.increment();
+		}
+		if ( entityGraph ) {
+			entityGraphQueryPlanCacheMissCount.increment();
+		}
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -936,15 +1012,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",filtered query plan cache hits=" + filteredQueryPlanCacheHitCount +
+				",filtered query plan cache misses=" + filteredQueryPlanCacheMissCount +
+				",entity graph query plan cache hits=" + entityGraphQueryPlanCacheHitCount +
+				",entity graph query plan cache misses=" + entityGraphQueryPlanCacheMissCount +
 				']';
 	}
 
 	private EntityStatisticsImpl instantiateEntityStatistics(final String entityName) {
-		return new EntityStatisticsImpl( metamodel.getEntityDescriptor( entityName ) );
+		return new EntityStatisticsImpl( metamodel.getEntityDescriptor( entityName ), histogramsEnabled );
 	}
 
 	private CollectionStatisticsImpl instantiateCollectionStatistics(final String role) {
-		return new CollectionStatisticsImpl( metamodel.getCollectionDescriptor( role ) );
+		return new CollectionStatisticsImpl( metamodel.getCollectionDescriptor( role ), histogramsEnabled );
 	}
 
 	private NaturalIdStatisticsImpl instantiateNaturalStatistics(final String entityName) {
@@ -266,6 +266,28 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a get from the query plan cache resulted in a hit.
+	 *
+	 * @param query The query
+	 * @param filtered Whether the query is executed with filters enabled
+	 * @param entityGraph Whether the query is executed with an entity graph applied
+	 */
+	default void queryPlanCacheHit(String query, boolean filtered, boolean entityGraph) {
+		queryPlanCacheHit( query );
+	}
+
+	/**
+	 * Callback indicating a get from the query plan cache resulted in a miss.
+	 *
+	 * @param query The query
+	 * @param filtered Whether the query is executed with filters enabled
+	 * @param entityGraph Whether the query is executed with an entity graph applied
+	 */
+	default void queryPlanCacheMiss(String query, boolean filtered, boolean entityGraph) {
+		queryPlanCacheMiss( query );
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -275,4 +297,38 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating the duration of an execution of a query, in addition
+	 * to {@link #queryExecuted}, for the latency histograms.  Only called when
+	 * {@linkplain #isHistogramsEnabled() histograms are enabled}.
+	 *
+	 * @param hql The query
+	 * @param nanoseconds The execution time
+	 */
+	default void queryExecutionTime(String hql, long nanoseconds) {
+	}
+
+	/**
+	 * Callback indicating the duration of loading an entity by id from the
+	 * database, for the latency histograms.  Only called when
+	 * {@linkplain #isHistogramsEnabled() histograms are enabled}.
+	 *
+	 * @param entityName The name of the entity
+	 * @param nanoseconds The load time
+	 */
+	default void entityLoadTime(String entityName, long nanoseconds) {
+	}
+
+	/**
+	 * Callback indicating the duration of fetching a collection from the
+	 * database, in addition to {@link #fetchCollection}, for the latency
+	 * histograms.  Only called when {@linkplain #isHistogramsEnabled() histograms
+	 * are enabled}.
+	 *
+	 * @param role The collection role
+	 * @param nanoseconds The fetch time
+	 */
+	default void collectionFetchTime(String role, long nanoseconds) {
+	}
 }
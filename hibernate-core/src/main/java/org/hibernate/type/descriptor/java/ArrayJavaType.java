@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.java;
+
+import java.sql.Array;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Descriptor for {@code Object[]} handling of the values of a SQL {@code ARRAY},
+ * all of them described by the same component {@link JavaType}.
+ *
+ * @see org.hibernate.type.descriptor.jdbc.ArrayJdbcType
+ */
+public class ArrayJavaType extends AbstractClassJavaType<Object[]> {
+
+	private final JavaType<Object> componentJavaType;
+
+	@SuppressWarnings("unchecked")
+	public ArrayJavaType(JavaType<?> componentJavaType) {
+		super( Object[].class, ImmutableMutabilityPlan.INSTANCE );
+		this.componentJavaType = (JavaType<Object>) componentJavaType;
+	}
+
+	public JavaType<?> getComponentJavaType() {
+		return componentJavaType;
+	}
+
+	@Override
+	public String toString(Object[] value) {
+		final StringBuilder sb = new StringBuilder();
+		sb.append( '{' );
+		for ( int i = 0; i < value.length; i++ ) {
+			if ( i > 0 ) {
+				sb.append( ", " );
+			}
+			sb.append( value[i] == null ? "null" : componentJavaType.toString( value[i] ) );
+		}
+		sb.append( '}' );
+		return sb.toString();
+	}
+
+	@Override
+	public boolean areEqual(Object[] one, Object[] another) {
+		if ( one == another ) {
+			return true;
+		}
+		if ( one != null && another != null && one.length == another.length ) {
+			for ( int i = 0; i < one.length; i++ ) {
+				if ( !componentJavaType.areEqual( one[i], another[i] ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public int extractHashCode(Object[] value) {
+		int hashCode = 1;
+		for ( Object element : value ) {
+			hashCode = 31 * hashCode + ( element == null ? 0 : componentJavaType.extractHashCode( element ) );
+		}
+		return hashCode;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <X> X unwrap(Object[] value, Class<X> type, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( Object[].class.isAssignableFrom( type ) ) {
+			return (X) value;
+		}
+		throw unknownUnwrap( type );
+	}
+
+	@Override
+	public <X> Object[] wrap(X value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( value instanceof Object[] ) {
+			return (Object[]) value;
+		}
+		if ( value instanceof Array ) {
+			try {
+				return (Object[]) ( (Array) value ).getArray();
+			}
+			catch (SQLException e) {
+				throw new HibernateException( "Unable to access the elements of the SQL ARRAY", e );
+			}
+		}
+		throw unknownWrap( value.getClass() );
+	}
+}
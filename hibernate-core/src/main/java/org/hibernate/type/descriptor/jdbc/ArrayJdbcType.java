@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Descriptor for {@link java.sql.Types#ARRAY ARRAY} handling, binding the elements
+ * of an array value as a {@link java.sql.Array} of the given element {@link JdbcType}.
+ *
+ * @see org.hibernate.type.descriptor.java.ArrayJavaType
+ */
+public class ArrayJdbcType implements JdbcType {
+	private final JdbcType elementJdbcType;
+
+	public ArrayJdbcType(JdbcType elementJdbcType) {
+		this.elementJdbcType = elementJdbcType;
+	}
+
+	public JdbcType getElementJdbcType() {
+		return elementJdbcType;
+	}
+
+	@Override
+	public int getJdbcTypeCode() {
+		return SqlTypes.ARRAY;
+	}
+
+	@Override
+	public String getFriendlyName() {
+		return "ARRAY";
+	}
+
+	@Override
+	public String toString() {
+		return "ArrayJdbcType(" + elementJdbcType + ")";
+	}
+
+	@Override
+	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
+		return new BasicBinder<X>( javaType, this ) {
+			@Override
+			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+					throws SQLException {
+				st.setArray( index, createArray( st.getConnection(), value, options ) );
+			}
+
+			@Override
+			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+					throws SQLException {
+				st.setObject( name, createArray( st.getConnection(), value, options ) );
+			}
+
+			private Array createArray(Connection connection, X value, WrapperOptions options) throws SQLException {
+				final Object[] elements = getJavaType().unwrap( value, Object[].class, options );
+				final String elementTypeName = options.getSessionFactory()
+						.getJdbcServices()
+						.getDialect()
+						.getRawTypeName( elementJdbcType );
+				return connection.createArrayOf( elementTypeName, elements );
+			}
+		};
+	}
+
+	@Override
+	public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
+		return new BasicExtractor<X>( javaType, this ) {
+			@Override
+			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				return getJavaType().wrap( rs.getArray( paramIndex ), options );
+			}
+
+			@Override
+			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+				return getJavaType().wrap( statement.getArray( index ), options );
+			}
+
+			@Override
+			protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+				return getJavaType().wrap( statement.getArray( name ), options );
+			}
+		};
+	}
+}
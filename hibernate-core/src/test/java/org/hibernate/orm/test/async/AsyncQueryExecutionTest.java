@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link org.hibernate.query.SelectionQuery#listAsync()} and
+ * {@link org.hibernate.Session#findAsync(Class, Object)}
+ */
+@DomainModel( annotatedClasses = AsyncQueryExecutionTest.Book.class )
+@SessionFactory
+public class AsyncQueryExecutionTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Book( 1, "Hibernate in Action" ) );
+					session.persist( new Book( 2, "Java Persistence with Hibernate" ) );
+					session.persist( new Book( 3, "High-Performance Java Persistence" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "delete Book" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testListAsync(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createQuery( "from Book b order by b.id", Book.class )
+							.listAsync()
+							.toCompletableFuture()
+							.join();
+					assertEquals( 3, books.size() );
+					assertEquals( "Hibernate in Action", books.get( 0 ).title );
+					books.forEach( book -> assertTrue( session.contains( book ) ) );
+
+					final String title = session.createQuery( "select b.title from Book b where b.id = :id", String.class )
+							.setParameter( "id", 2 )
+							.uniqueResultAsync()
+							.toCompletableFuture()
+							.join();
+					assertEquals( "Java Persistence with Hibernate", title );
+				}
+		);
+	}
+
+	@Test
+	public void testFindAsync(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Book book = session.findAsync( Book.class, 3 ).toCompletableFuture().join();
+					assertEquals( "High-Performance Java Persistence", book.title );
+					assertSame( book, session.find( Book.class, 3 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testAsyncOperationsAreSerialized(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final CountDownLatch latch = new CountDownLatch( 1 );
+					final CompletableFuture<Thread> first = session.executeAsync(
+							() -> {
+								try {
+									assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+								}
+								catch (InterruptedException e) {
+									throw new RuntimeException( e );
+								}
+								return Thread.currentThread();
+							}
+					).toCompletableFuture();
+					final CompletableFuture<List<Book>> second = session.createQuery( "from Book", Book.class )
+							.listAsync()
+							.toCompletableFuture();
+
+					assertFalse( second.isDone() );
+					// the session is in use by the asynchronous operations
+					assertThrows(
+							IllegalStateException.class,
+							() -> session.createQuery( "from Book", Book.class ).list()
+					);
+
+					latch.countDown();
+					assertNotSame( Thread.currentThread(), first.join() );
+					assertEquals( 3, second.join().size() );
+					assertEquals( 3, session.createQuery( "from Book", Book.class ).list().size() );
+				}
+		);
+	}
+
+	@Test
+	public void testSessionOperationsGuardedWhileAsyncOperationPending(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final CountDownLatch latch = new CountDownLatch( 1 );
+					final CompletableFuture<Book> pending = session.executeAsync(
+							() -> {
+								try {
+									assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+								}
+								catch (InterruptedException e) {
+									throw new RuntimeException( e );
+								}
+								return session.find( Book.class, 1 );
+							}
+					).toCompletableFuture();
+
+					assertThrows( IllegalStateException.class, () -> session.find( Book.class, 2 ) );
+					assertThrows( IllegalStateException.class, () -> session.persist( new Book( 4, "Java Persistence" ) ) );
+					assertThrows( IllegalStateException.class, session::flush );
+					assertThrows( IllegalStateException.class, session::clear );
+
+					latch.countDown();
+					// the operation itself uses the session on the thread running it
+					assertEquals( "Hibernate in Action", pending.join().title );
+					assertTrue( session.contains( pending.join() ) );
+					assertEquals( "Java Persistence with Hibernate", session.find( Book.class, 2 ).title );
+				}
+		);
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests the batching of the inserts of entities with an IDENTITY identifier
+ */
+@DomainModel( annotatedClasses = { IdentityInsertBatchingTest.Author.class, IdentityInsertBatchingTest.Book.class } )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.BATCH_IDENTITY_INSERTS, value = "true" ),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@Setting( name = AvailableSettings.ORDER_INSERTS, value = "true" )
+		}
+)
+@SessionFactory( useCollectingStatementInspector = true )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsIdentityColumns.class )
+public class IdentityInsertBatchingTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete Book" ).executeUpdate();
+					session.createQuery( "update Author set mentor = null" ).executeUpdate();
+					session.createQuery( "delete Author" ).executeUpdate();
+				}
+		);
+	}
+
+	private static boolean isBatched(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Author.class )
+				.canBatchIdentityInserts();
+	}
+
+	private static int countInserts(SQLStatementInspector statementInspector, String table) {
+		int count = 0;
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			if ( sql.toLowerCase( Locale.ROOT ).startsWith( "insert into " + table.toLowerCase( Locale.ROOT ) + " " ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void testBatchedInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Author> authors = new ArrayList<>();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+					for ( int i = 0; i < 25; i++ ) {
+						final Author author = new Author( "author " + i );
+						session.persist( author );
+						authors.add( author );
+						session.persist( new Book( "book " + i, author ) );
+					}
+					if ( isBatched( scope ) ) {
+						assertNull( authors.get( 0 ).id );
+					}
+					session.flush();
+
+					if ( isBatched( scope ) ) {
+						// one statement per batch of 10 inserts
+						assertEquals( 3, countInserts( statementInspector, "Author" ) );
+						assertEquals( 3, countInserts( statementInspector, "Book" ) );
+					}
+				}
+		);
+
+		final Set<Long> ids = new HashSet<>();
+		for ( Author author : authors ) {
+			assertNotNull( author.id );
+			ids.add( author.id );
+		}
+		assertEquals( 25, ids.size() );
+
+		scope.inTransaction(
+				session -> {
+					for ( Author author : authors ) {
+						assertEquals( author.name, session.find( Author.class, author.id ).name );
+					}
+					final List<Book> books = session.createQuery( "from Book", Book.class ).list();
+					assertEquals( 25, books.size() );
+					for ( Book book : books ) {
+						assertEquals( book.title.replace( "book", "author" ), book.author.name );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testReferenceWithinBatch(SessionFactoryScope scope) {
+		final Author mentor = new Author( "mentor" );
+		final Author author = new Author( "author" );
+		author.mentor = mentor;
+		final Author other = new Author( "other" );
+		scope.inTransaction(
+				session -> {
+					session.persist( mentor );
+					session.persist( author );
+					session.persist( other );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Author loaded = session.find( Author.class, author.id );
+					assertEquals( "mentor", loaded.mentor.name );
+					assertSame( loaded.mentor, session.find( Author.class, mentor.id ) );
+					assertNull( session.find( Author.class, other.id ).mentor );
+				}
+		);
+	}
+
+	@Test
+	public void testFlushByQuery(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Author author = new Author( "author" );
+					session.persist( author );
+					assertEquals(
+							1,
+							session.createQuery( "select count(a) from Author a", Long.class ).getSingleResult()
+					);
+					assertNotNull( author.id );
+				}
+		);
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Author mentor;
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(String title, Author author) {
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
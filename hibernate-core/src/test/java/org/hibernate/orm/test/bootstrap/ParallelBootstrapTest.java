@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests building the SessionFactory with persisters created by several threads
+ */
+@DomainModel(
+		annotatedClasses = {
+				ParallelBootstrapTest.Customer.class,
+				ParallelBootstrapTest.Order.class,
+				ParallelBootstrapTest.Product.class,
+				ParallelBootstrapTest.Book.class,
+				ParallelBootstrapTest.Music.class
+		}
+)
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.BOOTSTRAP_PARALLELISM, value = "4" ) )
+@SessionFactory
+public class ParallelBootstrapTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "from Customer", Customer.class ).list().forEach( session::remove );
+					session.createQuery( "delete Product" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testPersisters(SessionFactoryScope scope) {
+		final MappingMetamodel mappingMetamodel = scope.getSessionFactory().getMappingMetamodel();
+		for ( Class<?> entityClass : List.of( Customer.class, Order.class, Product.class, Book.class, Music.class ) ) {
+			final AbstractEntityPersister persister =
+					(AbstractEntityPersister) mappingMetamodel.getEntityDescriptor( entityClass );
+			assertNotNull( persister.getIdentifierMapping() );
+			assertNotNull( persister.getSQLInsertStrings() );
+		}
+		assertEquals( Book.class, mappingMetamodel.getEntityDescriptor( Book.class ).getMappedClass() );
+		assertEquals(
+				Product.class.getName(),
+				mappingMetamodel.getEntityDescriptor( Music.class ).getRootEntityDescriptor().getEntityName()
+		);
+		assertNotNull( mappingMetamodel.getCollectionDescriptor( Customer.class.getName() + ".orders" ) );
+		assertNotNull( mappingMetamodel.getCollectionDescriptor( Customer.class.getName() + ".nicknames" ) );
+	}
+
+	@Test
+	public void testUsage(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Book book = new Book();
+					book.id = 1;
+					book.name = "book";
+					book.isbn = "978-3-16-148410-0";
+					session.persist( book );
+
+					final Customer customer = new Customer();
+					customer.id = 1;
+					customer.nicknames.add( "cust" );
+					session.persist( customer );
+
+					final Order order = new Order();
+					order.id = 1;
+					order.customer = customer;
+					order.product = book;
+					customer.orders.add( order );
+					session.persist( order );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Customer customer = session.find( Customer.class, 1 );
+					assertEquals( Set.of( "cust" ), customer.nicknames );
+					assertEquals( 1, customer.orders.size() );
+					final Product product = customer.orders.get( 0 ).product;
+					assertTrue( Hibernate.unproxy( product ) instanceof Book );
+					assertEquals( 1, session.createQuery( "from Product", Product.class ).list().size() );
+				}
+		);
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "customer", orphanRemoval = true)
+		private List<Order> orders = new ArrayList<>();
+
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+	}
+
+	@Entity(name = "Order")
+	@jakarta.persistence.Table(name = "orders")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Customer customer;
+
+		@ManyToOne
+		private Product product;
+	}
+
+	@Entity(name = "Product")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Product {
+		private String isbn;
+	}
+
+	@Entity(name = "Music")
+	public static class Music extends Product {
+		private String artist;
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that multi-loads and batch fetches access the second-level cache in bulk,
+ * instead of once per entity
+ */
+@DomainModel( annotatedClasses = BulkCacheAccessTest.CachedBook.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@SessionFactory
+public class BulkCacheAccessTest {
+	private static final int COUNT = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						session.persist( new CachedBook( i, "book" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete CachedBook" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testMultiLoadFromCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final CacheGetCounter counter = new CacheGetCounter();
+		try ( SessionImplementor session = openSession( scope, counter ) ) {
+			final List<CachedBook> books = session.byMultipleIds( CachedBook.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+			assertEquals( COUNT, books.size() );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( "book" + ( i + 1 ), books.get( i ).title );
+			}
+		}
+
+		assertEquals( 1, counter.cacheGets );
+		assertEquals( COUNT, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testBatchFetchSkipsCachedEntities(SessionFactoryScope scope) {
+		// only the even books remain cached
+		for ( int i = 1; i <= COUNT; i += 2 ) {
+			scope.getSessionFactory().getCache().evictEntityData( CachedBook.class, i );
+		}
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final CacheGetCounter counter = new CacheGetCounter();
+		try ( SessionImplementor session = openSession( scope, counter ) ) {
+			final List<CachedBook> books = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				books.add( session.getReference( CachedBook.class, i ) );
+			}
+
+			Hibernate.initialize( books.get( 0 ) );
+			// one lookup for the book being loaded, one for all the other candidates of the batch
+			assertEquals( 2, counter.cacheGets );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( i % 2 == 0, Hibernate.isInitialized( books.get( i ) ) );
+			}
+
+			books.forEach( Hibernate::initialize );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+		}
+	}
+
+	@Test
+	public void testReadWriteAccessBulkOperations(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( CachedBook.class );
+		final EntityDataAccess access = persister.getCacheAccessStrategy();
+		access.evictAll();
+
+		final Map<Object, Object> values = new HashMap<>();
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				values.put( access.generateCacheKey( i, persister, sessionFactory, null ), "value" + i );
+			}
+			access.putAllFromLoad( session, values, null );
+			// not readable by the transaction which cached them
+			assertTrue( access.getAll( session, values.keySet() ).isEmpty() );
+		}
+
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			assertEquals( values, access.getAll( session, values.keySet() ) );
+
+			final Object lockedKey = access.generateCacheKey( 1, persister, sessionFactory, null );
+			access.lockItem( session, lockedKey, null );
+			final Map<Object, Object> cached = access.getAll( session, values.keySet() );
+			assertEquals( COUNT - 1, cached.size() );
+			assertFalse( cached.containsKey( lockedKey ) );
+		}
+	}
+
+	private static SessionImplementor openSession(SessionFactoryScope scope, CacheGetCounter counter) {
+		return (SessionImplementor) scope.getSessionFactory()
+				.withOptions()
+				.eventListeners( counter )
+				.openSession();
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "CachedBook")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = COUNT)
+	public static class CachedBook {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public CachedBook() {
+		}
+
+		public CachedBook(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
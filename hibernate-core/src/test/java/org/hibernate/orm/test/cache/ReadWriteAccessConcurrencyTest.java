@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests read-write access to an entity region from many threads at once, both for
+ * independent keys and for a single key locked concurrently
+ */
+@DomainModel( annotatedClasses = ReadWriteAccessConcurrencyTest.CachedItem.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+@SessionFactory
+public class ReadWriteAccessConcurrencyTest {
+	private static final int THREAD_COUNT = 8;
+	private static final int KEYS_PER_THREAD = 200;
+
+	@Test
+	public void testIndependentKeys(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( CachedItem.class );
+		final EntityDataAccess access = persister.getCacheAccessStrategy();
+
+		runConcurrently(
+				thread -> {
+					try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+						for ( int i = 0; i < KEYS_PER_THREAD; i++ ) {
+							final Object key = cacheKey( access, persister, sessionFactory, thread * KEYS_PER_THREAD + i );
+							assertTrue( access.afterInsert( session, key, "inserted", null ) );
+							final SoftLock lock = access.lockItem( session, key, null );
+							assertTrue( access.afterUpdate( session, key, "updated" + i, null, null, lock ) );
+						}
+					}
+				}
+		);
+
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			for ( int thread = 0; thread < THREAD_COUNT; thread++ ) {
+				for ( int i = 0; i < KEYS_PER_THREAD; i++ ) {
+					final Object key = cacheKey( access, persister, sessionFactory, thread * KEYS_PER_THREAD + i );
+					assertEquals( "updated" + i, access.get( session, key ) );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testConcurrentLocksOnSameKey(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( CachedItem.class );
+		final EntityDataAccess access = persister.getCacheAccessStrategy();
+		final Object key = cacheKey( access, persister, sessionFactory, -1 );
+
+		runConcurrently(
+				thread -> {
+					try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+						for ( int i = 0; i < KEYS_PER_THREAD; i++ ) {
+							final SoftLock lock = access.lockItem( session, key, null );
+							access.unlockItem( session, key, lock );
+						}
+					}
+				}
+		);
+
+		// only writable once every lock has been released
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			assertTrue( access.putFromLoad( session, key, "loaded", null ) );
+		}
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			assertEquals( "loaded", access.get( session, key ) );
+		}
+	}
+
+	private static Object cacheKey(
+			EntityDataAccess access,
+			EntityPersister persister,
+			SessionFactoryImplementor sessionFactory,
+			int id) {
+		return access.generateCacheKey( id, persister, sessionFactory, null );
+	}
+
+	private static void runConcurrently(ThreadTask task) {
+		final ExecutorService executor = Executors.newFixedThreadPool( THREAD_COUNT );
+		try {
+			final List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for ( int i = 0; i < THREAD_COUNT; i++ ) {
+				final int thread = i;
+				futures.add( CompletableFuture.runAsync( () -> task.run( thread ), executor ) );
+			}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@FunctionalInterface
+	private interface ThreadTask {
+		void run(int thread);
+	}
+
+	@Entity(name = "CachedItem")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class CachedItem {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
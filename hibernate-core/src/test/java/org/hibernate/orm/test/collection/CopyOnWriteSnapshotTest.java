@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.SortNatural;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.internal.CopyOnWriteSnapshot;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the collection snapshots sharing the elements of the collection until it is modified
+ */
+@DomainModel( annotatedClasses = CopyOnWriteSnapshotTest.Owner.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.COPY_ON_WRITE_COLLECTION_SNAPSHOTS, value = "true" ) )
+@SessionFactory
+public class CopyOnWriteSnapshotTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1 );
+					owner.list.addAll( Arrays.asList( "a", "b", "c" ) );
+					owner.bag.addAll( Arrays.asList( "a", "a", "b" ) );
+					owner.set.addAll( Arrays.asList( "a", "b", "c" ) );
+					owner.map.put( "a", "1" );
+					owner.map.put( "b", "2" );
+					owner.sortedMap.put( "a", "1" );
+					owner.labels.add( new Label( "a" ) );
+					session.persist( owner );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "from Owner", Owner.class ).list().forEach( session::remove )
+		);
+	}
+
+	private static Serializable snapshot(SessionImplementor session, Object collection) {
+		Hibernate.initialize( collection );
+		return session.getPersistenceContextInternal()
+				.getCollectionEntry( (PersistentCollection<?>) collection )
+				.getSnapshot();
+	}
+
+	@Test
+	public void testSharedSnapshots(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					assertTrue( snapshot( session, owner.list ) instanceof CopyOnWriteSnapshot );
+					assertTrue( snapshot( session, owner.bag ) instanceof CopyOnWriteSnapshot );
+					assertTrue( snapshot( session, owner.set ) instanceof CopyOnWriteSnapshot );
+					assertTrue( snapshot( session, owner.map ) instanceof CopyOnWriteSnapshot );
+					// embeddables are mutable, their snapshot is a copy
+					assertFalse( snapshot( session, owner.labels ) instanceof CopyOnWriteSnapshot );
+					// sorted maps look up their keys with their comparator, their snapshot is a copy
+					assertFalse( snapshot( session, owner.sortedMap ) instanceof CopyOnWriteSnapshot );
+				}
+		);
+	}
+
+	@Test
+	public void testSnapshotsCopiedOnWrite(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					final List<?> listSnapshot = (List<?>) snapshot( session, owner.list );
+					final List<?> bagSnapshot = (List<?>) snapshot( session, owner.bag );
+					final Map<?, ?> setSnapshot = (Map<?, ?>) snapshot( session, owner.set );
+					final Map<?, ?> mapSnapshot = (Map<?, ?>) snapshot( session, owner.map );
+
+					owner.list.set( 1, "x" );
+					owner.list.add( "d" );
+					owner.bag.remove( "a" );
+					owner.set.remove( "b" );
+					owner.set.add( "d" );
+					owner.map.put( "a", "3" );
+					owner.map.remove( "b" );
+
+					assertEquals( Arrays.asList( "a", "b", "c" ), new ArrayList<>( listSnapshot ) );
+					assertEquals( Arrays.asList( "a", "a", "b" ), new ArrayList<>( bagSnapshot ) );
+					assertEquals( new HashSet<>( Arrays.asList( "a", "b", "c" ) ), new HashSet<>( setSnapshot.keySet() ) );
+					assertEquals( "b", setSnapshot.get( "b" ) );
+					assertEquals( 2, mapSnapshot.size() );
+					assertEquals( "1", mapSnapshot.get( "a" ) );
+					assertEquals( "2", mapSnapshot.get( "b" ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					assertEquals( Arrays.asList( "a", "x", "c", "d" ), owner.list );
+					assertEquals( 2, owner.bag.size() );
+					assertTrue( owner.bag.containsAll( Arrays.asList( "a", "b" ) ) );
+					assertEquals( new HashSet<>( Arrays.asList( "a", "c", "d" ) ), owner.set );
+					assertEquals( 1, owner.map.size() );
+					assertEquals( "3", owner.map.get( "a" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testUnmodifiedCollections(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					final List<Object> collections = Arrays.asList( owner.list, owner.bag, owner.set, owner.map );
+					for ( Object collection : collections ) {
+						Hibernate.initialize( collection );
+					}
+					session.flush();
+					for ( Object collection : collections ) {
+						assertFalse( ( (PersistentCollection<?>) collection ).isDirty() );
+						assertTrue( snapshot( session, collection ) instanceof CopyOnWriteSnapshot );
+					}
+				}
+		);
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionTable(name = "owner_list")
+		@OrderColumn
+		private List<String> list = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_bag")
+		private Collection<String> bag = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_set")
+		private Set<String> set = new HashSet<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_map")
+		private Map<String, String> map = new HashMap<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_sorted_map")
+		@SortNatural
+		private SortedMap<String, String> sortedMap = new TreeMap<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_labels")
+		private Set<Label> labels = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Embeddable
+	public static class Label {
+		private String name;
+
+		public Label() {
+		}
+
+		public Label(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Label && name.equals( ( (Label) o ).name );
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode();
+		}
+	}
+}
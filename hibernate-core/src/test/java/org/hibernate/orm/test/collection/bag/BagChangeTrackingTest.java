@@ -0,0 +1,298 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ImplicitListAsBagProvider;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.cfg.AvailableSettings.DEFAULT_LIST_SEMANTICS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the flush of the recorded changes of a bag as row deletes and inserts
+ */
+@DomainModel( annotatedClasses = BagChangeTrackingTest.Owner.class )
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.BAG_CHANGE_TRACKING, value = "true" ),
+		settingProviders = @SettingProvider(
+				settingName = DEFAULT_LIST_SEMANTICS,
+				provider = ImplicitListAsBagProvider.class )
+)
+@SessionFactory( useCollectingStatementInspector = true )
+public class BagChangeTrackingTest {
+	private static final int ELEMENT_COUNT = 20;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1 );
+					for ( int i = 0; i < ELEMENT_COUNT; i++ ) {
+						owner.tags.add( "tag" + i );
+					}
+					owner.tags.add( "tag0" );
+					owner.addresses.add( new Address( "street1", "city1" ) );
+					owner.addresses.add( new Address( "street2", null ) );
+					owner.addresses.add( new Address( "street3", "city3" ) );
+					session.persist( owner );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "from Owner", Owner.class ).list().forEach( session::remove )
+		);
+	}
+
+	private static int countStatements(SQLStatementInspector statementInspector, String prefix) {
+		int count = 0;
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			if ( sql.toLowerCase( Locale.ROOT ).startsWith( prefix ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static void assertTags(SessionFactoryScope scope, List<String> expected) {
+		scope.inTransaction(
+				session -> {
+					final List<String> tags = new ArrayList<>( session.find( Owner.class, 1 ).tags );
+					Collections.sort( tags );
+					final List<String> sorted = new ArrayList<>( expected );
+					Collections.sort( sorted );
+					assertEquals( sorted, tags );
+				}
+		);
+	}
+
+	private static List<String> initialTags() {
+		final List<String> tags = new ArrayList<>();
+		for ( int i = 0; i < ELEMENT_COUNT; i++ ) {
+			tags.add( "tag" + i );
+		}
+		tags.add( "tag0" );
+		return tags;
+	}
+
+	@Test
+	public void testAppend(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.add( "new1" );
+					owner.tags.addAll( Arrays.asList( "new2", "new3" ) );
+					statementInspector.clear();
+					session.flush();
+
+					assertEquals( 0, countStatements( statementInspector, "delete from owner_tags" ) );
+					assertEquals( 3, countStatements( statementInspector, "insert into owner_tags" ) );
+				}
+		);
+
+		final List<String> expected = initialTags();
+		expected.addAll( Arrays.asList( "new1", "new2", "new3" ) );
+		assertTags( scope, expected );
+	}
+
+	@Test
+	public void testRemoveAndAppend(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.remove( "tag5" );
+					owner.tags.add( "new1" );
+					owner.tags.add( "new2" );
+					owner.tags.remove( "new1" );
+					owner.tags.remove( "tag7" );
+					statementInspector.clear();
+					session.flush();
+
+					assertEquals( 2, countStatements( statementInspector, "delete from owner_tags" ) );
+					assertEquals( 1, countStatements( statementInspector, "insert into owner_tags" ) );
+				}
+		);
+
+		final List<String> expected = initialTags();
+		expected.remove( "tag5" );
+		expected.remove( "tag7" );
+		expected.add( "new2" );
+		assertTags( scope, expected );
+	}
+
+	@Test
+	public void testRemoveDuplicate(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.remove( "tag0" );
+					statementInspector.clear();
+					session.flush();
+
+					// the row of the element cannot be told apart from its duplicate
+					assertEquals( ELEMENT_COUNT, countStatements( statementInspector, "insert into owner_tags" ) );
+				}
+		);
+
+		final List<String> expected = initialTags();
+		expected.remove( "tag0" );
+		assertTags( scope, expected );
+	}
+
+	@Test
+	public void testUntrackedChange(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.add( "new1" );
+					owner.tags.set( 3, "changed" );
+					statementInspector.clear();
+					session.flush();
+
+					assertEquals( ELEMENT_COUNT + 2, countStatements( statementInspector, "insert into owner_tags" ) );
+				}
+		);
+
+		final List<String> expected = initialTags();
+		expected.set( 3, "changed" );
+		expected.add( "new1" );
+		assertTags( scope, expected );
+	}
+
+	@Test
+	public void testRemoveEmbeddable(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.addresses.remove( new Address( "street1", "city1" ) );
+					statementInspector.clear();
+					session.flush();
+
+					assertEquals( 1, countStatements( statementInspector, "delete from owner_addresses" ) );
+					assertEquals( 0, countStatements( statementInspector, "insert into owner_addresses" ) );
+				}
+		);
+
+		assertAddresses( scope, new Address( "street2", null ), new Address( "street3", "city3" ) );
+	}
+
+	@Test
+	public void testRemoveEmbeddableWithNullProperty(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.addresses.remove( new Address( "street2", null ) );
+					statementInspector.clear();
+					session.flush();
+
+					// "city = null" would match no row, so the collection is recreated
+					assertEquals( 2, countStatements( statementInspector, "insert into owner_addresses" ) );
+				}
+		);
+
+		assertAddresses( scope, new Address( "street1", "city1" ), new Address( "street3", "city3" ) );
+	}
+
+	private static void assertAddresses(SessionFactoryScope scope, Address... expected) {
+		scope.inTransaction(
+				session -> {
+					final List<Address> addresses = new ArrayList<>( session.find( Owner.class, 1 ).addresses );
+					addresses.sort( (address1, address2) -> address1.street.compareTo( address2.street ) );
+					assertEquals( Arrays.asList( expected ), addresses );
+				}
+		);
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionTable(name = "owner_tags")
+		private List<String> tags = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_addresses")
+		private List<Address> addresses = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Address address = (Address) o;
+			return Objects.equals( street, address.street ) && Objects.equals( city, address.city );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( street, city );
+		}
+
+		@Override
+		public String toString() {
+			return street + ", " + city;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests many concurrent sessions sharing a small built-in connection pool, waiting for
+ * {@link DriverManagerConnectionProviderImpl#ACQUISITION_TIMEOUT} for a connection to
+ * be released.  The sessions run on the asynchronous executor of the SessionFactory,
+ * that is on virtual threads when the JVM supports them.
+ */
+@DomainModel( annotatedClasses = DriverManagerConnectionProviderConcurrencyTest.Event.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.POOL_SIZE, value = "2" ),
+				@Setting( name = DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, value = "30000" )
+		}
+)
+@SessionFactory
+public class DriverManagerConnectionProviderConcurrencyTest {
+	private static final int SESSION_COUNT = 1000;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createQuery( "delete Event" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testConcurrentSessions(SessionFactoryScope scope) {
+		final Executor executor = scope.getSessionFactory().getAsyncExecutor();
+		final List<CompletableFuture<Void>> sessions = new ArrayList<>();
+		for ( int i = 0; i < SESSION_COUNT; i++ ) {
+			final String name = "event" + i;
+			sessions.add(
+					CompletableFuture.runAsync(
+							() -> scope.inTransaction( session -> session.persist( new Event( name ) ) ),
+							executor
+					)
+			);
+		}
+		CompletableFuture.allOf( sessions.toArray( new CompletableFuture[0] ) ).join();
+
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							(long) SESSION_COUNT,
+							session.createQuery( "select count(e) from Event e", Long.class ).getSingleResult()
+					);
+					assertEquals(
+							(long) SESSION_COUNT,
+							session.createQuery( "select count(distinct e.id) from Event e", Long.class ).getSingleResult()
+					);
+				}
+		);
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the persistence context with {@link AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_STORAGE}
+ */
+@DomainModel(
+		annotatedClasses = {
+				CompactPersistenceContextStorageTest.LongEntity.class,
+				CompactPersistenceContextStorageTest.SpecialLongEntity.class,
+				CompactPersistenceContextStorageTest.IntegerEntity.class,
+				CompactPersistenceContextStorageTest.StringEntity.class
+		}
+)
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_STORAGE, value = "true" ) )
+@SessionFactory
+public class CompactPersistenceContextStorageTest {
+	private static final int COUNT = 500;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete LongEntity" ).executeUpdate();
+					session.createQuery( "delete IntegerEntity" ).executeUpdate();
+					session.createQuery( "delete StringEntity" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testManagedEntities(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						session.persist( i % 10 == 0 ? new SpecialLongEntity( (long) i ) : new LongEntity( (long) i ) );
+						session.persist( new IntegerEntity( i ) );
+						session.persist( new StringEntity( "id" + i ) );
+					}
+					session.flush();
+
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					assertEquals( 3 * COUNT, persistenceContext.getEntitiesByKey().size() );
+
+					final LongEntity longEntity = session.find( LongEntity.class, 42L );
+					assertSame( longEntity, session.find( LongEntity.class, 42L ) );
+					assertTrue( session.find( LongEntity.class, 40L ) instanceof SpecialLongEntity );
+					assertSame( session.find( IntegerEntity.class, 7 ), session.find( IntegerEntity.class, 7 ) );
+					assertSame( session.find( StringEntity.class, "id7" ), session.find( StringEntity.class, "id7" ) );
+
+					// remove every other entity, exercising the removal from the hash tables
+					for ( int i = 1; i <= COUNT; i += 2 ) {
+						session.remove( session.find( LongEntity.class, (long) i ) );
+						session.remove( session.find( IntegerEntity.class, i ) );
+						session.remove( session.find( StringEntity.class, "id" + i ) );
+					}
+					session.flush();
+					assertEquals( 3 * COUNT / 2, persistenceContext.getEntitiesByKey().size() );
+
+					for ( int i = 1; i <= COUNT; i++ ) {
+						final boolean removed = i % 2 == 1;
+						assertEquals( removed, session.find( LongEntity.class, (long) i ) == null );
+						assertEquals( removed, session.find( IntegerEntity.class, i ) == null );
+						assertEquals( removed, session.find( StringEntity.class, "id" + i ) == null );
+					}
+
+					session.detach( longEntity );
+					assertFalse( session.contains( longEntity ) );
+					assertEquals( 3 * COUNT / 2 - 1, persistenceContext.getEntitiesByKey().size() );
+				}
+		);
+	}
+
+	@Test
+	public void testEntityKeys(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new LongEntity( 1L ) );
+					session.persist( new SpecialLongEntity( 2L ) );
+					session.persist( new IntegerEntity( 3 ) );
+					session.persist( new StringEntity( "id4" ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final List<LongEntity> longEntities = session.createQuery(
+							"from LongEntity e order by e.id",
+							LongEntity.class
+					).getResultList();
+					final IntegerEntity integerEntity = session.find( IntegerEntity.class, 3 );
+					final StringEntity stringEntity = session.find( StringEntity.class, "id4" );
+
+					final Map<EntityKey, Object> entitiesByKey = session.getPersistenceContextInternal()
+							.getEntitiesByKey();
+					assertEquals( 4, entitiesByKey.size() );
+					for ( Map.Entry<EntityKey, Object> entry : entitiesByKey.entrySet() ) {
+						final EntityKey key = entry.getKey();
+						assertEquals( session.getEntityName( entry.getValue() ), key.getEntityName() );
+						assertSame( entry.getValue(), session.getPersistenceContextInternal().getEntity( key ) );
+					}
+
+					final EntityKey integerKey = session.generateEntityKey(
+							3,
+							session.getEntityPersister( null, integerEntity )
+					);
+					assertSame( integerEntity, entitiesByKey.get( integerKey ) );
+					assertTrue( entitiesByKey.keySet().contains( integerKey ) );
+					for ( EntityKey key : entitiesByKey.keySet() ) {
+						if ( key.getEntityName().equals( IntegerEntity.class.getName() ) ) {
+							assertInstanceOf( Integer.class, key.getIdentifier() );
+						}
+					}
+
+					assertTrue( entitiesByKey.containsValue( stringEntity ) );
+					assertTrue( entitiesByKey.values().containsAll( longEntities ) );
+					assertNull(
+							entitiesByKey.get(
+									session.generateEntityKey(
+											5L,
+											session.getEntityPersister( null, longEntities.get( 0 ) )
+									)
+							)
+					);
+
+					session.clear();
+					assertTrue( session.getPersistenceContextInternal().getEntitiesByKey().isEmpty() );
+				}
+		);
+	}
+
+	@Entity(name = "LongEntity")
+	public static class LongEntity {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id) {
+			this.id = id;
+			this.name = "entity" + id;
+		}
+	}
+
+	@Entity(name = "SpecialLongEntity")
+	public static class SpecialLongEntity extends LongEntity {
+		public SpecialLongEntity() {
+		}
+
+		public SpecialLongEntity(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "IntegerEntity")
+	public static class IntegerEntity {
+		@Id
+		private Integer id;
+
+		public IntegerEntity() {
+		}
+
+		public IntegerEntity(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		private String id;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id) {
+			this.id = id;
+		}
+	}
+}
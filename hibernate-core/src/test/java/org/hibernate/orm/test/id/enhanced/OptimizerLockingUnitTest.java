@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the optimizers do not hold a monitor while the next value is obtained from
+ * the database, which would pin the carrier thread of a virtual thread.  Threads waiting
+ * for the value are parked, that is {@link Thread.State#WAITING} rather than
+ * {@link Thread.State#BLOCKED} on a monitor.
+ */
+@BaseUnitTest
+public class OptimizerLockingUnitTest {
+
+	@ParameterizedTest
+	@EnumSource( value = StandardOptimizerDescriptor.class, names = { "HILO", "LEGACY_HILO", "POOLED", "POOLED_LO" } )
+	public void testNoMonitorHeldWhileObtainingValue(StandardOptimizerDescriptor descriptor) throws Exception {
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+				descriptor.getExternalName(),
+				Long.class,
+				10,
+				1
+		);
+		final BlockingSource source = new BlockingSource( optimizer, new SourceMock( 1, 10 ) );
+
+		final AtomicReference<Object> firstValue = new AtomicReference<>();
+		final Thread first = new Thread( () -> firstValue.set( optimizer.generate( source ) ) );
+		first.start();
+		assertTrue( source.entered.await( 10, TimeUnit.SECONDS ) );
+
+		final AtomicReference<Object> secondValue = new AtomicReference<>();
+		final Thread second = new Thread( () -> secondValue.set( optimizer.generate( source ) ) );
+		second.start();
+		final Thread.State waitingState = awaitWaiting( second );
+
+		source.release.countDown();
+		first.join( 10_000 );
+		second.join( 10_000 );
+
+		assertFalse( source.monitorHeld.get() );
+		assertEquals( Thread.State.WAITING, waitingState );
+		assertNotEquals( firstValue.get(), secondValue.get() );
+	}
+
+	private static Thread.State awaitWaiting(Thread thread) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		Thread.State state = thread.getState();
+		while ( ( state == Thread.State.NEW || state == Thread.State.RUNNABLE )
+				&& System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+			state = thread.getState();
+		}
+		return state;
+	}
+
+	/**
+	 * Blocks the first thread obtaining a value until released, as a slow database would
+	 */
+	private static class BlockingSource implements AccessCallback {
+		private final Optimizer optimizer;
+		private final SourceMock delegate;
+		private final CountDownLatch entered = new CountDownLatch( 1 );
+		private final CountDownLatch release = new CountDownLatch( 1 );
+		private final AtomicBoolean monitorHeld = new AtomicBoolean();
+
+		private BlockingSource(Optimizer optimizer, SourceMock delegate) {
+			this.optimizer = optimizer;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			if ( Thread.holdsLock( optimizer ) ) {
+				monitorHeld.set( true );
+			}
+			entered.countDown();
+			try {
+				release.await( 10, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return delegate.getNextValue();
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+}
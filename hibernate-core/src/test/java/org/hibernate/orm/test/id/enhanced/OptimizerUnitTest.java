@@ -6,6 +6,10 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -299,6 +303,68 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testPrefetchPooledLoOptimizerUsage() throws InterruptedException {
+		final SourceMock sequence = new SourceMock( 1, 4 ).prefetching();
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 4, new Properties() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// half of the block is handed out, so the next block is requested in the background
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		sequence.awaitTimesCalled( 2 );
+		assertEquals( (1+4), sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// "clock over" to the prefetched block, without hitting the source again
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 6, next.intValue() );
+		sequence.awaitTimesCalled( 3 );
+		assertEquals( (1+8), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPrefetchPooledLoOptimizerThreshold() throws InterruptedException {
+		final Properties configSettings = new Properties();
+		configSettings.setProperty( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_THRESHOLD, "0.25" );
+		final SourceMock sequence = new SourceMock( 1, 4 ).prefetching();
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 4, configSettings );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		sequence.awaitTimesCalled( 2 );
+		assertEquals( (1+4), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPrefetchPooledLoOptimizerWithoutIsolatedCallback() {
+		final SourceMock sequence = new SourceMock( 1, 2 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 2, new Properties() );
+
+		// nothing can be prefetched, so behave exactly like pooled-lo
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -319,6 +385,16 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoPrefetchOptimizer(long initial, int increment, Properties configSettings) {
+		return OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.POOLED_LO_PREFETCH.getExternalName(),
+				Long.class,
+				increment,
+				initial,
+				configSettings
+		);
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -331,6 +407,7 @@ public class OptimizerUnitTest {
 		private long initialValue;
 		private int increment;
 		private int timesCalled = 0;
+		private boolean prefetching;
 
 		public SourceMock(long initialValue) {
 			this( initialValue, 1 );
@@ -353,7 +430,12 @@ public class OptimizerUnitTest {
 			}
 		}
 
-		public IntegralDataTypeHolder getNextValue() {
+		public SourceMock prefetching() {
+			this.prefetching = true;
+			return this;
+		}
+
+		public synchronized IntegralDataTypeHolder getNextValue() {
 			try {
 				if ( timesCalled == 0 ) {
 					initValue();
@@ -365,6 +447,7 @@ public class OptimizerUnitTest {
 			}
 			finally {
 				timesCalled++;
+				notifyAll();
 			}
 		}
 
@@ -373,15 +456,33 @@ public class OptimizerUnitTest {
 			return null;
 		}
 
+		@Override
+		public AccessCallback getIsolatedCallback() {
+			return prefetching ? this : null;
+		}
+
+		@Override
+		public Executor getBackgroundExecutor() {
+			return prefetching ? runnable -> new Thread( runnable ).start() : null;
+		}
+
+		public synchronized void awaitTimesCalled(int expected) throws InterruptedException {
+			final long deadline = System.currentTimeMillis() + 10_000;
+			while ( timesCalled < expected && System.currentTimeMillis() < deadline ) {
+				wait( 100 );
+			}
+			assertEquals( expected, timesCalled );
+		}
+
 		private void initValue() {
 			this.value.initialize( initialValue );
 		}
 
-		public int getTimesCalled() {
+		public synchronized int getTimesCalled() {
 			return timesCalled;
 		}
 
-		public long getCurrentValue() {
+		public synchronized long getCurrentValue() {
 			return value == null ? -1 : value.getActualLongValue();
 		}
 	}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.PooledLoPrefetchOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the "pooled-lo-prefetch" optimizer, which requests the next block of values
+ * from the sequence in the background
+ */
+@DomainModel( annotatedClasses = PooledLoPrefetchSequenceTest.Ticket.class )
+@SessionFactory
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsSequences.class )
+public class PooledLoPrefetchSequenceTest {
+	private static final int INCREMENT = 10;
+
+	@Test
+	public void testBlockBoundaries(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Ticket.class );
+		assertThat( persister.getIdentifierGenerator(), instanceOf( SequenceStyleGenerator.class ) );
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) persister.getIdentifierGenerator();
+		assertThat( generator.getOptimizer(), instanceOf( PooledLoPrefetchOptimizer.class ) );
+
+		// cross a few block boundaries, each block having been requested in the background
+		final int count = INCREMENT * 3 + 1;
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= count; i++ ) {
+						final Ticket ticket = new Ticket();
+						session.persist( ticket );
+						assertEquals( i, ticket.id );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> assertEquals(
+						(long) count,
+						session.createQuery( "select count(t) from Ticket t", Long.class ).getSingleResult()
+				)
+		);
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Ticket" ).executeUpdate() );
+	}
+
+	@Entity( name = "Ticket" )
+	public static class Ticket {
+		@Id
+		@GeneratedValue( generator = "ticket_seq" )
+		@GenericGenerator(
+				name = "ticket_seq",
+				strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+				parameters = {
+						@Parameter( name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "ticket_seq" ),
+						@Parameter( name = SequenceStyleGenerator.INITIAL_PARAM, value = "1" ),
+						@Parameter( name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + INCREMENT ),
+						@Parameter( name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo-prefetch" )
+				}
+		)
+		private Long id;
+	}
+}
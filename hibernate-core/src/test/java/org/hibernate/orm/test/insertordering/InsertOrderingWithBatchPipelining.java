@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that with {@link AvailableSettings#BATCH_PIPELINING} the inserts into different
+ * tables are batched without ordering the inserts
+ */
+public class InsertOrderingWithBatchPipelining extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Parent.class, Child.class, Department.class, Employee.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builer) {
+		super.applySettings( builer );
+		builer.applySetting( AvailableSettings.ORDER_INSERTS, "false" );
+		builer.applySetting( AvailableSettings.BATCH_PIPELINING, "true" );
+	}
+
+	@AfterEach
+	public void dropTestData() {
+		inTransaction( session -> {
+			session.createQuery( "delete Child" ).executeUpdate();
+			session.createQuery( "delete Parent" ).executeUpdate();
+			session.createQuery( "update Department set manager = null" ).executeUpdate();
+			session.createQuery( "delete Employee" ).executeUpdate();
+			session.createQuery( "delete Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInterleavedInserts() {
+		inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				final Parent parent = new Parent( i );
+				session.persist( parent );
+				session.persist( new Child( i * 2, parent ) );
+				session.persist( new Child( i * 2 + 1, parent ) );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Parent (name, id) values (?, ?)", 3 ),
+				new Batch( "insert into Child (parent_id, id) values (?, ?)", 6 )
+		);
+		verifyPreparedStatementCount( 2 );
+
+		inTransaction( session -> assertEquals(
+				6L,
+				session.createQuery( "select count(c) from Child c", Long.class ).getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testMutuallyDependentInserts() {
+		inTransaction( session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				// the Department batch references the Employee table, so it cannot be
+				// re-entered once an Employee insert is pending
+				final Department department = new Department( i );
+				session.persist( department );
+				final Employee employee = new Employee( i, department );
+				session.persist( employee );
+			}
+
+			clearBatches();
+		} );
+
+		verifyPreparedStatementCount( 6 );
+
+		inTransaction( session -> assertEquals(
+				3L,
+				session.createQuery( "select count(e) from Employee e where e.department is not null", Long.class )
+						.getSingleResult()
+		) );
+	}
+
+	@Test
+	public void testBatchReusedAfterDependentBatch() {
+		inTransaction( session -> {
+			final Department department = new Department( 1L );
+			session.persist( department );
+			session.persist( new Employee( 1L, department ) );
+			// the Department batch cannot be re-used, so the open batches are executed
+			// and the Department batch is opened again, as the first pipelined batch
+			session.persist( new Department( 2L ) );
+			for ( long i = 1; i <= 3; i++ ) {
+				final Parent parent = new Parent( i );
+				session.persist( parent );
+				session.persist( new Child( i, parent ) );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Parent (name, id) values (?, ?)", 3 ),
+				new Batch( "insert into Child (parent_id, id) values (?, ?)", 3 )
+		);
+		verifyPreparedStatementCount( 5 );
+
+		inTransaction( session -> {
+			assertEquals(
+					2L,
+					session.createQuery( "select count(d) from Department d", Long.class ).getSingleResult()
+			);
+			assertEquals(
+					3L,
+					session.createQuery( "select count(c) from Child c", Long.class ).getSingleResult()
+			);
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+			this.name = "parent" + id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Employee manager;
+
+		public Department() {
+		}
+
+		public Department(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the keys of multi-key loads are bound as a single array parameter, so that
+ * the same SQL is used whatever the number of keys
+ */
+@DomainModel( annotatedClasses = MultiKeyLoadArrayParameterTest.Ticket.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.MULTI_KEY_LOAD_ARRAY_PARAMETER, value = "true" ) )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsArrayParameters.class )
+public class MultiKeyLoadArrayParameterTest {
+	private static final int COUNT = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						session.persist( new Ticket( i, "ticket" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Ticket" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMultiLoadById(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final List<Ticket> tickets = session.byMultipleIds( Ticket.class ).multiLoad( 1, 2, 3 );
+					assertEquals( 3, tickets.size() );
+					assertEquals( "ticket2", tickets.get( 1 ).code );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final List<Ticket> tickets = session.byMultipleIds( Ticket.class ).multiLoad( 4, 5, 6, 7, 8, 99 );
+					assertEquals( 6, tickets.size() );
+					assertEquals( "ticket8", tickets.get( 4 ).code );
+					assertNull( tickets.get( 5 ) );
+				}
+		);
+
+		assertSameArrayStatement( statementInspector, 2 );
+	}
+
+	@Test
+	public void testBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final List<Ticket> tickets = new ArrayList<>();
+					for ( int i = 1; i <= 3; i++ ) {
+						tickets.add( session.getReference( Ticket.class, i ) );
+					}
+					Hibernate.initialize( tickets.get( 0 ) );
+					tickets.forEach( ticket -> assertTrue( Hibernate.isInitialized( ticket ) ) );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final List<Ticket> tickets = new ArrayList<>();
+					for ( int i = 1; i <= COUNT; i++ ) {
+						tickets.add( session.getReference( Ticket.class, i ) );
+					}
+					Hibernate.initialize( tickets.get( 0 ) );
+					tickets.forEach( ticket -> assertTrue( Hibernate.isInitialized( ticket ) ) );
+				}
+		);
+
+		assertSameArrayStatement( statementInspector, 2 );
+	}
+
+	@Test
+	public void testMultiLoadByNaturalId(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					final List<Ticket> tickets = session.byMultipleNaturalId( Ticket.class )
+							.enableOrderedReturn( false )
+							.multiLoad( "ticket1", "ticket2" );
+					assertEquals( 2, tickets.size() );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final List<Ticket> tickets = session.byMultipleNaturalId( Ticket.class )
+							.enableOrderedReturn( false )
+							.multiLoad( "ticket3", "ticket4", "ticket5", "ticket6", "ticket7" );
+					assertEquals( 5, tickets.size() );
+				}
+		);
+
+		assertSameArrayStatement( statementInspector, 2 );
+	}
+
+	private static void assertSameArrayStatement(SQLStatementInspector statementInspector, int expectedCount) {
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertEquals( expectedCount, sqlQueries.size() );
+		for ( String sql : sqlQueries ) {
+			assertEquals( sqlQueries.get( 0 ), sql );
+		}
+		assertTrue( sqlQueries.get( 0 ).contains( " = any(?)" ), sqlQueries.get( 0 ) );
+	}
+
+	@Entity(name = "Ticket")
+	@BatchSize(size = COUNT)
+	public static class Ticket {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String code;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the UPDATE statements of dynamic-update entities with the same dirty
+ * properties are reused by the JDBC batch, and that the nullness of the old values
+ * is accounted for with "dirty" optimistic locking
+ */
+@DomainModel(
+		annotatedClasses = {
+				DynamicUpdateStatementReuseTest.Product.class,
+				DynamicUpdateStatementReuseTest.LockedProduct.class
+		}
+)
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ) )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+public class DynamicUpdateStatementReuseTest {
+	private static final int COUNT = 6;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						session.persist( new Product( i, "product" + i, i ) );
+						session.persist( new LockedProduct( i, i > COUNT / 2 ? null : "product" + i, i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete Product" ).executeUpdate();
+					session.createQuery( "delete LockedProduct" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testSameDirtyProperties(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Product> products = session.createQuery( "from Product p order by p.id", Product.class )
+							.list();
+					for ( Product product : products ) {
+						if ( product.id <= COUNT / 2 ) {
+							product.name = product.name + " (updated)";
+						}
+						else {
+							product.price = product.price * 2;
+						}
+					}
+
+					statementInspector.clear();
+					session.flush();
+					// one statement for each set of dirty properties
+					assertEquals( 2, statementInspector.getSqlQueries().size() );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						final Product product = session.find( Product.class, i );
+						assertEquals( i <= COUNT / 2 ? "product" + i + " (updated)" : "product" + i, product.name );
+						assertEquals( i <= COUNT / 2 ? i : i * 2, product.price );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testDirtyOptimisticLockingWithNullOldValues(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<LockedProduct> products = session.createQuery(
+							"from LockedProduct p order by p.id",
+							LockedProduct.class
+					).list();
+					products.forEach( product -> product.name = "renamed" + product.id );
+
+					statementInspector.clear();
+					session.flush();
+					// the old name is restricted with "= ?" or "is null"
+					final List<String> updates = statementInspector.getSqlQueries();
+					assertEquals( 2, updates.size() );
+					assertTrue( updates.stream().anyMatch( sql -> sql.contains( "is null" ) ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						assertEquals( "renamed" + i, session.find( LockedProduct.class, i ).name );
+					}
+				}
+		);
+	}
+
+	@Entity(name = "Product")
+	@DynamicUpdate
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int price;
+
+		private String description;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "LockedProduct")
+	@DynamicUpdate
+	@OptimisticLocking( type = OptimisticLockType.DIRTY )
+	public static class LockedProduct {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int price;
+
+		public LockedProduct() {
+		}
+
+		public LockedProduct(Integer id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the persisters initialized the first time their entity is used
+ */
+@DomainModel( annotatedClasses = { LazyPersisterInitializationTest.Parent.class, LazyPersisterInitializationTest.Child.class } )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.LAZY_PERSISTER_INITIALIZATION, value = "true" ),
+				@Setting( name = AvailableSettings.LAZY_PERSISTER_INITIALIZATION_WARM_UP, value = "Parent" )
+		}
+)
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete Child" ).executeUpdate();
+					session.createQuery( "delete Parent" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testCrud(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Parent parent = new Parent();
+					parent.id = 1;
+					parent.name = "parent";
+					session.persist( parent );
+					for ( int i = 0; i < 3; i++ ) {
+						final Child child = new Child();
+						child.id = i;
+						child.parent = parent;
+						parent.children.add( child );
+						session.persist( child );
+					}
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Parent parent = session.find( Parent.class, 1 );
+					assertEquals( "parent", parent.name );
+					assertEquals( 3, parent.children.size() );
+					parent.name = "updated";
+					session.remove( session.find( Child.class, 0 ) );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Parent parent = session.find( Parent.class, 1 );
+					assertEquals( "updated", parent.name );
+					assertEquals( 1, parent.version );
+					assertEquals( 2, parent.children.size() );
+					assertNull( session.find( Child.class, 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testConcurrentFirstUse(SessionFactoryScope scope) throws Exception {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 8; i++ ) {
+						final Child child = new Child();
+						child.id = i;
+						session.persist( child );
+					}
+				}
+		);
+
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Callable<Child>> tasks = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				final int id = i;
+				tasks.add( () -> scope.fromTransaction( session -> session.find( Child.class, id ) ) );
+			}
+			for ( Future<Child> future : executor.invokeAll( tasks ) ) {
+				assertNotNull( future.get() );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@Version
+		private int version;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+	}
+}
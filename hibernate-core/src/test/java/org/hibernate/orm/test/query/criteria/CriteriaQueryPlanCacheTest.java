@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests caching of select plans for Criteria queries and for queries
+ * with multi-valued parameter bindings
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+				@Setting(
+						name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+						value = "org.hibernate.orm.test.query.criteria.CriteriaQueryPlanCacheTest$SelectTranslationCountingFactory"
+				)
+		}
+)
+@SessionFactory
+public class CriteriaQueryPlanCacheTest {
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 5; i++ ) {
+						session.persist( new BasicEntity( i, "value" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearInterpretations(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@Test
+	public void testStructurallyEqualCriteriaSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction(
+				session -> assertThat( findIdsGreaterThan( session, 3 ), contains( 4, 5 ) )
+		);
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 0, statistics.getQueryPlanCacheHitCount() );
+
+		// a new, but structurally equal, tree with a different parameter value
+		scope.inTransaction(
+				session -> assertThat( findIdsGreaterThan( session, 1 ), contains( 2, 3, 4, 5 ) )
+		);
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 1, statistics.getQueryPlanCacheHitCount() );
+	}
+
+	@Test
+	public void testDifferentCriteriaDoNotSharePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction(
+				session -> {
+					assertThat( findIdsGreaterThan( session, 3 ), contains( 4, 5 ) );
+
+					final CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+					final ParameterExpression<Integer> parameter = criteriaBuilder.parameter( Integer.class );
+					final CriteriaQuery<Integer> criteria = criteriaBuilder.createQuery( Integer.class );
+					final Root<BasicEntity> root = criteria.from( BasicEntity.class );
+					criteria.select( root.get( "id" ) )
+							.where( criteriaBuilder.lessThan( root.get( "id" ), parameter ) )
+							.orderBy( criteriaBuilder.asc( root.get( "id" ) ) );
+					final List<Integer> ids = session.createQuery( criteria ).setParameter( parameter, 3 ).list();
+					assertThat( ids, contains( 1, 2 ) );
+				}
+		);
+		assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 0, statistics.getQueryPlanCacheHitCount() );
+	}
+
+	@Test
+	public void testMultiValuedParameterPlanReuse(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "select e.id from BasicEntity e where e.id in :ids order by e.id";
+
+		scope.inTransaction(
+				session -> {
+					assertThat(
+							session.createQuery( hql, Integer.class ).setParameterList( "ids", Arrays.asList( 1, 2 ) ).list(),
+							contains( 1, 2 )
+					);
+					assertThat(
+							session.createQuery( hql, Integer.class ).setParameterList( "ids", Arrays.asList( 3, 4, 5 ) ).list(),
+							contains( 3, 4, 5 )
+					);
+					assertThat(
+							session.createQuery( hql, Integer.class ).setParameterList( "ids", Arrays.asList( 2, 4 ) ).list(),
+							contains( 2, 4 )
+					);
+				}
+		);
+
+		// one miss for the HqlInterpretation and one for the plan, which is reused
+		// even though the number of bound values differs
+		assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 4, statistics.getQueryPlanCacheHitCount() );
+	}
+
+	@Test
+	public void testInterpretationPerBindingShape(SessionFactoryScope scope) {
+		final String hql = "select e.id from BasicEntity e where e.id in :ids order by e.id";
+
+		scope.inTransaction(
+				session -> {
+					SelectTranslationCountingFactory.SELECT_TRANSLATIONS.set( 0 );
+					for ( int i = 0; i < 3; i++ ) {
+						assertThat(
+								session.createQuery( hql, Integer.class ).setParameterList( "ids", Arrays.asList( 1, 2 ) ).list(),
+								contains( 1, 2 )
+						);
+						assertThat(
+								session.createQuery( hql, Integer.class ).setParameterList( "ids", Arrays.asList( 3, 4, 5 ) ).list(),
+								contains( 3, 4, 5 )
+						);
+					}
+					// alternating between the two shapes of the bindings re-uses their interpretations
+					assertEquals( 2, SelectTranslationCountingFactory.SELECT_TRANSLATIONS.get() );
+				}
+		);
+	}
+
+	private static List<Integer> findIdsGreaterThan(SessionImplementor session, int value) {
+		final CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+		final ParameterExpression<Integer> parameter = criteriaBuilder.parameter( Integer.class );
+		final CriteriaQuery<Integer> criteria = criteriaBuilder.createQuery( Integer.class );
+		final Root<BasicEntity> root = criteria.from( BasicEntity.class );
+		criteria.select( root.get( "id" ) )
+				.where( criteriaBuilder.greaterThan( root.get( "id" ), parameter ) )
+				.orderBy( criteriaBuilder.asc( root.get( "id" ) ) );
+		return session.createQuery( criteria ).setParameter( parameter, value ).list();
+	}
+
+	public static class SelectTranslationCountingFactory extends StandardSqmTranslatorFactory {
+		static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext,
+				boolean deduplicateSelectionItems) {
+			SELECT_TRANSLATIONS.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext,
+					deduplicateSelectionItems
+			);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.Arrays;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests caching of plans for HQL insert, update and delete statements, and that
+ * plans of native insert, update and delete statements are not cached
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class NonSelectQueryPlanCacheTest {
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 5; i++ ) {
+						session.persist( new BasicEntity( i, "value" + i ) );
+					}
+				}
+		);
+
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUpdatePlanReuse(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "update BasicEntity e set e.data = :data where e.id = :id";
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final int count = session.createQuery( hql )
+								.setParameter( "data", "updated" + i )
+								.setParameter( "id", i )
+								.executeUpdate();
+						assertEquals( 1, count );
+					}
+				}
+		);
+
+		// one miss for the HqlInterpretation and one for the plan
+		assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 4, statistics.getQueryPlanCacheHitCount() );
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						assertEquals( "updated" + i, session.find( BasicEntity.class, i ).getData() );
+					}
+					assertEquals( "value4", session.find( BasicEntity.class, 4 ).getData() );
+				}
+		);
+	}
+
+	@Test
+	public void testDeletePlanReuseWithMultiValuedParameter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "delete BasicEntity e where e.id in :ids";
+
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							2,
+							session.createQuery( hql ).setParameterList( "ids", Arrays.asList( 1, 2 ) ).executeUpdate()
+					);
+					assertEquals(
+							1,
+							session.createQuery( hql ).setParameterList( "ids", Arrays.asList( 3 ) ).executeUpdate()
+					);
+					assertEquals(
+							2,
+							session.createQuery( hql ).setParameterList( "ids", Arrays.asList( 4, 5, 6 ) ).executeUpdate()
+					);
+				}
+		);
+
+		// the plan is reused even though the number of bound values differs
+		assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 4, statistics.getQueryPlanCacheHitCount() );
+
+		scope.inTransaction(
+				session -> assertEquals(
+						0L,
+						session.createQuery( "select count(e) from BasicEntity e", Long.class ).getSingleResult()
+				)
+		);
+	}
+
+	@Test
+	public void testInsertPlanReuse(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "insert into BasicEntity (id, data) values (:id, :data)";
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 6; i <= 8; i++ ) {
+						final int count = session.createQuery( hql )
+								.setParameter( "id", i )
+								.setParameter( "data", "value" + i )
+								.executeUpdate();
+						assertEquals( 1, count );
+					}
+				}
+		);
+
+		assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 4, statistics.getQueryPlanCacheHitCount() );
+
+		scope.inTransaction(
+				session -> assertEquals( "value8", session.find( BasicEntity.class, 8 ).getData() )
+		);
+	}
+
+	@Test
+	public void testNativePlanNotCached(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final String sql = "update BasicEntity set data = :data where id = :id";
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final int count = session.createNativeQuery( sql )
+								.setParameter( "data", "updated" + i )
+								.setParameter( "id", i )
+								.executeUpdate();
+						assertEquals( 1, count );
+					}
+				}
+		);
+
+		// native plans refer to the parameters of their query, so they are not cached
+		assertEquals( 0, sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedQueryPlans() );
+		assertEquals( 0, sessionFactory.getStatistics().getQueryPlanCacheHitCount() );
+		assertEquals( 0, sessionFactory.getStatistics().getQueryPlanCacheMissCount() );
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						assertEquals( "updated" + i, session.find( BasicEntity.class, i ).getData() );
+					}
+				}
+		);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the columnar encoding of query cache entries
+ */
+@DomainModel( annotatedClasses = ColumnarCachedResultsTest.Country.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@SessionFactory
+public class ColumnarCachedResultsTest {
+	private static final int COUNT = 50;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= COUNT; i++ ) {
+						final Country country = new Country();
+						country.id = i;
+						country.code = "C" + i;
+						// only a few distinct values, which are dictionary-encoded
+						country.continent = i % 10 == 0 ? null : "continent" + ( i % 3 );
+						country.population = i % 7 == 0 ? null : i * 1_000_000L;
+						country.area = i * 0.5D;
+						country.member = i % 2 == 0;
+						session.persist( country );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Country" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCachedScalarResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Object[]> results = runQuery( scope );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+
+		final List<Object[]> cachedResults = runQuery( scope );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		assertEquals( COUNT, cachedResults.size() );
+		for ( int i = 0; i < COUNT; i++ ) {
+			assertArrayEquals( results.get( i ), cachedResults.get( i ) );
+		}
+		assertArrayEquals( new Object[] { 7, "C7", "continent1", null, 3.5D, false }, cachedResults.get( 6 ) );
+		assertArrayEquals( new Object[] { 10, "C10", null, 10_000_000L, 5D, true }, cachedResults.get( 9 ) );
+	}
+
+	@Test
+	public void testCachedEntityResults(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Country> countries = session.createQuery(
+								"from Country c where c.continent = :continent order by c.id",
+								Country.class
+						).setParameter( "continent", "continent2" ).setCacheable( true ).list();
+						assertEquals( 17, countries.size() );
+						assertEquals( "C2", countries.get( 0 ).code );
+						assertEquals( 2_000_000L, countries.get( 0 ).population );
+					}
+			);
+		}
+		assertEquals( 1, scope.getSessionFactory().getStatistics().getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEncoding() {
+		final ColumnarCachedResults.Builder builder = new ColumnarCachedResults.Builder( null );
+		final Object[] row = new Object[5];
+		for ( int i = 0; i < 40; i++ ) {
+			row[0] = i;
+			row[1] = i % 5 == 0 ? null : "value" + ( i % 4 );
+			row[2] = i == 0 ? null : ( i < 20 ? (Object) (long) i : BigDecimal.valueOf( i ) );
+			row[3] = i % 2 == 0;
+			row[4] = null;
+			builder.addRow( row );
+		}
+
+		final ColumnarCachedResults results = builder.build();
+		assertEquals( 40, results.getRowCount() );
+		assertEquals( 40, results.size() );
+		for ( ColumnarCachedResults columns : List.of( results, SerializationHelper.clone( results ) ) ) {
+			assertArrayEquals( new Object[] { 0, null, null, true, null }, columns.getRow( 0 ) );
+			assertArrayEquals( new Object[] { 13, "value1", 13L, false, null }, (Object[]) columns.get( 13 ) );
+			assertArrayEquals( new Object[] { 27, "value3", BigDecimal.valueOf( 27 ), false, null }, columns.getRow( 27 ) );
+			assertEquals( 39L, columns.getLongValue( 39, 0 ) );
+			assertTrue( columns.isNull( 5, 1 ) );
+			assertFalse( columns.isNull( 6, 1 ) );
+			assertTrue( columns.isNull( 0, 2 ) );
+			assertTrue( columns.getBooleanValue( 2, 3 ) );
+			assertNull( columns.getValue( 7, 4 ) );
+		}
+	}
+
+	private static List<Object[]> runQuery(SessionFactoryScope scope) {
+		return scope.fromTransaction(
+				session -> session.createQuery(
+						"select c.id, c.code, c.continent, c.population, c.area, c.member from Country c order by c.id",
+						Object[].class
+				).setCacheable( true ).list()
+		);
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		private Integer id;
+
+		private String code;
+
+		private String continent;
+
+		private Long population;
+
+		private double area;
+
+		private boolean member;
+	}
+}
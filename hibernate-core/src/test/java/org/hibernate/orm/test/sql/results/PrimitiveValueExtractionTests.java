@@ -0,0 +1,243 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.graph.instantiation.internal.ArgumentReader;
+import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiationAssemblerInjectionImpl;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.java.spi.JavaTypeBasicAdaptor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the values of numeric and boolean columns, which are read from the ResultSet
+ * without boxing them, both for entities and for scalar projections
+ */
+@DomainModel( annotatedClasses = PrimitiveValueExtractionTests.Measurement.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" )
+		}
+)
+@SessionFactory
+public class PrimitiveValueExtractionTests {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Measurement measurement = new Measurement();
+					measurement.id = 1;
+					measurement.count = Long.MAX_VALUE;
+					measurement.small = Short.MIN_VALUE;
+					measurement.tiny = (byte) -1;
+					measurement.value = -1.5D;
+					measurement.ratio = 0.25F;
+					measurement.valid = true;
+					measurement.optionalCount = 42;
+					session.persist( measurement );
+
+					final Measurement empty = new Measurement();
+					empty.id = 2;
+					session.persist( empty );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntityValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Measurement> measurements = session.createQuery(
+							"from Measurement m order by m.id",
+							Measurement.class
+					).list();
+
+					final Measurement measurement = measurements.get( 0 );
+					assertEquals( Long.MAX_VALUE, measurement.count );
+					assertEquals( Short.MIN_VALUE, measurement.small );
+					assertEquals( (byte) -1, measurement.tiny );
+					assertEquals( -1.5D, measurement.value );
+					assertEquals( 0.25F, measurement.ratio );
+					assertTrue( measurement.valid );
+					assertEquals( 42, measurement.optionalCount );
+					assertNull( measurement.optionalValid );
+
+					final Measurement empty = measurements.get( 1 );
+					assertEquals( 0L, empty.count );
+					assertFalse( empty.valid );
+					assertNull( empty.optionalCount );
+				}
+		);
+	}
+
+	@Test
+	public void testScalarValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							2L,
+							session.createQuery( "select count(m) from Measurement m", Long.class ).getSingleResult()
+					);
+					assertEquals(
+							List.of( 1, 2 ),
+							session.createQuery( "select m.id from Measurement m order by m.id", Integer.class ).list()
+					);
+
+					final List<Object[]> rows = session.createQuery(
+							"select m.count, m.value, m.valid, m.optionalCount from Measurement m order by m.id",
+							Object[].class
+					).list();
+					assertArrayEquals( new Object[] { Long.MAX_VALUE, -1.5D, true, 42 }, rows.get( 0 ) );
+					assertArrayEquals( new Object[] { 0L, 0D, false, null }, rows.get( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testCachedScalarValues(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Object[]> rows = session.createQuery(
+								"select m.id, m.small, m.ratio, m.optionalCount from Measurement m order by m.id",
+								Object[].class
+						).setCacheable( true ).list();
+						assertArrayEquals( new Object[] { 1, Short.MIN_VALUE, 0.25F, 42 }, rows.get( 0 ) );
+						assertArrayEquals( new Object[] { 2, (short) 0, 0F, null }, rows.get( 1 ) );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testDynamicInstantiationInjection(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<MeasurementSummary> summaries = session.createQuery(
+							"select new " + MeasurementSummary.class.getName()
+									+ "(m.count as total, m.small as minimum, m.value as amount, m.valid as flag)"
+									+ " from Measurement m order by m.id",
+							MeasurementSummary.class
+					).list();
+
+					final MeasurementSummary summary = summaries.get( 0 );
+					assertEquals( Long.MAX_VALUE, summary.total );
+					assertEquals( Short.MIN_VALUE, summary.minimum );
+					assertEquals( -1.5D, summary.amount );
+					assertTrue( summary.flag );
+
+					final MeasurementSummary empty = summaries.get( 1 );
+					assertEquals( 0L, empty.total );
+					assertFalse( empty.flag );
+				}
+		);
+	}
+
+	@Test
+	public void testPrimitiveFieldInjectionDoesNotBox() {
+		final DynamicInstantiationAssemblerInjectionImpl<MeasurementSummary> assembler =
+				new DynamicInstantiationAssemblerInjectionImpl<>(
+						new JavaTypeBasicAdaptor<>( MeasurementSummary.class ),
+						List.of(
+								new ArgumentReader<>( new BasicResultAssembler<>( 0, LongJavaType.INSTANCE ), "total" ),
+								new ArgumentReader<>( new BasicResultAssembler<>( 1, ShortJavaType.INSTANCE ), "minimum" ),
+								new ArgumentReader<>( new BasicResultAssembler<>( 2, DoubleJavaType.INSTANCE ), "amount" ),
+								new ArgumentReader<>( new BasicResultAssembler<>( 3, BooleanJavaType.INSTANCE ), "flag" )
+						)
+				);
+
+		// the row only provides the primitive values, and fails if a value is accessed as an Object
+		final RowProcessingState rowProcessingState = (RowProcessingState) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { RowProcessingState.class },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "isJdbcValueNull":
+							return false;
+						case "getJdbcLongValue":
+							return (int) args[0] == 0 ? Long.MAX_VALUE : Short.MIN_VALUE;
+						case "getJdbcDoubleValue":
+							return -1.5D;
+						case "getJdbcBooleanValue":
+							return true;
+						default:
+							throw new AssertionError( "Unexpected access to the row: " + method.getName() );
+					}
+				}
+		);
+
+		final MeasurementSummary summary = assembler.assemble( rowProcessingState, null );
+		assertEquals( Long.MAX_VALUE, summary.total );
+		assertEquals( Short.MIN_VALUE, summary.minimum );
+		assertEquals( -1.5D, summary.amount );
+		assertTrue( summary.flag );
+	}
+
+	public static class MeasurementSummary {
+		private long total;
+
+		private short minimum;
+
+		private double amount;
+
+		private boolean flag;
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private long count;
+
+		private short small;
+
+		private byte tiny;
+
+		private double value;
+
+		private float ratio;
+
+		private boolean valid;
+
+		private Integer optionalCount;
+
+		private Boolean optionalValid;
+	}
+}
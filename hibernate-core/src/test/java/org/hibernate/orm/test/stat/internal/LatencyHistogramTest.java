@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.internal.LatencyHistogramImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmpty() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getTotalTime() );
+		assertEquals( 0, histogram.getMaxTime() );
+		assertEquals( 0, histogram.getValueAtPercentile( 99 ) );
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		for ( int i = 1; i <= 10; i++ ) {
+			histogram.record( i );
+		}
+		assertEquals( 10, histogram.getCount() );
+		assertEquals( 55, histogram.getTotalTime() );
+		assertEquals( 10, histogram.getMaxTime() );
+		assertEquals( 1, histogram.getValueAtPercentile( 0 ) );
+		assertEquals( 5, histogram.getValueAtPercentile( 50 ) );
+		assertEquals( 9, histogram.getValueAtPercentile( 90 ) );
+		assertEquals( 10, histogram.getValueAtPercentile( 100 ) );
+	}
+
+	@Test
+	public void testPercentilesWithinPrecision() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		// 1 to 1000 microseconds
+		for ( long i = 1; i <= 1000; i++ ) {
+			histogram.record( TimeUnit.MICROSECONDS.toNanos( i ) );
+		}
+
+		assertWithinPrecision( TimeUnit.MICROSECONDS.toNanos( 500 ), histogram.getValueAtPercentile( 50 ) );
+		assertWithinPrecision( TimeUnit.MICROSECONDS.toNanos( 990 ), histogram.getValueAtPercentile( 99 ) );
+		assertEquals( TimeUnit.MICROSECONDS.toNanos( 1000 ), histogram.getValueAtPercentile( 100 ) );
+	}
+
+	@Test
+	public void testBimodalDistribution() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		for ( int i = 0; i < 95; i++ ) {
+			histogram.record( TimeUnit.MILLISECONDS.toNanos( 2 ) );
+		}
+		for ( int i = 0; i < 5; i++ ) {
+			histogram.record( TimeUnit.MILLISECONDS.toNanos( 800 ) );
+		}
+
+		// the average hides both modes, the percentiles do not
+		assertWithinPrecision( TimeUnit.MILLISECONDS.toNanos( 2 ), histogram.getValueAtPercentile( 50 ) );
+		assertWithinPrecision( TimeUnit.MILLISECONDS.toNanos( 2 ), histogram.getValueAtPercentile( 95 ) );
+		assertWithinPrecision( TimeUnit.MILLISECONDS.toNanos( 800 ), histogram.getValueAtPercentile( 99 ) );
+	}
+
+	@Test
+	public void testOutOfRangeValues() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		histogram.record( -5 );
+		histogram.record( TimeUnit.HOURS.toNanos( 5 ) );
+
+		assertEquals( 2, histogram.getCount() );
+		assertEquals( 0, histogram.getValueAtPercentile( 50 ) );
+		assertEquals( TimeUnit.HOURS.toNanos( 5 ), histogram.getValueAtPercentile( 100 ) );
+		assertThrows( IllegalArgumentException.class, () -> histogram.getValueAtPercentile( 101 ) );
+	}
+
+	private static void assertWithinPrecision(long expected, long actual) {
+		assertTrue( actual >= expected, "Percentile " + actual + " lower than " + expected );
+		assertTrue(
+				actual <= expected + expected * LatencyHistogram.RELATIVE_PRECISION_PERCENT / 100,
+				"Percentile " + actual + " too far above " + expected
+		);
+	}
+}
@@ -0,0 +1,337 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.internal.FilterJdbcParameter;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests caching of query plans for queries executed with enabled filters or
+ * an applied entity graph, and the corresponding statistics
+ */
+@DomainModel( annotatedClasses = {
+		QueryPlanCacheInfluencersStatisticsTest.Employee.class,
+		QueryPlanCacheInfluencersStatisticsTest.Department.class
+} )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class QueryPlanCacheInfluencersStatisticsTest {
+	private static final String HQL = "select e from Employee e order by e.id";
+	private static final int LARGE_NAME_COUNT = 1_000;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Department department = new Department( 1, "Engineering" );
+					session.persist( department );
+					for ( int i = 1; i <= 5; i++ ) {
+						session.persist( new Employee( i, "name" + i, department ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete Employee" ).executeUpdate();
+					session.createQuery( "delete Department" ).executeUpdate();
+				}
+		);
+	}
+
+	@BeforeEach
+	public void clearInterpretations(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@Test
+	public void testFilteredPlanReusedWithCurrentFilterValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "minId" ).setParameter( "min", 4 );
+					assertThat( findEmployeeIds( session ), contains( 4, 5 ) );
+				}
+		);
+		assertEquals( 0, statistics.getFilteredQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheMissCount() );
+
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "minId" ).setParameter( "min", 2 );
+					assertThat( findEmployeeIds( session ), contains( 2, 3, 4, 5 ) );
+				}
+		);
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheMissCount() );
+
+		// the unfiltered query must not use the filtered plan
+		scope.inTransaction(
+				session -> assertThat( findEmployeeIds( session ), contains( 1, 2, 3, 4, 5 ) )
+		);
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheMissCount() );
+		// the HqlInterpretation, the filtered and the unfiltered plan
+		assertEquals( 3, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testFilterWithMultiValuedParameter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "names" ).setParameterList( "names", Arrays.asList( "name1", "name3" ) );
+					assertThat( findEmployeeIds( session ), contains( 1, 3 ) );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "names" ).setParameterList( "names", Arrays.asList( "name2", "name5" ) );
+					assertThat( findEmployeeIds( session ), contains( 2, 5 ) );
+				}
+		);
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheMissCount() );
+
+		// a different number of values leads to different SQL
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "names" ).setParameterList( "names", Arrays.asList( "name1", "name2", "name4" ) );
+					assertThat( findEmployeeIds( session ), contains( 1, 2, 4 ) );
+				}
+		);
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheHitCount() );
+		assertEquals( 2, statistics.getFilteredQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testFilterWithLargeMultiValuedParameter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 2; i++ ) {
+			final List<String> names = largeNameList( i );
+			scope.inTransaction(
+					session -> {
+						session.enableFilter( "names" ).setParameterList( "names", names );
+						assertThat( findEmployeeIds( session ), contains( 2, 4 ) );
+					}
+			);
+		}
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getFilteredQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testLargeMultiValuedFilterParameterBinding(SessionFactoryScope scope) {
+		final JdbcMapping jdbcMapping = scope.getSessionFactory()
+				.getFilterDefinition( "names" )
+				.getParameterJdbcMapping( "names" );
+		// the parameters of a filter applied to two tables
+		final Set<FilterJdbcParameter> filterJdbcParameters = new LinkedHashSet<>();
+		final List<FilterJdbcParameter> firstTableParameters = new ArrayList<>();
+		final List<FilterJdbcParameter> secondTableParameters = new ArrayList<>();
+		for ( int i = 0; i < LARGE_NAME_COUNT; i++ ) {
+			firstTableParameters.add( new FilterJdbcParameter( jdbcMapping, null, "names", "names", i ) );
+			secondTableParameters.add( new FilterJdbcParameter( jdbcMapping, null, "names", "names", i ) );
+		}
+		filterJdbcParameters.addAll( firstTableParameters );
+		filterJdbcParameters.addAll( secondTableParameters );
+		final JdbcSelect jdbcSelect = new JdbcSelect(
+				"",
+				Collections.emptyList(),
+				null,
+				Collections.emptySet(),
+				filterJdbcParameters
+		);
+
+		for ( int i = 0; i < 2; i++ ) {
+			final List<String> names = largeNameList( i );
+			scope.inSession(
+					session -> {
+						session.enableFilter( "names" ).setParameterList( "names", names );
+						final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
+								filterJdbcParameters.size()
+						);
+						jdbcSelect.bindFilterJdbcParameters(
+								jdbcParameterBindings,
+								session.getLoadQueryInfluencers().getEnabledFilters()
+						);
+						assertBoundValues( names, firstTableParameters, jdbcParameterBindings );
+						assertBoundValues( names, secondTableParameters, jdbcParameterBindings );
+					}
+			);
+		}
+	}
+
+	private static void assertBoundValues(
+			List<String> expectedValues,
+			List<FilterJdbcParameter> filterJdbcParameters,
+			JdbcParameterBindings jdbcParameterBindings) {
+		for ( int i = 0; i < expectedValues.size(); i++ ) {
+			assertEquals(
+					expectedValues.get( i ),
+					jdbcParameterBindings.getBinding( filterJdbcParameters.get( i ).getParameter() ).getBindValue()
+			);
+		}
+	}
+
+	/**
+	 * A list of {@link #LARGE_NAME_COUNT} names matching the employees 2 and 4,
+	 * with a different order of the values for each variant
+	 */
+	private static List<String> largeNameList(int variant) {
+		final List<String> names = new ArrayList<>( LARGE_NAME_COUNT );
+		for ( int i = 0; i < LARGE_NAME_COUNT - 2; i++ ) {
+			names.add( "unknown" + variant + "_" + i );
+		}
+		names.add( variant * 100, "name2" );
+		names.add( LARGE_NAME_COUNT - 1 - variant * 100, "name4" );
+		return names;
+	}
+
+	@Test
+	public void testEntityGraphPlanReuse(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						// a new, but equal, graph for each execution
+						final EntityGraph<Employee> graph = session.createEntityGraph( Employee.class );
+						graph.addAttributeNodes( "department" );
+						final List<Employee> employees = session.createQuery( HQL, Employee.class )
+								.setHint( GraphSemantic.FETCH.getJpaHintName(), graph )
+								.list();
+						assertEquals( 5, employees.size() );
+						assertTrue( Hibernate.isInitialized( employees.get( 0 ).getDepartment() ) );
+					}
+			);
+		}
+		assertEquals( 1, statistics.getEntityGraphQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getEntityGraphQueryPlanCacheMissCount() );
+
+		// the query without a graph must not use the plan fetching the department
+		scope.inTransaction(
+				session -> {
+					final List<Employee> employees = session.createQuery( HQL, Employee.class ).list();
+					assertFalse( Hibernate.isInitialized( employees.get( 0 ).getDepartment() ) );
+				}
+		);
+		assertEquals( 1, statistics.getEntityGraphQueryPlanCacheHitCount() );
+		assertEquals( 1, statistics.getEntityGraphQueryPlanCacheMissCount() );
+		// the HqlInterpretation, the plan with and the plan without the graph
+		assertEquals( 3, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	private static List<Integer> findEmployeeIds(SessionImplementor session) {
+		return session.createQuery( "select e.id from Employee e order by e.id", Integer.class ).list();
+	}
+
+	@Entity( name = "Employee" )
+	@FilterDef( name = "minId", defaultCondition = "id >= :min", parameters = @ParamDef( name = "min", type = Integer.class ) )
+	@FilterDef( name = "names", defaultCondition = "name in (:names)", parameters = @ParamDef( name = "names", type = String.class ) )
+	@Filter( name = "minId" )
+	@Filter( name = "names" )
+	public static class Employee {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Department getDepartment() {
+			return department;
+		}
+	}
+
+	@Entity( name = "Department" )
+	public static class Department {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
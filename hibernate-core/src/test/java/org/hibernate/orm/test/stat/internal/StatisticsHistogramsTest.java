@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the collection of latency histograms
+ */
+@DomainModel( annotatedClasses = {
+		StatisticsHistogramsTest.Department.class,
+		StatisticsHistogramsTest.Employee.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.STATISTICS_HISTOGRAMS_ENABLED, value = "true" )
+} )
+@SessionFactory
+public class StatisticsHistogramsTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Department department = new Department( 1, "Engineering" );
+					session.persist( department );
+					session.persist( new Employee( 1, "Jane", department ) );
+					session.persist( new Employee( 2, "John", department ) );
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete Employee" ).executeUpdate();
+					session.createQuery( "delete Department" ).executeUpdate();
+				}
+		);
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testQueryExecutionHistogram(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertTrue( statistics.isHistogramsEnabled() );
+
+		final String hql = "select e from Employee e";
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 3; i++ ) {
+						assertEquals( 2, session.createQuery( hql, Employee.class ).list().size() );
+					}
+				}
+		);
+
+		final LatencyHistogram histogram = statistics.getQueryStatistics( hql ).getExecutionHistogram();
+		assertNotNull( histogram );
+		assertEquals( 3, histogram.getCount() );
+		assertTrue( histogram.getValueAtPercentile( 50 ) > 0 );
+		assertTrue( histogram.getValueAtPercentile( 50 ) <= histogram.getValueAtPercentile( 99 ) );
+		assertTrue( histogram.getValueAtPercentile( 99 ) <= histogram.getMaxTime() );
+	}
+
+	@Test
+	public void testEntityLoadAndCollectionFetchHistograms(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction(
+				session -> {
+					final Department department = session.get( Department.class, 1 );
+					Hibernate.initialize( department.getEmployees() );
+					assertEquals( 2, department.getEmployees().size() );
+				}
+		);
+
+		final LatencyHistogram loadHistogram = statistics.getEntityStatistics( Department.class.getName() )
+				.getLoadHistogram();
+		assertEquals( 1, loadHistogram.getCount() );
+		assertTrue( loadHistogram.getMaxTime() > 0 );
+
+		final LatencyHistogram fetchHistogram = statistics.getCollectionStatistics( Department.class.getName() + ".employees" )
+				.getFetchHistogram();
+		assertEquals( 1, fetchHistogram.getCount() );
+		assertTrue( fetchHistogram.getMaxTime() > 0 );
+	}
+
+	@Entity( name = "Department" )
+	public static class Department {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "department" )
+		private Set<Employee> employees = new HashSet<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Set<Employee> getEmployees() {
+			return employees;
+		}
+	}
+
+	@Entity( name = "Employee" )
+	public static class Employee {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+	}
+}
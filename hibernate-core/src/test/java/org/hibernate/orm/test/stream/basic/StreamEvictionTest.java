@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link HibernateHints#HINT_STREAM_EVICTION}
+ */
+@DomainModel(
+		annotatedClasses = { StreamEvictionTest.Publisher.class, StreamEvictionTest.Author.class, StreamEvictionTest.Book.class }
+)
+@SessionFactory
+public class StreamEvictionTest {
+	private static final int AUTHOR_COUNT = 20;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Publisher publisher = new Publisher( 1, "publisher" );
+					session.persist( publisher );
+					for ( int i = 1; i <= AUTHOR_COUNT; i++ ) {
+						final Author author = new Author( i, "author" + i, publisher );
+						session.persist( author );
+						for ( int j = 1; j <= 3; j++ ) {
+							final Book book = new Book( i * 10 + j, "book" + i + "." + j, author );
+							author.books.add( book );
+							session.persist( book );
+						}
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete Book" ).executeUpdate();
+					session.createQuery( "delete Author" ).executeUpdate();
+					session.createQuery( "delete Publisher" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testStreamEviction(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Publisher publisher = session.find( Publisher.class, 1 );
+					final AtomicInteger count = new AtomicInteger();
+					final Set<Author> previousAuthors = new HashSet<>();
+
+					try ( Stream<Author> authors = session.createQuery(
+							"select distinct a from Author a join fetch a.books order by a.id",
+							Author.class
+					).setHint( HibernateHints.HINT_STREAM_EVICTION, true ).getResultStream() ) {
+						authors.forEach(
+								author -> {
+									count.incrementAndGet();
+									assertTrue( session.contains( author ) );
+									assertEquals( 3, author.books.size() );
+									author.books.forEach( book -> assertTrue( session.contains( book ) ) );
+									previousAuthors.forEach( previous -> assertFalse( session.contains( previous ) ) );
+									previousAuthors.add( author );
+
+									// the author, its books, and the publisher which was managed before
+									assertEquals(
+											5,
+											session.getPersistenceContextInternal().getNumberOfManagedEntities()
+									);
+								}
+						);
+					}
+
+					assertEquals( AUTHOR_COUNT, count.get() );
+					assertTrue( session.contains( publisher ) );
+				}
+		);
+	}
+
+	@Test
+	public void testStreamWithoutEviction(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try ( Stream<Author> authors = session.createQuery( "from Author a order by a.id", Author.class )
+							.getResultStream() ) {
+						authors.forEach( author -> assertTrue( session.contains( author ) ) );
+					}
+
+					// the authors and the publisher
+					assertEquals(
+							AUTHOR_COUNT + 1,
+							session.getPersistenceContextInternal().getNumberOfManagedEntities()
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testPersistedEntitiesAreNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try ( Stream<Author> authors = session.createQuery( "from Author a order by a.id", Author.class )
+							.setHint( HibernateHints.HINT_STREAM_EVICTION, true )
+							.getResultStream() ) {
+						authors.forEach( author -> session.persist( new Publisher( 100 + author.id, author.name ) ) );
+					}
+				}
+		);
+
+		scope.inTransaction(
+				session -> assertEquals(
+						AUTHOR_COUNT + 1L,
+						session.createQuery( "select count(p) from Publisher p", Long.class ).getSingleResult()
+				)
+		);
+	}
+
+	@Test
+	public void testEntitiesLoadedByConsumerAreNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Set<Book> books = new HashSet<>();
+					try ( Stream<Author> authors = session.createQuery( "from Author a order by a.id", Author.class )
+							.setHint( HibernateHints.HINT_STREAM_EVICTION, true )
+							.getResultStream() ) {
+						authors.forEach( author -> books.add( session.find( Book.class, author.id * 10 + 1 ) ) );
+					}
+
+					assertEquals( AUTHOR_COUNT, books.size() );
+					books.forEach( book -> assertTrue( session.contains( book ) ) );
+				}
+		);
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne(fetch = FetchType.EAGER)
+		private Publisher publisher;
+
+		@OneToMany(mappedBy = "author")
+		private Set<Book> books = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name, Publisher publisher) {
+			this.id = id;
+			this.name = name;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
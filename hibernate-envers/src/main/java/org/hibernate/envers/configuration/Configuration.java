@@ -64,6 +64,7 @@ public class Configuration {
 
 	private final boolean nativeIdEnabled;
 	private final boolean allowIdentifierReuse;
+	private final boolean batchAuditInserts;
 	private final boolean generateRevisionsForCollections;
 	private final boolean doNotAuditOptimisticLockingField;
 	private final boolean storeDeleteData;
@@ -115,6 +116,7 @@ public class Configuration {
 
 		nativeIdEnabled = configProps.getBoolean( EnversSettings.USE_REVISION_ENTITY_WITH_NATIVE_ID, true );
 		allowIdentifierReuse = configProps.getBoolean( EnversSettings.ALLOW_IDENTIFIER_REUSE, false );
+		batchAuditInserts = configProps.getBoolean( EnversSettings.BATCH_AUDIT_INSERTS, false );
 
 		generateRevisionsForCollections = configProps.getBoolean( EnversSettings.REVISION_ON_COLLECTION_CHANGE, true );
 
@@ -224,6 +226,10 @@ public class Configuration {
 		return allowIdentifierReuse;
 	}
 
+	public boolean isBatchAuditInsertsEnabled() {
+		return batchAuditInserts;
+	}
+
 	public boolean isFindByRevisionExactMatch() {
 		return findByRevisionExactMatch;
 	}
@@ -183,4 +183,15 @@ public interface EnversSettings {
 	 * that the exception is thrown.
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
+
+	/**
+	 * Whether the audit rows of a transaction should be collected and inserted directly by the audit
+	 * entity persisters, grouped by audit table, rather than saved one by one in the session.  The
+	 * inserts are then executed as JDBC batches when {@code hibernate.jdbc.batch_size} is set.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_AUDIT_INSERTS = "org.hibernate.envers.batch_audit_inserts";
 }
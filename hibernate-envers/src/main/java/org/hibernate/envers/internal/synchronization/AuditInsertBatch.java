@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * The audit rows of a transaction, collected while the {@link AuditProcess} performs its work units
+ * and grouped by audit entity, so that they are inserted table after table, in JDBC batches, by
+ * the audit entity persisters rather than saved one by one in the session.
+ * <p>
+ * The rows do not become managed entities of the session.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#BATCH_AUDIT_INSERTS
+ */
+public class AuditInsertBatch {
+	private final Map<String, List<Object>> rowsByAuditEntityName = new LinkedHashMap<>();
+
+	/**
+	 * Saves the audit data of an entity, in the audit insert batch of the session if there
+	 * is one, or else in the session.
+	 *
+	 * @param session the session
+	 * @param configuration the configuration
+	 * @param auditEntityName the name of the audit entity
+	 * @param data the audit data
+	 * @return {@code true} if the data was added to the batch, {@code false} if it was saved in the session
+	 */
+	public static boolean save(Session session, Configuration configuration, String auditEntityName, Object data) {
+		final AuditInsertBatch batch = configuration.getEnversService()
+				.getAuditProcessManager()
+				.getAuditInsertBatch( session );
+		if ( batch == null ) {
+			session.save( auditEntityName, data );
+			return false;
+		}
+		batch.add( auditEntityName, data );
+		return true;
+	}
+
+	public void add(String auditEntityName, Object data) {
+		rowsByAuditEntityName.computeIfAbsent( auditEntityName, name -> new ArrayList<>() ).add( data );
+	}
+
+	/**
+	 * Inserts the collected rows and executes the pending JDBC batch.
+	 */
+	public void write(SessionImplementor session) {
+		for ( Map.Entry<String, List<Object>> entry : rowsByAuditEntityName.entrySet() ) {
+			final EntityPersister persister = session.getFactory()
+					.getMappingMetamodel()
+					.getEntityDescriptor( entry.getKey() );
+			for ( Object data : entry.getValue() ) {
+				final Object id = persister.getIdentifier( data, session );
+				final Object[] values = persister.getPropertyValuesToInsert( data, null, session );
+				persister.insert( id, values, data, session );
+			}
+		}
+		rowsByAuditEntityName.clear();
+		session.getJdbcCoordinator().executeBatch();
+	}
+}
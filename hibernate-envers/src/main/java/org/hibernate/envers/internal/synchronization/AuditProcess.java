@@ -31,6 +31,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SessionImplementor session;
+	private final AuditProcessManager auditProcessManager;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
@@ -40,8 +41,16 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, null );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			AuditProcessManager auditProcessManager) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.auditProcessManager = auditProcessManager;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -121,9 +130,26 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
-		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
-			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+		// Collecting the audit rows, if enabled, to insert them grouped by table
+		final AuditInsertBatch auditInsertBatch = auditProcessManager == null
+				? null
+				: auditProcessManager.beginAuditInsertBatch( session );
+		try {
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( session, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+
+			if ( auditInsertBatch != null ) {
+				// Making sure the revision data is inserted before the audit rows referencing it.
+				session.flush();
+				auditInsertBatch.write( (SessionImplementor) session );
+			}
+		}
+		finally {
+			if ( auditInsertBatch != null ) {
+				auditProcessManager.endAuditInsertBatch( session );
+			}
 		}
 	}
 
@@ -9,6 +9,7 @@ package org.hibernate.envers.internal.synchronization;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
@@ -22,12 +23,20 @@ import org.hibernate.event.spi.EventSource;
  */
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
+	private final Map<Session, AuditInsertBatch> auditInsertBatches;
+	private final boolean batchAuditInserts;
 	private final RevisionInfoGenerator revisionInfoGenerator;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, false );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, boolean batchAuditInserts) {
 		auditProcesses = new ConcurrentHashMap<>();
+		auditInsertBatches = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.batchAuditInserts = batchAuditInserts;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +45,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, this );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
@@ -61,4 +70,30 @@ public class AuditProcessManager {
 
 		return auditProcess;
 	}
+
+	/**
+	 * Starts collecting the audit rows saved in the given session, if
+	 * {@linkplain org.hibernate.envers.configuration.EnversSettings#BATCH_AUDIT_INSERTS enabled}.
+	 *
+	 * @return the batch collecting the audit rows, or {@code null}
+	 */
+	AuditInsertBatch beginAuditInsertBatch(Session session) {
+		if ( !batchAuditInserts ) {
+			return null;
+		}
+		final AuditInsertBatch batch = new AuditInsertBatch();
+		auditInsertBatches.put( session, batch );
+		return batch;
+	}
+
+	void endAuditInsertBatch(Session session) {
+		auditInsertBatches.remove( session );
+	}
+
+	/**
+	 * @return the batch collecting the audit rows saved in the given session, or {@code null}
+	 */
+	public AuditInsertBatch getAuditInsertBatch(Session session) {
+		return auditInsertBatches.get( session );
+	}
 }
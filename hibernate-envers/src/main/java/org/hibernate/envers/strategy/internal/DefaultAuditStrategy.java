@@ -11,6 +11,7 @@ import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.synchronization.AuditInsertBatch;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -43,8 +44,9 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Object id,
 			Object data,
 			Object revision) {
-		session.save( configuration.getAuditEntityName( entityName ), data );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		if ( !AuditInsertBatch.save( session, configuration, configuration.getAuditEntityName( entityName ), data ) ) {
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
 	}
 
 	@Override
@@ -55,8 +57,15 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Configuration configuration,
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision) {
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		final boolean batched = AuditInsertBatch.save(
+				session,
+				configuration,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData()
+		);
+		if ( !batched ) {
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		}
 	}
 
 	/**
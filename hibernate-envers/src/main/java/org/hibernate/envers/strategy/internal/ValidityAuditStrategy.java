@@ -11,15 +11,24 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -35,6 +44,7 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditInsertBatch;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -42,6 +52,7 @@ import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
@@ -84,6 +95,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	/**
+	 * The end revision updates queued in each session, until its transaction completes
+	 */
+	private final Map<EventSource, EndRevisionUpdates> endRevisionUpdates = new ConcurrentHashMap<>();
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -159,7 +175,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
-		session.save( auditedEntityName, data );
+		final boolean batched = AuditInsertBatch.save( session, configuration, auditedEntityName, data );
 
 		// Update the end date of the previous row.
 		//
@@ -169,50 +185,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// Queue the UPDATE statement in the transaction completion process, which guarantees
+			// its execution after the INSERT, and batches it with the other updates of the transaction.
+			getEndRevisionUpdates( (EventSource) session ).add(
+					new EndRevisionUpdate( entityName, auditedEntityName, configuration, id, revision, revisionType )
+			);
+		}
+		if ( !batched ) {
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -455,6 +438,22 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return false;
 	}
 
+	private EndRevisionUpdates getEndRevisionUpdates(EventSource session) {
+		EndRevisionUpdates updates = endRevisionUpdates.get( session );
+		if ( updates == null ) {
+			// No worries about registering a session twice - a session is single thread
+			final EndRevisionUpdates newUpdates = new EndRevisionUpdates( session );
+			endRevisionUpdates.put( session, newUpdates );
+			session.getActionQueue().registerProcess( newUpdates );
+			session.getActionQueue().registerProcess(
+					(AfterTransactionCompletionProcess) (success, sessionImplementor) ->
+							endRevisionUpdates.remove( session, newUpdates )
+			);
+			updates = newUpdates;
+		}
+		return updates;
+	}
+
 	/**
 	 * Executes the {@link UpdateContext} within the scope of the specified session.
 	 *
@@ -485,6 +484,45 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	/**
+	 * Adds the {@link UpdateContext}s, which share the same SQL, to the JDBC batch of the
+	 * specified session, which executes them in batches of the configured size.  The number
+	 * of rows modified by each update is checked by the given update of the context, in order.
+	 *
+	 * @param session the session
+	 * @param sql the SQL of the update contexts
+	 * @param contexts the update contexts to be executed
+	 * @param updates the end revision update of each context
+	 */
+	private void addToBatch(
+			SessionImplementor session,
+			String sql,
+			List<UpdateContext> contexts,
+			List<EndRevisionUpdate> updates) {
+		final BatchKey batchKey = new BasicBatchKey(
+				ValidityAuditStrategy.class.getName() + "#" + sql,
+				new EndRevisionUpdateExpectation( updates )
+		);
+		final Batch batch = session.getJdbcCoordinator().getBatch( batchKey );
+		for ( UpdateContext context : contexts ) {
+			final PreparedStatement statement = batch.getBatchStatement( sql, false );
+			try {
+				int index = 1;
+				for ( QueryParameterBinding binding : context.getBindings() ) {
+					index += binding.bind( index, statement, session );
+				}
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"Could not bind the end revision update",
+						sql
+				);
+			}
+			batch.addToBatch();
+		}
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
@@ -654,6 +692,155 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getTableName();
 	}
 
+	/**
+	 * The update of the end revision of the previous audit row of an entity.
+	 */
+	private static class EndRevisionUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		private final RevisionType revisionType;
+
+		private EndRevisionUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				RevisionType revisionType) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.revisionType = revisionType;
+		}
+
+		/**
+		 * Checks the number of rows modified by one of the update statements.
+		 */
+		private void checkRowCount(int rows) {
+			if ( rows != 1 && rows != Statement.SUCCESS_NO_INFO ) {
+				if ( !configuration.isAllowIdentifierReuse() || revisionType != RevisionType.ADD ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+									auditedEntityName,
+									id,
+									rows
+							)
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The transaction completion process executing the {@link EndRevisionUpdate}s of a session,
+	 * grouped by update statement, i.e. by audit table, as JDBC batches of the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE configured size}.
+	 */
+	private class EndRevisionUpdates implements BeforeTransactionCompletionProcess {
+		private final EventSource session;
+		private final List<EndRevisionUpdate> updates = new ArrayList<>();
+
+		private EndRevisionUpdates(EventSource session) {
+			this.session = session;
+		}
+
+		private void add(EndRevisionUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor sessionImplementor) {
+			// updates queued from now on are executed by another process
+			endRevisionUpdates.remove( session, this );
+
+			// Construct the update contexts, grouped by SQL
+			final Map<String, List<UpdateContext>> contextsBySql = new LinkedHashMap<>();
+			final Map<UpdateContext, EndRevisionUpdate> updatesByContext = new IdentityHashMap<>();
+			for ( EndRevisionUpdate update : updates ) {
+				final List<UpdateContext> contexts = getUpdateContexts(
+						update.entityName,
+						update.auditedEntityName,
+						sessionImplementor,
+						update.configuration,
+						update.id,
+						update.revision
+				);
+
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									update.auditedEntityName,
+									update.id
+							)
+					);
+				}
+
+				for ( UpdateContext context : contexts ) {
+					contextsBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() ).add( context );
+					updatesByContext.put( context, update );
+				}
+			}
+
+			final int batchSize = sessionImplementor.getConfiguredJdbcBatchSize();
+			for ( Map.Entry<String, List<UpdateContext>> entry : contextsBySql.entrySet() ) {
+				final List<UpdateContext> contexts = entry.getValue();
+				if ( batchSize <= 1 ) {
+					for ( UpdateContext context : contexts ) {
+						updatesByContext.get( context ).checkRowCount( executeUpdate( sessionImplementor, context ) );
+					}
+				}
+				else {
+					final List<EndRevisionUpdate> contextUpdates = new ArrayList<>( contexts.size() );
+					for ( UpdateContext context : contexts ) {
+						contextUpdates.add( updatesByContext.get( context ) );
+					}
+					addToBatch( sessionImplementor, entry.getKey(), contexts, contextUpdates );
+				}
+			}
+			if ( batchSize > 1 ) {
+				sessionImplementor.getJdbcCoordinator().executeBatch();
+			}
+		}
+	}
+
+	/**
+	 * The {@link Expectation} of a batch of end revision updates, checking the number of rows
+	 * modified by each statement of the batch with its {@link EndRevisionUpdate}, in order.
+	 */
+	private static class EndRevisionUpdateExpectation implements Expectation {
+		private final List<EndRevisionUpdate> updates;
+		private int verifiedCount;
+
+		private EndRevisionUpdateExpectation(List<EndRevisionUpdate> updates) {
+			this.updates = updates;
+		}
+
+		@Override
+		public void verifyOutcome(int rowCount, PreparedStatement statement, int batchPosition, String statementSQL) {
+			// the batch is executed in chunks, each restarting the batch position
+			updates.get( verifiedCount++ ).checkRowCount( rowCount );
+		}
+
+		@Override
+		public int prepare(PreparedStatement statement) {
+			return 0;
+		}
+
+		@Override
+		public boolean canBeBatched() {
+			return true;
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
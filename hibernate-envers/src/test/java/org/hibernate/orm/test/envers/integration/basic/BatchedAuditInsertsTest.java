@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the audit rows of a transaction inserted in batches, also from the temporary session
+ * used when the session is flushed manually.
+ */
+public class BatchedAuditInsertsTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 12;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.BATCH_AUDIT_INSERTS, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "x" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		final SetRefEdEntity ed = new SetRefEdEntity( 1, "ed" );
+		em.persist( ed );
+		em.persist( new SetRefIngEntity( 2, "ing1", ed ) );
+		em.persist( new SetRefIngEntity( 3, "ing2", ed ) );
+		statementInspector.clear();
+		em.getTransaction().commit();
+		em.clear();
+		// the 12 audit rows are added to a single JDBC batch, executed in chunks of 5
+		assertEquals( 1, countAuditInserts() );
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			final StrTestEntity entity = em.find( StrTestEntity.class, id );
+			entity.setStr( entity.getStr() + "y" );
+		}
+		statementInspector.clear();
+		em.getTransaction().commit();
+		em.clear();
+		assertEquals( 1, countAuditInserts() );
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i += 2 ) {
+			em.remove( em.find( StrTestEntity.class, ids.get( i ) ) );
+		}
+		statementInspector.clear();
+		em.getTransaction().commit();
+		em.clear();
+		assertEquals( 1, countAuditInserts() );
+
+		// Revision 4 - the audit rows are inserted from a temporary session
+		em.unwrap( Session.class ).setHibernateFlushMode( FlushMode.MANUAL );
+		em.getTransaction().begin();
+		for ( int i = 1; i < ENTITY_COUNT; i += 2 ) {
+			final StrTestEntity entity = em.find( StrTestEntity.class, ids.get( i ) );
+			entity.setStr( entity.getStr() + "z" );
+		}
+		em.flush();
+		statementInspector.clear();
+		em.getTransaction().commit();
+		em.close();
+		assertEquals( 1, countAuditInserts() );
+	}
+
+	private int countAuditInserts() {
+		int count = 0;
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			if ( sql.toLowerCase( Locale.ROOT ).startsWith( "insert into strtestentity_aud" ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			assertEquals(
+					i % 2 == 0 ? Arrays.asList( 1, 2, 3 ) : Arrays.asList( 1, 2, 4 ),
+					getAuditReader().getRevisions( StrTestEntity.class, ids.get( i ) )
+			);
+		}
+		assertEquals( Arrays.asList( 1 ), getAuditReader().getRevisions( SetRefEdEntity.class, 1 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final Integer id = ids.get( i );
+			assertEquals( "x" + i, getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+			assertEquals( "x" + i + "y", getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+			if ( i % 2 == 0 ) {
+				assertNull( getAuditReader().find( StrTestEntity.class, id, 3 ) );
+			}
+			else {
+				assertEquals( "x" + i + "yz", getAuditReader().find( StrTestEntity.class, id, 4 ).getStr() );
+			}
+		}
+	}
+
+	@Test
+	public void testEndRevisions() {
+		if ( ValidityAuditStrategy.class.getName().equals( getAuditStrategy() ) ) {
+			assertEquals( ENTITY_COUNT, countAuditRows( "REV = 1 and REVEND = 2" ) );
+			assertEquals( ENTITY_COUNT / 2, countAuditRows( "REV = 2 and REVEND = 3" ) );
+			assertEquals( ENTITY_COUNT / 2, countAuditRows( "REV = 2 and REVEND = 4" ) );
+			assertEquals( ENTITY_COUNT / 2, countAuditRows( "REV = 3 and REVEND is null" ) );
+			assertEquals( ENTITY_COUNT / 2, countAuditRows( "REV = 4 and REVEND is null" ) );
+		}
+	}
+
+	@Test
+	public void testCollectionHistory() {
+		assertEquals( 2, getAuditReader().find( SetRefEdEntity.class, 1, 1 ).getReffering().size() );
+	}
+
+	private int countAuditRows(String restriction) {
+		return ( (Number) createIsolatedEntityManager().createNativeQuery(
+				"select count(*) from StrTestEntity_AUD where " + restriction
+		).getSingleResult() ).intValue();
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the end revision updates of the validity audit strategy, executed as JDBC batches.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 12;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { IntNoAutoIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			em.persist( new IntNoAutoIdTestEntity( i, i ) );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			em.find( IntNoAutoIdTestEntity.class, i ).setNumVal( i + 100 );
+		}
+		statementInspector.clear();
+		em.getTransaction().commit();
+		em.clear();
+		// the 12 end revision updates are added to a single JDBC batch, executed in chunks of 5
+		assertEquals( 1, countEndRevisionUpdates() );
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i += 2 ) {
+			em.remove( em.find( IntNoAutoIdTestEntity.class, i ) );
+		}
+		statementInspector.clear();
+		em.getTransaction().commit();
+		em.close();
+		assertEquals( 1, countEndRevisionUpdates() );
+	}
+
+	private int countEndRevisionUpdates() {
+		int count = 0;
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			if ( sql.toLowerCase( Locale.ROOT ).startsWith( "update intnoautoidtestentity_aud" ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 0 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 1 ) );
+	}
+
+	@Test
+	public void testEndRevisions() {
+		assertEquals( ENTITY_COUNT, countAuditRows( "REV = 1 and REVEND = 2" ) );
+		assertEquals( ENTITY_COUNT / 2, countAuditRows( "REV = 2 and REVEND = 3" ) );
+		assertEquals( ENTITY_COUNT / 2, countAuditRows( "REV = 2 and REVEND is null" ) );
+		assertEquals( ENTITY_COUNT / 2, countAuditRows( "REV = 3 and REVEND is null" ) );
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			assertEquals(
+					Integer.valueOf( i ),
+					getAuditReader().find( IntNoAutoIdTestEntity.class, i, 1 ).getNumVal()
+			);
+			assertEquals(
+					Integer.valueOf( i + 100 ),
+					getAuditReader().find( IntNoAutoIdTestEntity.class, i, 2 ).getNumVal()
+			);
+			if ( i % 2 == 0 ) {
+				assertNull( getAuditReader().find( IntNoAutoIdTestEntity.class, i, 3 ) );
+			}
+		}
+	}
+
+	private int countAuditRows(String restriction) {
+		return ( (Number) createIsolatedEntityManager().createNativeQuery(
+				"select count(*) from IntNoAutoIdTestEntity_AUD where " + restriction
+		).getSingleResult() ).intValue();
+	}
+}
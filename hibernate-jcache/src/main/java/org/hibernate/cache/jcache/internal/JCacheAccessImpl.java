@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -43,6 +47,16 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( keys instanceof Set ? (Set<?>) keys : new LinkedHashSet<>( keys ) );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( items );
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
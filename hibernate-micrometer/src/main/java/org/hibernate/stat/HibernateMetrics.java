@@ -212,6 +212,18 @@ public class HibernateMetrics implements MeterBinder {
 				"The number of entity updates",
 				Statistics::getEntityUpdateCount
 		);
+		if ( statistics.isHistogramsEnabled() ) {
+			for ( String entityName : statistics.getEntityNames() ) {
+				LatencyHistogramMeters.register(
+						registry,
+						"hibernate.entities.load.time",
+						"The time taken to load an entity by id from the database",
+						statistics,
+						stats -> stats.getEntityStatistics( entityName ).getLoadHistogram(),
+						Tags.concat( tags, "entity", entityName )
+				);
+			}
+		}
 
 		// Collections
 		counter(registry,
@@ -239,6 +251,18 @@ public class HibernateMetrics implements MeterBinder {
 				"The number of collection updates",
 				Statistics::getCollectionUpdateCount
 		);
+		if ( statistics.isHistogramsEnabled() ) {
+			for ( String role : statistics.getCollectionRoleNames() ) {
+				LatencyHistogramMeters.register(
+						registry,
+						"hibernate.collections.fetch.time",
+						"The time taken to fetch a collection from the database",
+						statistics,
+						stats -> stats.getCollectionStatistics( role ).getFetchHistogram(),
+						Tags.concat( tags, "role", role )
+				);
+			}
+		}
 
 		// Natural Id cache
 		counter(registry,
@@ -335,6 +359,22 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.filtered",
+				"The number of query plans successfully retrieved from cache for queries with filters enabled",
+				Statistics::getFilteredQueryPlanCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.cache.query.plan.filtered",
+				"The number of query plans lookups not found in cache for queries with filters enabled",
+				Statistics::getFilteredQueryPlanCacheMissCount, "result", "miss"
+		);
+		counter(registry, "hibernate.cache.query.plan.entity_graph",
+				"The number of query plans successfully retrieved from cache for queries with an entity graph applied",
+				Statistics::getEntityGraphQueryPlanCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.cache.query.plan.entity_graph",
+				"The number of query plans lookups not found in cache for queries with an entity graph applied",
+				Statistics::getEntityGraphQueryPlanCacheMissCount, "result", "miss"
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -25,6 +25,9 @@ import java.util.concurrent.TimeUnit;
  * same statistics as would be exposed when calling {@link Statistics#getQueryStatistics(String)}.
  * Note that only SELECT queries are recorded in {@link QueryStatistics}.
  * <p>
+ * When {@linkplain Statistics#isHistogramsEnabled() histograms are enabled}, the
+ * distribution of the execution times is exposed as well, including percentiles.
+ * <p>
  * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
  * application when considering using this {@link MeterBinder}.
  */
@@ -182,6 +185,17 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				if ( queryStatistics.getExecutionHistogram() != null ) {
+					LatencyHistogramMeters.register(
+							meterRegistry,
+							"hibernate.query.execution.time",
+							"Query execution time distribution",
+							queryStatistics,
+							QueryStatistics::getExecutionHistogram,
+							Tags.concat( tags, "query", query )
+					);
+				}
 			}
 		}
 	}
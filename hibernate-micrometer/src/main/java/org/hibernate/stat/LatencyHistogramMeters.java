@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Exposes a {@link LatencyHistogram} as Micrometer meters: a {@link FunctionTimer}
+ * named {@code <name>} and, following the naming Micrometer uses for client-side
+ * percentiles, one {@link TimeGauge} named {@code <name>.percentile} per percentile,
+ * tagged with {@code phi}.
+ */
+@NonNullApi
+@NonNullFields
+final class LatencyHistogramMeters {
+
+	/**
+	 * The published percentiles, as used for the {@code phi} tag
+	 */
+	static final double[] PERCENTILES = { 0.5, 0.75, 0.95, 0.99, 0.999 };
+
+	private LatencyHistogramMeters() {
+	}
+
+	/**
+	 * @param state The object the histogram is obtained from whenever the meters are read
+	 * @param histogram Obtains the histogram from the state; may return {@code null}
+	 */
+	static <T> void register(
+			MeterRegistry registry,
+			String name,
+			String description,
+			T state,
+			Function<T, LatencyHistogram> histogram,
+			Iterable<Tag> tags) {
+		FunctionTimer.builder(
+				name,
+				state,
+				s -> count( histogram.apply( s ) ),
+				s -> totalTime( histogram.apply( s ) ),
+				TimeUnit.NANOSECONDS
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					name + ".percentile",
+					state,
+					TimeUnit.NANOSECONDS,
+					s -> valueAtPercentile( histogram.apply( s ), percentile )
+			)
+					.tags( tags )
+					.tags( "phi", Double.toString( percentile ) )
+					.description( description )
+					.register( registry );
+		}
+	}
+
+	private static long count(LatencyHistogram histogram) {
+		return histogram == null ? 0 : histogram.getCount();
+	}
+
+	private static double totalTime(LatencyHistogram histogram) {
+		return histogram == null ? 0 : histogram.getTotalTime();
+	}
+
+	private static double valueAtPercentile(LatencyHistogram histogram, double percentile) {
+		return histogram == null ? 0 : histogram.getValueAtPercentile( percentile * 100 );
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.HibernateQueryMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Micrometer meters for the latency histograms
+ */
+public class MicrometerHistogramStatisticsTest extends BaseCoreFunctionalTestCase {
+	private static final String QUERY = "select a from Account a";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.STATISTICS_HISTOGRAMS_ENABLED, "true" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		new HibernateMetrics( sessionFactory(), "something", Tags.empty() ).bindTo( registry );
+		new HibernateQueryMetrics( sessionFactory(), "something", Tags.empty() ).bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testHistogramMeters() {
+		final AccountId id = new AccountId( 1 );
+		inTransaction( session -> session.save( new Account( id, "testAcct" ) ) );
+
+		inTransaction( session -> assertEquals( 1, session.createQuery( QUERY, Account.class ).list().size() ) );
+		// the query meters are registered on the next load
+		inTransaction( session -> session.get( Account.class, id ) );
+
+		final String entityName = Account.class.getName();
+		assertEquals(
+				1,
+				registry.get( "hibernate.entities.load.time" ).tags( "entity", entityName ).functionTimer().count(),
+				0
+		);
+		assertTrue(
+				registry.get( "hibernate.entities.load.time.percentile" )
+						.tags( "entity", entityName, "phi", "0.99" )
+						.timeGauge()
+						.value( TimeUnit.NANOSECONDS ) > 0
+		);
+
+		assertEquals(
+				1,
+				registry.get( "hibernate.query.execution.time" ).tags( "query", QUERY ).functionTimer().count(),
+				0
+		);
+		for ( String phi : new String[] { "0.5", "0.75", "0.95", "0.99", "0.999" } ) {
+			assertTrue(
+					registry.get( "hibernate.query.execution.time.percentile" )
+							.tags( "query", QUERY, "phi", phi )
+							.timeGauge()
+							.value( TimeUnit.NANOSECONDS ) > 0
+			);
+		}
+
+		inTransaction( session -> session.delete( session.get( Account.class, id ) ) );
+	}
+}
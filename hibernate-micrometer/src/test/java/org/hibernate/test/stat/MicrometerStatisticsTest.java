@@ -110,6 +110,10 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.filtered").tags("result", "hit").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.filtered").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.entity_graph").tags("result", "hit").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.entity_graph").tags("result", "miss").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();
@@ -18,7 +18,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  * @author Steve Ebersole
  */
 public class MapStorageAccessImpl implements DomainDataStorageAccess {
-	private ConcurrentMap data;
+	private volatile ConcurrentMap data;
 
 	@Override
 	public boolean contains(Object key) {
@@ -40,10 +40,18 @@ public class MapStorageAccessImpl implements DomainDataStorageAccess {
 	}
 
 	protected ConcurrentMap getOrMakeDataMap() {
-		if ( data == null ) {
-			data = new ConcurrentHashMap();
+		ConcurrentMap map = data;
+		if ( map == null ) {
+			// puts for different keys are not serialized by the read-write access strategy
+			synchronized ( this ) {
+				map = data;
+				if ( map == null ) {
+					map = new ConcurrentHashMap();
+					data = map;
+				}
+			}
 		}
-		return data;
+		return map;
 	}
 
 	@Override
@@ -321,6 +321,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsArrayParameters implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsArrayParameters();
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {